@@ -53,10 +53,22 @@ allprojects {
     }
 }
 
+// Binary form of blocks.json, see BlockRegistrySnapshot
+val blockSnapshotGenerator: Configuration by configurations.creating
+val generateBlockSnapshot by tasks.registering(JavaExec::class) {
+    val outputFolder = layout.buildDirectory.dir("generated/resources/blockSnapshot")
+    classpath = blockSnapshotGenerator
+    mainClass.set("net.minestom.codegen.registry.BlockSnapshotGenerator")
+    argumentProviders.add(CommandLineArgumentProvider { listOf(outputFolder.get().asFile.absolutePath) })
+    inputs.files(blockSnapshotGenerator)
+    outputs.dir(outputFolder)
+}
+
 sourceSets {
     main {
         java.srcDir(file("src/main/java"))
         java.srcDir(file("src/autogenerated/java"))
+        resources.srcDir(generateBlockSnapshot)
     }
 }
 
@@ -69,6 +81,7 @@ dependencies {
     api(libs.bundles.kotlin)
     api(libs.bundles.hephaistos)
     implementation(libs.minestomData)
+    blockSnapshotGenerator(project(":code-generators"))
 
     // Performance/data structures
     implementation(libs.caffeine)
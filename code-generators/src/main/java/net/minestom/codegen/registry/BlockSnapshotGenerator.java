@@ -0,0 +1,206 @@
+package net.minestom.codegen.registry;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import net.minestom.codegen.MinestomCodeGenerator;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.zip.CRC32;
+
+/**
+ * Generates {@code blocks.bin}, the binary form of {@code blocks.json} read by {@code BlockRegistrySnapshot}.
+ * <p>
+ * The format is documented in {@code BlockRegistrySnapshot} and both must be kept in sync.
+ * Run as part of the build through the {@code generateBlockSnapshot} task, see {@link #main(String[])}.
+ */
+public class BlockSnapshotGenerator extends MinestomCodeGenerator {
+    private static final Logger LOGGER = LoggerFactory.getLogger(BlockSnapshotGenerator.class);
+    private static final int MAGIC = 0x4D53424C; // MSBL
+    private static final int VERSION = 2;
+
+    private final InputStream blocksFile;
+    private final File outputFolder;
+
+    private final Map<String, Integer> stringIndexes = new HashMap<>();
+    private final List<String> strings = new ArrayList<>();
+
+    public BlockSnapshotGenerator(@Nullable InputStream blocksFile, @NotNull File outputFolder) {
+        this.blocksFile = blocksFile;
+        this.outputFolder = outputFolder;
+    }
+
+    public static void main(String[] args) {
+        if (args.length != 1) {
+            LOGGER.error("Usage: <resources target folder>");
+            return;
+        }
+        new BlockSnapshotGenerator(BlockSnapshotGenerator.class.getClassLoader().getResourceAsStream("blocks.json"),
+                new File(args[0])).generate();
+    }
+
+    @Override
+    public void generate() {
+        if (blocksFile == null) {
+            LOGGER.error("Failed to find blocks.json.");
+            LOGGER.error("Stopped generation of the block snapshot.");
+            return;
+        }
+        if (!outputFolder.exists() && !outputFolder.mkdirs()) {
+            LOGGER.error("Output folder for the block snapshot does not exist and could not be created.");
+            return;
+        }
+        try {
+            final byte[] source;
+            try (InputStream stream = blocksFile) {
+                source = stream.readAllBytes();
+            }
+            // Lets the server reject the snapshot when built against a different blocks.json,
+            // compared at runtime with the CRC32 stored in the jar entry
+            CRC32 sourceHash = new CRC32();
+            sourceHash.update(source);
+            JsonObject blocks = GSON.fromJson(new String(source, StandardCharsets.UTF_8), JsonObject.class);
+
+            // Blocks are written first to collect the string table
+            ByteArrayOutputStream blocksBytes = new ByteArrayOutputStream();
+            DataOutputStream blocksOut = new DataOutputStream(blocksBytes);
+            blocksOut.writeInt(blocks.size());
+            for (var entry : blocks.entrySet()) {
+                writeBlock(blocksOut, entry.getKey(), entry.getValue().getAsJsonObject());
+            }
+
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    new FileOutputStream(new File(outputFolder, "blocks.bin"))))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeLong(sourceHash.getValue());
+                out.writeInt(strings.size());
+                for (String string : strings) {
+                    final byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+                    out.writeShort(bytes.length);
+                    out.write(bytes);
+                }
+                blocksBytes.writeTo(out);
+            }
+        } catch (IOException e) {
+            LOGGER.error("An error occured while writing the block snapshot.", e);
+        }
+    }
+
+    private void writeBlock(DataOutputStream out, String namespace, JsonObject block) throws IOException {
+        out.writeInt(string(namespace));
+        out.writeInt(block.get("id").getAsInt());
+        out.writeInt(block.get("defaultStateId").getAsInt());
+        // Properties
+        List<String> propertyKeys = new ArrayList<>();
+        List<List<String>> propertyValues = new ArrayList<>();
+        final JsonObject properties = block.getAsJsonObject("properties");
+        if (properties != null) {
+            for (var entry : runtimeOrder(properties)) {
+                propertyKeys.add(entry.getKey());
+                List<String> values = new ArrayList<>();
+                for (JsonElement value : entry.getValue().getAsJsonArray()) values.add(value.getAsString());
+                propertyValues.add(values);
+            }
+        }
+        out.writeByte(propertyKeys.size());
+        for (int i = 0; i < propertyKeys.size(); i++) {
+            out.writeInt(string(propertyKeys.get(i)));
+            final List<String> values = propertyValues.get(i);
+            out.writeByte(values.size());
+            for (String value : values) out.writeInt(string(value));
+        }
+        // States
+        final JsonObject states = block.getAsJsonObject("states");
+        out.writeInt(states.size());
+        for (var entry : runtimeOrder(states)) {
+            final Map<String, String> query = parseQuery(entry.getKey());
+            for (int i = 0; i < propertyKeys.size(); i++) {
+                out.writeByte(propertyValues.get(i).indexOf(query.get(propertyKeys.get(i))));
+            }
+            writeState(out, block, entry.getValue().getAsJsonObject());
+        }
+    }
+
+    private void writeState(DataOutputStream out, JsonObject block, JsonObject state) throws IOException {
+        out.writeInt(get(block, state, "stateId").getAsInt());
+        out.writeInt(string(get(block, state, "translationKey").getAsString()));
+        out.writeDouble(get(block, state, "hardness").getAsDouble());
+        out.writeDouble(get(block, state, "explosionResistance").getAsDouble());
+        out.writeDouble(get(block, state, "friction").getAsDouble());
+        out.writeDouble(getDouble(block, state, "speedFactor", 1));
+        out.writeDouble(getDouble(block, state, "jumpFactor", 1));
+        int flags = 0;
+        if (getBoolean(block, state, "air", false)) flags |= 1;
+        if (get(block, state, "solid").getAsBoolean()) flags |= 1 << 1;
+        if (getBoolean(block, state, "liquid", false)) flags |= 1 << 2;
+        if (getBoolean(block, state, "occludes", true)) flags |= 1 << 3;
+        if (getBoolean(block, state, "replaceable", false)) flags |= 1 << 4;
+        out.writeByte(flags);
+        final JsonElement lightEmission = get(block, state, "lightEmission");
+        out.writeInt(lightEmission != null ? lightEmission.getAsInt() : 0);
+        final JsonElement blockEntity = get(block, state, "blockEntity");
+        if (blockEntity != null) {
+            out.writeInt(string(blockEntity.getAsJsonObject().get("namespace").getAsString()));
+            out.writeInt(blockEntity.getAsJsonObject().get("id").getAsInt());
+        } else {
+            out.writeInt(-1);
+            out.writeInt(0);
+        }
+        final JsonElement correspondingItem = get(block, state, "correspondingItem");
+        out.writeInt(correspondingItem != null ? string(correspondingItem.getAsString()) : -1);
+        out.writeInt(string(get(block, state, "collisionShape").getAsString()));
+        out.writeInt(string(get(block, state, "occlusionShape").getAsString()));
+    }
+
+    /**
+     * Orders the members like the {@code HashMap} used by {@code Registry#load}, which defines
+     * the property and state order of the JSON registry.
+     */
+    private static Set<Map.Entry<String, JsonElement>> runtimeOrder(JsonObject object) {
+        Map<String, JsonElement> map = new HashMap<>();
+        for (var entry : object.entrySet()) map.put(entry.getKey(), entry.getValue());
+        return map.entrySet();
+    }
+
+    private int string(String value) {
+        return stringIndexes.computeIfAbsent(value, s -> {
+            strings.add(s);
+            return strings.size() - 1;
+        });
+    }
+
+    /**
+     * Retrieves a state value, falling back to the block one like {@code MergedMap} at runtime.
+     */
+    private static @Nullable JsonElement get(JsonObject block, JsonObject state, String name) {
+        final JsonElement element = state.get(name);
+        return element != null ? element : block.get(name);
+    }
+
+    private static double getDouble(JsonObject block, JsonObject state, String name, double defaultValue) {
+        final JsonElement element = get(block, state, name);
+        return element != null ? element.getAsDouble() : defaultValue;
+    }
+
+    private static boolean getBoolean(JsonObject block, JsonObject state, String name, boolean defaultValue) {
+        final JsonElement element = get(block, state, name);
+        return element != null ? element.getAsBoolean() : defaultValue;
+    }
+
+    private static Map<String, String> parseQuery(String query) {
+        if (query.length() <= 2) return Map.of();
+        Map<String, String> result = new HashMap<>();
+        for (String entry : query.substring(1, query.length() - 1).split(",")) {
+            final int equalIndex = entry.indexOf('=');
+            if (equalIndex == -1) continue;
+            result.put(entry.substring(0, equalIndex).trim(), entry.substring(equalIndex + 1).trim());
+        }
+        return result;
+    }
+}
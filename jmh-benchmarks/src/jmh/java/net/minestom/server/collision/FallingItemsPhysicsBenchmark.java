@@ -0,0 +1,86 @@
+package net.minestom.server.collision;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.ItemEntity;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.item.ItemStack;
+import net.minestom.server.item.Material;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Physics step of falling items spread over 5x5 chunks, close to the ground.
+ */
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class FallingItemsPhysicsBenchmark {
+
+    @Param({"10000"})
+    public int count;
+
+    @Param({"false", "true"})
+    public boolean blockCache;
+
+    private Instance instance;
+    private List<Entity> entities;
+    private Vec[] velocities;
+    private PhysicsResult[] results;
+
+    @Setup
+    public void setup() {
+        // Read when the collision classes are loaded
+        System.setProperty("minestom.physics.disable-block-cache", String.valueOf(!blockCache));
+        MinecraftServer.init();
+        this.instance = MinecraftServer.getInstanceManager().createInstanceContainer();
+        instance.setGenerator(unit -> unit.modifier().fillHeight(0, 40, Block.STONE));
+        for (int x = -2; x <= 2; x++) {
+            for (int z = -2; z <= 2; z++) {
+                instance.loadChunk(x, z).join();
+            }
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        this.entities = new ArrayList<>(count);
+        this.velocities = new Vec[count];
+        this.results = new PhysicsResult[count];
+        for (int i = 0; i < count; i++) {
+            final Entity entity = new ItemEntity(ItemStack.of(Material.STONE));
+            entity.setInstance(instance, new Pos(random.nextDouble(-32, 32), random.nextDouble(40, 44), random.nextDouble(-32, 32))).join();
+            entities.add(entity);
+            velocities[i] = new Vec(random.nextDouble(-0.1, 0.1), -0.4, random.nextDouble(-0.1, 0.1));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        MinecraftServer.getInstanceManager().unregisterInstance(instance);
+    }
+
+    @Benchmark
+    public void single(Blackhole blackhole) {
+        for (int i = 0; i < count; i++) {
+            blackhole.consume(CollisionUtils.handlePhysics(entities.get(i), velocities[i], null));
+        }
+    }
+
+    @Benchmark
+    public void bulk(Blackhole blackhole) {
+        Arrays.fill(results, null);
+        CollisionUtils.handlePhysics(entities, velocities, results);
+        blackhole.consume(results);
+    }
+}
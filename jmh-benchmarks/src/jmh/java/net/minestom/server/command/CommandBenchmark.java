@@ -23,6 +23,7 @@ import static net.minestom.server.command.builder.arguments.ArgumentType.*;
 @Measurement(time = 6)
 public class CommandBenchmark {
     Function<String, Object> parser;
+    Function<String, Object> managerParser;
 
     @Setup
     public void setup() {
@@ -57,6 +58,20 @@ public class CommandBenchmark {
         ));
         final CommandParser commandParser = CommandParser.parser();
         this.parser = input -> commandParser.parse(graph, input);
+
+        // Large tree, parsed through the manager graph
+        final CommandManager manager = new CommandManager();
+        for (int i = 0; i < 400; i++) {
+            manager.register(new Command("command" + i, "alias" + i) {{
+                addSyntax((sender, context) -> {}, Literal("set"), Word("key"), Integer("value"));
+                addSyntax((sender, context) -> {}, Literal("get"), Word("key"));
+                addSubcommand(new Command("sub") {{
+                    addSyntax((sender, context) -> {}, Word("A").from("a", "b", "c"), Double("value"));
+                }});
+            }});
+        }
+        final CommandSender sender = manager.getConsoleSender();
+        this.managerParser = input -> manager.parseCommand(sender, input);
     }
 
     @Benchmark
@@ -79,6 +94,17 @@ public class CommandBenchmark {
         bh.consume(parser.apply("foo 01234567890123456789012345678901234567890123456789"));
     }
 
+    @Benchmark
+    public void largeTreeValidCommand(Blackhole bh) {
+        bh.consume(managerParser.apply("command200 set key 5"));
+        bh.consume(managerParser.apply("alias399 sub b 1.5"));
+    }
+
+    @Benchmark
+    public void largeTreeUnknownCommand(Blackhole bh) {
+        bh.consume(managerParser.apply("command400 set key 5"));
+    }
+
     @Benchmark
     public void numberParsing3Digit(Blackhole bh) {
         bh.consume(parser.apply("parse int 123"));
@@ -0,0 +1,121 @@
+package net.minestom.server.entity.pathfinding;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.collision.BoundingBox;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.block.Block;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Zombies computing their path to the closest of a few players, once per tick,
+ * on a flat world scattered with pillars and walls.
+ * <p>
+ * {@code flowField} computes one shared field per player instead of a path per zombie.
+ */
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class ZombieChaseBenchmark {
+    private static final int RADIUS = 48;
+
+    @Param({"1000"})
+    public int zombies;
+
+    @Param({"10"})
+    public int players;
+
+    private NavigationCache cache;
+    private BoundingBox boundingBox;
+    private Pos[] zombiePositions;
+    private Pos[] targets;
+
+    @Setup
+    public void setup() {
+        MinecraftServer.init();
+        Instance instance = MinecraftServer.getInstanceManager().createInstanceContainer();
+        instance.setGenerator(unit -> unit.modifier().fillHeight(0, 40, Block.STONE));
+        for (int x = -4; x < 4; x++) {
+            for (int z = -4; z < 4; z++) {
+                instance.loadChunk(x, z).join();
+            }
+        }
+        Random random = new Random(0);
+        // Obstacles
+        for (int i = 0; i < 400; i++) {
+            final int x = random.nextInt(-RADIUS, RADIUS), z = random.nextInt(-RADIUS, RADIUS);
+            final int length = random.nextInt(1, 8);
+            final boolean alongX = random.nextBoolean();
+            for (int j = 0; j < length; j++) {
+                final int height = random.nextInt(1, 4);
+                for (int y = 0; y < height; y++) {
+                    instance.setBlock(alongX ? x + j : x, 40 + y, alongX ? z : z + j, Block.STONE);
+                }
+            }
+        }
+        this.cache = instance.getNavigationCache();
+        this.boundingBox = new BoundingBox(0.6, 1.95, 0.6); // Zombie
+
+        Pos[] playerPositions = new Pos[players];
+        for (int i = 0; i < players; i++) playerPositions[i] = randomPosition(random);
+        this.zombiePositions = new Pos[zombies];
+        this.targets = new Pos[zombies];
+        for (int i = 0; i < zombies; i++) {
+            final Pos position = randomPosition(random);
+            Pos closest = playerPositions[0];
+            for (Pos player : playerPositions) {
+                if (player.distanceSquared(position) < closest.distanceSquared(position)) closest = player;
+            }
+            zombiePositions[i] = position;
+            targets[i] = closest;
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        MinecraftServer.getInstanceManager().unregisterInstance(cache.getInstance());
+    }
+
+    @Benchmark
+    public void sync(Blackhole blackhole) {
+        for (int i = 0; i < zombies; i++) {
+            blackhole.consume(AStarPathFinder.findPath(cache, zombiePositions[i], targets[i], boundingBox, true));
+        }
+    }
+
+    @Benchmark
+    public void async(Blackhole blackhole) {
+        @SuppressWarnings("unchecked")
+        CompletableFuture<List<Vec>>[] futures = new CompletableFuture[zombies];
+        for (int i = 0; i < zombies; i++) {
+            futures[i] = AStarPathFinder.findPathAsync(cache, zombiePositions[i], targets[i], boundingBox, true);
+        }
+        for (CompletableFuture<List<Vec>> future : futures) blackhole.consume(future.join());
+    }
+
+    @Benchmark
+    public void flowField(Blackhole blackhole) {
+        // One field per player, computed from scratch
+        final FlowFields fields = new FlowFields(cache.getInstance(), cache);
+        FlowField[] flowFields = new FlowField[zombies];
+        for (int i = 0; i < zombies; i++) flowFields[i] = fields.get(targets[i], boundingBox);
+        for (int i = 0; i < zombies; i++) {
+            flowFields[i].whenComputed().join();
+            blackhole.consume(flowFields[i].next(zombiePositions[i]));
+        }
+    }
+
+    private static Pos randomPosition(Random random) {
+        return new Pos(random.nextInt(-RADIUS, RADIUS) + 0.5, 43, random.nextInt(-RADIUS, RADIUS) + 0.5);
+    }
+}
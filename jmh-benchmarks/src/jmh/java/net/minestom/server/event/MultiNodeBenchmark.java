@@ -15,6 +15,9 @@ public class MultiNodeBenchmark {
     @Param({"0", "1", "3", "10"})
     public int children;
 
+    @Param({"false", "true"})
+    public boolean compiled;
+
     private EventNode<Event> node;
 
     record TestEvent() implements Event {
@@ -25,6 +28,7 @@ public class MultiNodeBenchmark {
 
     @Setup
     public void setup() {
+        System.setProperty("minestom.event.compiled-dispatch", String.valueOf(compiled));
         node = EventNode.all("node");
         for (int i = 0; i < children; i++) {
             var child = EventNode.all("child-" + i);
@@ -15,6 +15,13 @@ public class SingleNodeBenchmark {
     @Param({"0", "1", "2", "3", "5", "10"})
     public int listenerCount;
 
+    /**
+     * Each parameter combination runs in its own fork,
+     * the dispatch mode can therefore be set before the first node is created.
+     */
+    @Param({"false", "true"})
+    public boolean compiled;
+
     private EventNode<Event> node;
     private ListenerHandle<TestEvent> handle;
 
@@ -26,6 +33,7 @@ public class SingleNodeBenchmark {
 
     @Setup
     public void setup() {
+        System.setProperty("minestom.event.compiled-dispatch", String.valueOf(compiled));
         node = EventNode.all("node");
         for (int i = 0; i < listenerCount; i++) {
             node.addListener(TestEvent.class, e -> {
@@ -0,0 +1,54 @@
+package net.minestom.server.instance.palette;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class PaletteBulkBenchmark {
+
+    // Number of distinct values, 256 requires 8 bits per entry
+    @Param({"16", "256"})
+    public int distinct;
+
+    private Palette palette;
+    private int[] values;
+    private int[] buffer;
+
+    @Setup
+    public void setup() {
+        palette = Palette.blocks();
+        values = new int[palette.maxSize()];
+        for (int i = 0; i < values.length; i++) values[i] = i % distinct;
+        palette.setAll(values);
+        buffer = new int[palette.maxSize()];
+    }
+
+    @Benchmark
+    public void readAllConsumer(Blackhole blackHole) {
+        palette.getAll((x, y, z, value) -> blackHole.consume(value));
+    }
+
+    @Benchmark
+    public int[] readAllArray() {
+        palette.getAll(buffer);
+        return buffer;
+    }
+
+    @Benchmark
+    public void writeAllSupplier() {
+        final int[] values = this.values;
+        palette.setAll((x, y, z) -> values[y << 8 | z << 4 | x]);
+    }
+
+    @Benchmark
+    public void writeAllArray() {
+        palette.setAll(values);
+    }
+}
@@ -15,6 +15,10 @@ public class PaletteReplaceBenchmark {
     //@Param({"4", "16"})
     //public int dimension;
 
+    // Number of distinct values, above 256 the palette is stored directly
+    @Param({"46", "4096"})
+    public int distinct;
+
     private Palette palette;
 
     @Setup
@@ -22,7 +26,7 @@ public class PaletteReplaceBenchmark {
         // FIXME: StackOverflowError
         // palette = Palette.newPalette(dimension, 15, 4, 1);
         palette = Palette.blocks();
-        palette.setAll((x, y, z) -> x + y + z + 1);
+        palette.setAll((x, y, z) -> distinct > 256 ? (y << 8 | z << 4 | x) + 1 : x + y + z + 1);
     }
 
     @Benchmark
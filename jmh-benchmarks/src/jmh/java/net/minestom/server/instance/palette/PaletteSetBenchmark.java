@@ -16,11 +16,29 @@ public class PaletteSetBenchmark {
     @Param({"4", "16"})
     public int dimension;
 
+    // Blocks palette past 256 distinct values, stored directly
+    @Param({"false", "true"})
+    public boolean direct;
+
     private Palette palette;
 
     @Setup
     public void setup() {
-        palette = Palette.newPalette(dimension, 15, 4);
+        palette = direct ? Palette.newPalette(dimension, 8, 4) : Palette.newPalette(dimension, 15, 4);
+    }
+
+    @Benchmark
+    public void randomWrite() {
+        final int dimension = palette.dimension();
+        int value = 0;
+        for (int x = 0; x < dimension; x++) {
+            for (int y = 0; y < dimension; y++) {
+                for (int z = 0; z < dimension; z++) {
+                    value = value * 31 + 7 & 0x3FFF;
+                    palette.set(x, y, z, value);
+                }
+            }
+        }
     }
 
     @Benchmark
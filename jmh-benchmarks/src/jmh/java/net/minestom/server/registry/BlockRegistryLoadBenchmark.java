@@ -0,0 +1,48 @@
+package net.minestom.server.registry;
+
+import net.minestom.server.utils.collection.MergedMap;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the block registry startup cost from {@code blocks.json} and from the binary snapshot.
+ * <p>
+ * The snapshot is generated by running the code generators ({@code :code-generators:run}).
+ */
+@Warmup(iterations = 3, time = 2000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 2000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class BlockRegistryLoadBenchmark {
+
+    @Setup
+    public void setup() {
+        if (getClass().getClassLoader().getResource(BlockRegistrySnapshot.RESOURCE) == null) {
+            throw new IllegalStateException("Missing block snapshot, run the code generators first");
+        }
+    }
+
+    @Benchmark
+    public void json(Blackhole blackhole) {
+        final Map<String, Map<String, Object>> blocks = Registry.load(Registry.Resource.BLOCKS);
+        for (var block : blocks.entrySet()) {
+            final Registry.Properties properties = Registry.Properties.fromMap(block.getValue());
+            for (var state : properties.section("states")) {
+                //noinspection unchecked
+                final var stateProperties = new MergedMap<>(
+                        (Map<String, Object>) state.getValue(), properties.asMap());
+                blackhole.consume(Registry.block(block.getKey(), Registry.Properties.fromMap(stateProperties)));
+            }
+        }
+    }
+
+    @Benchmark
+    public void snapshot(Blackhole blackhole) {
+        blackhole.consume(BlockRegistrySnapshot.load());
+    }
+}
@@ -16,6 +16,7 @@ import java.util.concurrent.TimeUnit;
 @State(Scope.Benchmark)
 public class TagWriteBenchmark {
     static final Tag<String> TAG = Tag.String("key");
+    static final Tag<Integer> COUNTER = Tag.Integer("counter").defaultValue(0);
 
     TagHandler tagHandler;
     Tag<String> secondTag;
@@ -28,6 +29,7 @@ public class TagWriteBenchmark {
         // Tag benchmark
         this.tagHandler = TagHandler.newHandler();
         tagHandler.setTag(TAG, "value");
+        tagHandler.setTag(COUNTER, 0);
         secondTag = Tag.String("key");
         // Concurrent map benchmark
         this.concurrentCompound = new MutableNBTCompound(new ConcurrentHashMap<>());
@@ -52,6 +54,18 @@ public class TagWriteBenchmark {
         tagHandler.setTag(Tag.String("key"), "value");
     }
 
+    @Benchmark
+    @Threads(4)
+    public void writeContendedTag() {
+        tagHandler.setTag(TAG, "value");
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void updateContendedTag() {
+        tagHandler.updateTag(COUNTER, value -> value + 1);
+    }
+
     @Benchmark
     public void writeConcurrentCompound() {
         concurrentCompound.setString("key", "value");
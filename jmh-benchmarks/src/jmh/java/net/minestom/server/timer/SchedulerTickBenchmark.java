@@ -15,19 +15,31 @@ public class SchedulerTickBenchmark {
     @Param({"0", "1", "5"})
     public int tickTasks;
 
-    Scheduler scheduler;
+    @Param({"1", "1000"})
+    public int schedulers;
+
+    Scheduler[] schedulerArray;
 
     @Setup
     public void setup() {
-        this.scheduler = Scheduler.newScheduler();
-        for (int i = 0; i < this.tickTasks; i++) {
-            this.scheduler.scheduleTask(() -> {
-            }, TaskSchedule.nextTick(), TaskSchedule.nextTick());
+        this.schedulerArray = new Scheduler[schedulers];
+        for (int i = 0; i < schedulers; i++) {
+            final Scheduler scheduler = Scheduler.newScheduler();
+            for (int j = 0; j < this.tickTasks; j++) {
+                scheduler.scheduleTask(() -> {
+                }, TaskSchedule.nextTick(), TaskSchedule.nextTick());
+                // Long delays stay in the upper levels of the wheel
+                scheduler.scheduleTask(() -> {
+                }, TaskSchedule.tick(100 + j * 1000), TaskSchedule.tick(100 + j * 1000));
+            }
+            this.schedulerArray[i] = scheduler;
         }
     }
 
     @Benchmark
     public void call() {
-        this.scheduler.processTick();
+        for (Scheduler scheduler : schedulerArray) {
+            scheduler.processTick();
+        }
     }
 }
@@ -99,7 +99,7 @@ final class BlockCollision {
         boolean hasCollided = false;
 
         // Query faces to get the points needed for collision
-        final Vec[] allFaces = calculateFaces(velocity, boundingBox);
+        final Vec[] allFaces = faces(velocity, boundingBox);
         PhysicsResult result = computePhysics(boundingBox, velocity, entityPosition, getter, allFaces, finalResult);
         // Loop until no collisions are found.
         // When collisions are found, the collision axis is set to 0
@@ -214,51 +214,58 @@ final class BlockCollision {
                                     @NotNull Vec[] allFaces,
                                     @NotNull SweepResult finalResult) {
         for (Vec point : allFaces) {
-            final Vec pointBefore = point.add(entityPosition);
-            final Vec pointAfter = point.add(entityPosition).add(velocity);
+            final double beforeX = point.x() + entityPosition.x();
+            final double beforeY = point.y() + entityPosition.y();
+            final double beforeZ = point.z() + entityPosition.z();
+            final double afterX = beforeX + velocity.x();
+            final double afterY = beforeY + velocity.y();
+            final double afterZ = beforeZ + velocity.z();
+            final int beforeBlockX = (int) Math.floor(beforeX), afterBlockX = (int) Math.floor(afterX);
+            final int beforeBlockY = (int) Math.floor(beforeY), afterBlockY = (int) Math.floor(afterY);
+            final int beforeBlockZ = (int) Math.floor(beforeZ), afterBlockZ = (int) Math.floor(afterZ);
             // Entity can pass through up to 4 blocks. Starting block, Two intermediate blocks, and a final block.
             // This means we must check every combination of block movements when an entity moves over an axis.
             // 000, 001, 010, 011, etc.
             // There are 8 of these combinations
             // Checks can be limited by checking if we moved across an axis line
 
-            boolean needsX = pointBefore.x() != pointAfter.x();
-            boolean needsY = pointBefore.y() != pointAfter.y();
-            boolean needsZ = pointBefore.z() != pointAfter.z();
+            boolean needsX = beforeX != afterX;
+            boolean needsY = beforeY != afterY;
+            boolean needsZ = beforeZ != afterZ;
 
-            checkBoundingBox(pointBefore.blockX(), pointBefore.blockY(), pointBefore.blockZ(), velocity, entityPosition, boundingBox, getter, finalResult);
+            checkBoundingBox(beforeBlockX, beforeBlockY, beforeBlockZ, velocity, entityPosition, boundingBox, getter, finalResult);
 
             if (needsX && needsY && needsZ) {
-                checkBoundingBox(pointAfter.blockX(), pointAfter.blockY(), pointAfter.blockZ(), velocity, entityPosition, boundingBox, getter, finalResult);
+                checkBoundingBox(afterBlockX, afterBlockY, afterBlockZ, velocity, entityPosition, boundingBox, getter, finalResult);
 
-                checkBoundingBox(pointAfter.blockX(), pointAfter.blockY(), pointBefore.blockZ(), velocity, entityPosition, boundingBox, getter, finalResult);
-                checkBoundingBox(pointAfter.blockX(), pointBefore.blockY(), pointAfter.blockZ(), velocity, entityPosition, boundingBox, getter, finalResult);
-                checkBoundingBox(pointBefore.blockX(), pointAfter.blockY(), pointAfter.blockZ(), velocity, entityPosition, boundingBox, getter, finalResult);
+                checkBoundingBox(afterBlockX, afterBlockY, beforeBlockZ, velocity, entityPosition, boundingBox, getter, finalResult);
+                checkBoundingBox(afterBlockX, beforeBlockY, afterBlockZ, velocity, entityPosition, boundingBox, getter, finalResult);
+                checkBoundingBox(beforeBlockX, afterBlockY, afterBlockZ, velocity, entityPosition, boundingBox, getter, finalResult);
 
-                checkBoundingBox(pointAfter.blockX(), pointBefore.blockY(), pointBefore.blockZ(), velocity, entityPosition, boundingBox, getter, finalResult);
-                checkBoundingBox(pointBefore.blockX(), pointAfter.blockY(), pointBefore.blockZ(), velocity, entityPosition, boundingBox, getter, finalResult);
-                checkBoundingBox(pointBefore.blockX(), pointBefore.blockY(), pointAfter.blockZ(), velocity, entityPosition, boundingBox, getter, finalResult);
+                checkBoundingBox(afterBlockX, beforeBlockY, beforeBlockZ, velocity, entityPosition, boundingBox, getter, finalResult);
+                checkBoundingBox(beforeBlockX, afterBlockY, beforeBlockZ, velocity, entityPosition, boundingBox, getter, finalResult);
+                checkBoundingBox(beforeBlockX, beforeBlockY, afterBlockZ, velocity, entityPosition, boundingBox, getter, finalResult);
             } else if (needsX && needsY) {
-                checkBoundingBox(pointAfter.blockX(), pointAfter.blockY(), pointBefore.blockZ(), velocity, entityPosition, boundingBox, getter, finalResult);
+                checkBoundingBox(afterBlockX, afterBlockY, beforeBlockZ, velocity, entityPosition, boundingBox, getter, finalResult);
 
-                checkBoundingBox(pointAfter.blockX(), pointBefore.blockY(), pointBefore.blockZ(), velocity, entityPosition, boundingBox, getter, finalResult);
-                checkBoundingBox(pointBefore.blockX(), pointAfter.blockY(), pointBefore.blockZ(), velocity, entityPosition, boundingBox, getter, finalResult);
+                checkBoundingBox(afterBlockX, beforeBlockY, beforeBlockZ, velocity, entityPosition, boundingBox, getter, finalResult);
+                checkBoundingBox(beforeBlockX, afterBlockY, beforeBlockZ, velocity, entityPosition, boundingBox, getter, finalResult);
             } else if (needsX && needsZ) {
-                checkBoundingBox(pointAfter.blockX(), pointBefore.blockY(), pointAfter.blockZ(), velocity, entityPosition, boundingBox, getter, finalResult);
+                checkBoundingBox(afterBlockX, beforeBlockY, afterBlockZ, velocity, entityPosition, boundingBox, getter, finalResult);
 
-                checkBoundingBox(pointAfter.blockX(), pointBefore.blockY(), pointBefore.blockZ(), velocity, entityPosition, boundingBox, getter, finalResult);
-                checkBoundingBox(pointBefore.blockX(), pointBefore.blockY(), pointAfter.blockZ(), velocity, entityPosition, boundingBox, getter, finalResult);
+                checkBoundingBox(afterBlockX, beforeBlockY, beforeBlockZ, velocity, entityPosition, boundingBox, getter, finalResult);
+                checkBoundingBox(beforeBlockX, beforeBlockY, afterBlockZ, velocity, entityPosition, boundingBox, getter, finalResult);
             } else if (needsY && needsZ) {
-                checkBoundingBox(pointBefore.blockX(), pointAfter.blockY(), pointAfter.blockZ(), velocity, entityPosition, boundingBox, getter, finalResult);
+                checkBoundingBox(beforeBlockX, afterBlockY, afterBlockZ, velocity, entityPosition, boundingBox, getter, finalResult);
 
-                checkBoundingBox(pointBefore.blockX(), pointAfter.blockY(), pointBefore.blockZ(), velocity, entityPosition, boundingBox, getter, finalResult);
-                checkBoundingBox(pointBefore.blockX(), pointBefore.blockY(), pointAfter.blockZ(), velocity, entityPosition, boundingBox, getter, finalResult);
+                checkBoundingBox(beforeBlockX, afterBlockY, beforeBlockZ, velocity, entityPosition, boundingBox, getter, finalResult);
+                checkBoundingBox(beforeBlockX, beforeBlockY, afterBlockZ, velocity, entityPosition, boundingBox, getter, finalResult);
             } else if (needsX) {
-                checkBoundingBox(pointAfter.blockX(), pointBefore.blockY(), pointBefore.blockZ(), velocity, entityPosition, boundingBox, getter, finalResult);
+                checkBoundingBox(afterBlockX, beforeBlockY, beforeBlockZ, velocity, entityPosition, boundingBox, getter, finalResult);
             } else if (needsY) {
-                checkBoundingBox(pointBefore.blockX(), pointAfter.blockY(), pointBefore.blockZ(), velocity, entityPosition, boundingBox, getter, finalResult);
+                checkBoundingBox(beforeBlockX, afterBlockY, beforeBlockZ, velocity, entityPosition, boundingBox, getter, finalResult);
             } else if (needsZ) {
-                checkBoundingBox(pointBefore.blockX(), pointBefore.blockY(), pointAfter.blockZ(), velocity, entityPosition, boundingBox, getter, finalResult);
+                checkBoundingBox(beforeBlockX, beforeBlockY, afterBlockZ, velocity, entityPosition, boundingBox, getter, finalResult);
             }
         }
     }
@@ -356,6 +363,33 @@ final class BlockCollision {
         return m * (blockPos - pos + (m > 0 ? 1 : 0)) + entityY;
     }
 
+    /**
+     * Gets the face points of the bounding box for a movement, cached in the bounding box for each direction.
+     */
+    private static Vec[] faces(Vec queryVec, BoundingBox boundingBox) {
+        return boundingBox.faces()[faceIndex((int) Math.signum(queryVec.x()),
+                (int) Math.signum(queryVec.y()), (int) Math.signum(queryVec.z()))];
+    }
+
+    /**
+     * Computes the face points of a bounding box for every movement direction.
+     */
+    static Vec[][] computeFaces(BoundingBox boundingBox) {
+        Vec[][] faces = new Vec[27][];
+        for (int x = -1; x <= 1; x++) {
+            for (int y = -1; y <= 1; y++) {
+                for (int z = -1; z <= 1; z++) {
+                    faces[faceIndex(x, y, z)] = calculateFaces(new Vec(x, y, z), boundingBox);
+                }
+            }
+        }
+        return faces;
+    }
+
+    private static int faceIndex(int signX, int signY, int signZ) {
+        return (signX + 1) * 9 + (signY + 1) * 3 + (signZ + 1);
+    }
+
     private static Vec[] calculateFaces(Vec queryVec, BoundingBox boundingBox) {
         final int queryX = (int) Math.signum(queryVec.x());
         final int queryY = (int) Math.signum(queryVec.y());
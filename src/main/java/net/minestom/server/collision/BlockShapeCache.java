@@ -0,0 +1,212 @@
+package net.minestom.server.collision;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.entity.Entity;
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.utils.chunk.ChunkCache;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.UnknownNullability;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import static net.minestom.server.utils.chunk.ChunkUtils.getChunkCoordinate;
+
+/**
+ * Per-thread copy of the blocks a moving bounding box may collide with.
+ * <p>
+ * The region is read once per physics step, without locking the chunks unless a concurrent write is detected,
+ * instead of locking the chunk for every block queried by the sweep.
+ * Blocks outside the region are retrieved from the instance.
+ * Nearby entities moved together share a single copy of the region they may touch.
+ * <p>
+ * Can be disabled using the {@code minestom.physics.disable-block-cache} system property.
+ */
+final class BlockShapeCache implements Block.Getter {
+    static final boolean ENABLED = !Boolean.getBoolean("minestom.physics.disable-block-cache");
+    /**
+     * Larger movements are not worth copying and directly query the instance.
+     */
+    private static final int MAX_VOLUME = 4096;
+    private static final int MAX_BATCH_VOLUME = 16 * MAX_VOLUME;
+
+    private static final ThreadLocal<BlockShapeCache> CACHE = ThreadLocal.withInitial(BlockShapeCache::new);
+
+    private ChunkCache fallback;
+    private Block[] blocks = new Block[64];
+    private int minX, minY, minZ;
+    private int sizeX, sizeY, sizeZ;
+
+    /**
+     * Gets the cache of the current thread, filled with the blocks the bounding box may touch.
+     * <p>
+     * The returned getter is only valid until the next call on the same thread.
+     */
+    static @NotNull Block.Getter load(@NotNull Instance instance, @Nullable Chunk chunk,
+                                      @NotNull BoundingBox boundingBox, @NotNull Pos position, @NotNull Vec velocity) {
+        final BlockShapeCache cache = CACHE.get();
+        cache.fill(instance, chunk, boundingBox, position, velocity);
+        return cache;
+    }
+
+    /**
+     * Gets the cache of the current thread, filled with the blocks any of the moving entities may touch.
+     * <p>
+     * The returned getter is only valid until the next call on the same thread.
+     *
+     * @return the cache, null if the entities are in different instances or if copying their whole area
+     * would read more blocks than copying the area of each entity
+     */
+    static @Nullable Block.Getter load(@NotNull Instance instance, @Nullable Chunk chunk,
+                                       @NotNull List<? extends @NotNull Entity> entities, @NotNull Vec @NotNull [] velocities) {
+        int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE, minZ = Integer.MAX_VALUE;
+        int maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE, maxZ = Integer.MIN_VALUE;
+        long separateVolume = 0;
+        for (int i = 0; i < entities.size(); i++) {
+            final Entity entity = entities.get(i);
+            if (entity.getInstance() != instance) return null;
+            final Vec velocity = velocities[i];
+            if (velocity.isZero()) continue;
+            final BoundingBox boundingBox = entity.getBoundingBox();
+            final Pos position = entity.getPosition();
+            final int entityMinX = lower(position.x(), boundingBox.minX(), velocity.x());
+            final int entityMinY = lower(position.y(), boundingBox.minY(), velocity.y()) - 1;
+            final int entityMinZ = lower(position.z(), boundingBox.minZ(), velocity.z());
+            final int entityMaxX = upper(position.x(), boundingBox.maxX(), velocity.x());
+            final int entityMaxY = upper(position.y(), boundingBox.maxY(), velocity.y());
+            final int entityMaxZ = upper(position.z(), boundingBox.maxZ(), velocity.z());
+            separateVolume += volume(entityMinX, entityMinY, entityMinZ, entityMaxX, entityMaxY, entityMaxZ);
+            minX = Math.min(minX, entityMinX);
+            minY = Math.min(minY, entityMinY);
+            minZ = Math.min(minZ, entityMinZ);
+            maxX = Math.max(maxX, entityMaxX);
+            maxY = Math.max(maxY, entityMaxY);
+            maxZ = Math.max(maxZ, entityMaxZ);
+        }
+        if (separateVolume == 0 || volume(minX, minY, minZ, maxX, maxY, maxZ) > separateVolume) return null;
+        final BlockShapeCache cache = CACHE.get();
+        if (!cache.fill(instance, chunk, minX, minY, minZ, maxX, maxY, maxZ, MAX_BATCH_VOLUME)) return null;
+        return cache;
+    }
+
+    private void fill(Instance instance, Chunk chunk, BoundingBox boundingBox, Pos position, Vec velocity) {
+        fill(instance, chunk,
+                lower(position.x(), boundingBox.minX(), velocity.x()),
+                lower(position.y(), boundingBox.minY(), velocity.y()) - 1, // Tall blocks below
+                lower(position.z(), boundingBox.minZ(), velocity.z()),
+                upper(position.x(), boundingBox.maxX(), velocity.x()),
+                upper(position.y(), boundingBox.maxY(), velocity.y()),
+                upper(position.z(), boundingBox.maxZ(), velocity.z()),
+                MAX_VOLUME);
+    }
+
+    /**
+     * Copies a region of blocks.
+     *
+     * @return false if the region is larger than {@code maxVolume}, the blocks are then retrieved from the instance
+     */
+    private boolean fill(Instance instance, Chunk chunk,
+                         int minX, int minY, int minZ, int maxX, int maxY, int maxZ, int maxVolume) {
+        this.fallback = new ChunkCache(instance, chunk, Block.STONE);
+        final long volume = volume(minX, minY, minZ, maxX, maxY, maxZ);
+        if (volume > maxVolume) {
+            this.sizeX = this.sizeY = this.sizeZ = 0;
+            return false;
+        }
+        this.minX = minX;
+        this.minY = minY;
+        this.minZ = minZ;
+        this.sizeX = maxX - minX + 1;
+        this.sizeY = maxY - minY + 1;
+        this.sizeZ = maxZ - minZ + 1;
+        if (blocks.length < volume) this.blocks = new Block[Math.max((int) volume, blocks.length * 2)];
+
+        final Block[] blocks = this.blocks;
+        for (int chunkX = getChunkCoordinate(minX); chunkX <= getChunkCoordinate(maxX); chunkX++) {
+            for (int chunkZ = getChunkCoordinate(minZ); chunkZ <= getChunkCoordinate(maxZ); chunkZ++) {
+                final int startX = Math.max(minX, chunkX * Chunk.CHUNK_SIZE_X);
+                final int endX = Math.min(maxX, chunkX * Chunk.CHUNK_SIZE_X + Chunk.CHUNK_SIZE_X - 1);
+                final int startZ = Math.max(minZ, chunkZ * Chunk.CHUNK_SIZE_Z);
+                final int endZ = Math.min(maxZ, chunkZ * Chunk.CHUNK_SIZE_Z + Chunk.CHUNK_SIZE_Z - 1);
+                final Chunk target = chunk != null && chunk.getChunkX() == chunkX && chunk.getChunkZ() == chunkZ ?
+                        chunk : instance.getChunk(chunkX, chunkZ);
+                if (target == null || !target.isLoaded()) {
+                    // Unloaded chunks are considered solid
+                    for (int x = startX; x <= endX; x++) {
+                        for (int z = startZ; z <= endZ; z++) {
+                            final int index = index(x, minY, z);
+                            Arrays.fill(blocks, index, index + sizeY, Block.STONE);
+                        }
+                    }
+                    continue;
+                }
+                if (!copyOptimistic(target, startX, endX, minY, maxY, startZ, endZ)) {
+                    synchronized (target) {
+                        for (int x = startX; x <= endX; x++) {
+                            for (int z = startZ; z <= endZ; z++) {
+                                int index = index(x, minY, z);
+                                for (int y = minY; y <= maxY; y++) {
+                                    blocks[index++] = target.getBlock(x, y, z, Condition.TYPE);
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Copies the blocks of a chunk without locking it.
+     *
+     * @return false if a block could not be read, the chunk has to be locked
+     */
+    private boolean copyOptimistic(Chunk chunk, int startX, int endX, int minY, int maxY, int startZ, int endZ) {
+        final Block[] blocks = this.blocks;
+        for (int x = startX; x <= endX; x++) {
+            for (int z = startZ; z <= endZ; z++) {
+                int index = index(x, minY, z);
+                for (int y = minY; y <= maxY; y++) {
+                    final int stateId = chunk.getBlockStateIdOptimistic(x, y, z);
+                    if (stateId == -1) return false;
+                    blocks[index++] = Objects.requireNonNullElse(Block.fromStateId((short) stateId), Block.AIR);
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public @UnknownNullability Block getBlock(int x, int y, int z, @NotNull Condition condition) {
+        final int relativeX = x - minX, relativeY = y - minY, relativeZ = z - minZ;
+        if (condition == Condition.TYPE &&
+                relativeX >= 0 && relativeX < sizeX &&
+                relativeY >= 0 && relativeY < sizeY &&
+                relativeZ >= 0 && relativeZ < sizeZ) {
+            return blocks[index(x, y, z)];
+        }
+        return fallback.getBlock(x, y, z, condition);
+    }
+
+    private int index(int x, int y, int z) {
+        return ((x - minX) * sizeZ + (z - minZ)) * sizeY + (y - minY);
+    }
+
+    private static int lower(double position, double min, double velocity) {
+        return (int) Math.floor(position + min + Math.min(0, velocity));
+    }
+
+    private static int upper(double position, double max, double velocity) {
+        return (int) Math.floor(position + max + Math.max(0, velocity));
+    }
+
+    private static long volume(int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        return (long) (maxX - minX + 1) * (maxY - minY + 1) * (maxZ - minZ + 1);
+    }
+}
@@ -24,6 +24,8 @@ public final class BoundingBox implements Shape {
     private final double width, height, depth;
     private final Point offset;
     private Point relativeEnd;
+    // Physics face points for each movement direction, computed once and never modified, see BlockCollision#faces
+    private volatile Vec[][] faces;
 
     BoundingBox(double width, double height, double depth, Point offset) {
         this.width = width;
@@ -36,6 +38,12 @@ public final class BoundingBox implements Shape {
         this(width, height, depth, new Vec(-width / 2, 0, -depth / 2));
     }
 
+    Vec[][] faces() {
+        Vec[][] faces = this.faces;
+        if (faces == null) this.faces = faces = BlockCollision.computeFaces(this);
+        return faces;
+    }
+
     @Override
     public boolean isOccluded(@NotNull Shape shape, @NotNull BlockFace face) {
         return false;
@@ -10,10 +10,12 @@ import net.minestom.server.instance.WorldBorder;
 import net.minestom.server.instance.block.Block;
 import net.minestom.server.registry.Registry;
 import net.minestom.server.utils.chunk.ChunkCache;
+import net.minestom.server.utils.validate.Check;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.List;
 import java.util.function.Function;
 
 @ApiStatus.Internal
@@ -101,7 +103,9 @@ public final class CollisionUtils {
                                               @NotNull BoundingBox boundingBox,
                                               @NotNull Pos position, @NotNull Vec velocity,
                                               @Nullable PhysicsResult lastPhysicsResult, boolean singleCollision) {
-        final Block.Getter getter = new ChunkCache(instance, chunk != null ? chunk : instance.getChunkAt(position), Block.STONE);
+        final Block.Getter getter = BlockShapeCache.ENABLED && !velocity.isZero() ?
+                BlockShapeCache.load(instance, chunk, boundingBox, position, velocity) :
+                new ChunkCache(instance, chunk != null ? chunk : instance.getChunkAt(position), Block.STONE);
         return BlockCollision.handlePhysics(boundingBox,
                 velocity, position,
                 getter, lastPhysicsResult, singleCollision);
@@ -133,6 +137,45 @@ public final class CollisionUtils {
         return handlePhysics(entity, entityVelocity, null);
     }
 
+    /**
+     * Moves multiple entities with physics applied (ie checking against blocks).
+     * <p>
+     * Entities in the same instance and close to each other (e.g. within the same partition) share a single copy
+     * of the blocks they may touch, read once for all of them instead of once per entity.
+     * Otherwise, each entity is moved like with {@link #handlePhysics(Entity, Vec, PhysicsResult)}.
+     *
+     * @param entities       the entities to move
+     * @param velocities     the velocity of each entity
+     * @param physicsResults the last physics result of each entity (can contain null), replaced by the new results
+     */
+    public static void handlePhysics(@NotNull List<? extends @NotNull Entity> entities,
+                                     @NotNull Vec @NotNull [] velocities,
+                                     @Nullable PhysicsResult @NotNull [] physicsResults) {
+        Check.argCondition(velocities.length < entities.size() || physicsResults.length < entities.size(),
+                "There must be a velocity and a physics result for each entity");
+        if (entities.isEmpty()) return;
+        final Entity first = entities.get(0);
+        final Instance firstInstance = first.getInstance();
+        assert firstInstance != null;
+        final Block.Getter getter = BlockShapeCache.ENABLED ?
+                BlockShapeCache.load(firstInstance, first.getChunk(), entities, velocities) : null;
+        for (int i = 0; i < entities.size(); i++) {
+            final Entity entity = entities.get(i);
+            if (getter != null) {
+                physicsResults[i] = BlockCollision.handlePhysics(entity.getBoundingBox(),
+                        velocities[i], entity.getPosition(),
+                        getter, physicsResults[i], false);
+                continue;
+            }
+            final Instance instance = entity.getInstance();
+            assert instance != null;
+            physicsResults[i] = handlePhysics(instance, entity.getChunk(),
+                    entity.getBoundingBox(),
+                    entity.getPosition(), velocities[i],
+                    physicsResults[i], false);
+        }
+    }
+
     public static Entity canPlaceBlockAt(Instance instance, Point blockPos, Block b) {
         return BlockCollision.canPlaceBlockAt(instance, blockPos, b);
     }
@@ -15,12 +15,18 @@ final class RayUtils {
      * @return true if an intersection between the ray and the bounding box was found
      */
     public static boolean BoundingBoxIntersectionCheck(BoundingBox moving, Point rayStart, Point rayDirection, BoundingBox collidableStatic, Point staticCollidableOffset, SweepResult finalResult) {
-        Point bbCentre = new Vec(moving.minX() + moving.width() / 2, moving.minY() + moving.height() / 2, moving.minZ() + moving.depth() / 2);
-        Point rayCentre = rayStart.add(bbCentre);
+        // Kept as primitives, this is called for every block shape checked by the physics
+        final double rayCentreX = rayStart.x() + (moving.minX() + moving.width() / 2);
+        final double rayCentreY = rayStart.y() + (moving.minY() + moving.height() / 2);
+        final double rayCentreZ = rayStart.z() + (moving.minZ() + moving.depth() / 2);
 
         // Translate bounding box
-        Vec bbOffMin = new Vec(collidableStatic.minX() - rayCentre.x() + staticCollidableOffset.x() - moving.width() / 2, collidableStatic.minY() - rayCentre.y() + staticCollidableOffset.y() - moving.height() / 2, collidableStatic.minZ() - rayCentre.z() + staticCollidableOffset.z() - moving.depth() / 2);
-        Vec bbOffMax = new Vec(collidableStatic.maxX() - rayCentre.x() + staticCollidableOffset.x() + moving.width() / 2, collidableStatic.maxY() - rayCentre.y() + staticCollidableOffset.y() + moving.height() / 2, collidableStatic.maxZ() - rayCentre.z() + staticCollidableOffset.z() + moving.depth() / 2);
+        final double bbOffMinX = collidableStatic.minX() - rayCentreX + staticCollidableOffset.x() - moving.width() / 2;
+        final double bbOffMinY = collidableStatic.minY() - rayCentreY + staticCollidableOffset.y() - moving.height() / 2;
+        final double bbOffMinZ = collidableStatic.minZ() - rayCentreZ + staticCollidableOffset.z() - moving.depth() / 2;
+        final double bbOffMaxX = collidableStatic.maxX() - rayCentreX + staticCollidableOffset.x() + moving.width() / 2;
+        final double bbOffMaxY = collidableStatic.maxY() - rayCentreY + staticCollidableOffset.y() + moving.height() / 2;
+        final double bbOffMaxZ = collidableStatic.maxZ() - rayCentreZ + staticCollidableOffset.z() + moving.depth() / 2;
 
         // This check is done in 2d. it can be visualised as a rectangle (the face we are checking), and a point.
         // If the point is within the rectangle, we know the vector intersects the face.
@@ -36,14 +42,14 @@ final class RayUtils {
         // Intersect X
         // Left side of bounding box
         if (rayDirection.x() > 0) {
-            double xFac = epsilon(bbOffMin.x() / rayDirection.x());
+            double xFac = epsilon(bbOffMinX / rayDirection.x());
             if (xFac < percentage) {
-                double yix = rayDirection.y() * xFac + rayCentre.y();
-                double zix = rayDirection.z() * xFac + rayCentre.z();
+                double yix = rayDirection.y() * xFac + rayCentreY;
+                double zix = rayDirection.z() * xFac + rayCentreZ;
 
                 // Check if ray passes through y/z plane
-                if (((yix - rayCentre.y()) * signumRayY) >= 0
-                        && ((zix - rayCentre.z()) * signumRayZ) >= 0
+                if (((yix - rayCentreY) * signumRayY) >= 0
+                        && ((zix - rayCentreZ) * signumRayZ) >= 0
                         && yix >= collidableStatic.minY() + staticCollidableOffset.y() - moving.height() / 2
                         && yix <= collidableStatic.maxY() + staticCollidableOffset.y() + moving.height() / 2
                         && zix >= collidableStatic.minZ() + staticCollidableOffset.z() - moving.depth() / 2
@@ -56,13 +62,13 @@ final class RayUtils {
         }
         // Right side of bounding box
         if (rayDirection.x() < 0) {
-            double xFac = epsilon(bbOffMax.x() / rayDirection.x());
+            double xFac = epsilon(bbOffMaxX / rayDirection.x());
             if (xFac < percentage) {
-                double yix = rayDirection.y() * xFac + rayCentre.y();
-                double zix = rayDirection.z() * xFac + rayCentre.z();
+                double yix = rayDirection.y() * xFac + rayCentreY;
+                double zix = rayDirection.z() * xFac + rayCentreZ;
 
-                if (((yix - rayCentre.y()) * signumRayY) >= 0
-                        && ((zix - rayCentre.z()) * signumRayZ) >= 0
+                if (((yix - rayCentreY) * signumRayY) >= 0
+                        && ((zix - rayCentreZ) * signumRayZ) >= 0
                         && yix >= collidableStatic.minY() + staticCollidableOffset.y() - moving.height() / 2
                         && yix <= collidableStatic.maxY() + staticCollidableOffset.y() + moving.height() / 2
                         && zix >= collidableStatic.minZ() + staticCollidableOffset.z() - moving.depth() / 2
@@ -76,13 +82,13 @@ final class RayUtils {
 
         // Intersect Z
         if (rayDirection.z() > 0) {
-            double zFac = epsilon(bbOffMin.z() / rayDirection.z());
+            double zFac = epsilon(bbOffMinZ / rayDirection.z());
             if (zFac < percentage) {
-                double xiz = rayDirection.x() * zFac + rayCentre.x();
-                double yiz = rayDirection.y() * zFac + rayCentre.y();
+                double xiz = rayDirection.x() * zFac + rayCentreX;
+                double yiz = rayDirection.y() * zFac + rayCentreY;
 
-                if (((yiz - rayCentre.y()) * signumRayY) >= 0
-                        && ((xiz - rayCentre.x()) * signumRayX) >= 0
+                if (((yiz - rayCentreY) * signumRayY) >= 0
+                        && ((xiz - rayCentreX) * signumRayX) >= 0
                         && xiz >= collidableStatic.minX() + staticCollidableOffset.x() - moving.width() / 2
                         && xiz <= collidableStatic.maxX() + staticCollidableOffset.x() + moving.width() / 2
                         && yiz >= collidableStatic.minY() + staticCollidableOffset.y() - moving.height() / 2
@@ -94,13 +100,13 @@ final class RayUtils {
             }
         }
         if (rayDirection.z() < 0) {
-            double zFac = epsilon(bbOffMax.z() / rayDirection.z());
+            double zFac = epsilon(bbOffMaxZ / rayDirection.z());
             if (zFac < percentage) {
-                double xiz = rayDirection.x() * zFac + rayCentre.x();
-                double yiz = rayDirection.y() * zFac + rayCentre.y();
+                double xiz = rayDirection.x() * zFac + rayCentreX;
+                double yiz = rayDirection.y() * zFac + rayCentreY;
 
-                if (((yiz - rayCentre.y()) * signumRayY) >= 0
-                        && ((xiz - rayCentre.x()) * signumRayX) >= 0
+                if (((yiz - rayCentreY) * signumRayY) >= 0
+                        && ((xiz - rayCentreX) * signumRayX) >= 0
                         && xiz >= collidableStatic.minX() + staticCollidableOffset.x() - moving.width() / 2
                         && xiz <= collidableStatic.maxX() + staticCollidableOffset.x() + moving.width() / 2
                         && yiz >= collidableStatic.minY() + staticCollidableOffset.y() - moving.height() / 2
@@ -114,13 +120,13 @@ final class RayUtils {
 
         // Intersect Y
         if (rayDirection.y() > 0) {
-            double yFac = epsilon(bbOffMin.y() / rayDirection.y());
+            double yFac = epsilon(bbOffMinY / rayDirection.y());
             if (yFac < percentage) {
-                double xiy = rayDirection.x() * yFac + rayCentre.x();
-                double ziy = rayDirection.z() * yFac + rayCentre.z();
+                double xiy = rayDirection.x() * yFac + rayCentreX;
+                double ziy = rayDirection.z() * yFac + rayCentreZ;
 
-                if (((ziy - rayCentre.z()) * signumRayZ) >= 0
-                        && ((xiy - rayCentre.x()) * signumRayX) >= 0
+                if (((ziy - rayCentreZ) * signumRayZ) >= 0
+                        && ((xiy - rayCentreX) * signumRayX) >= 0
                         && xiy >= collidableStatic.minX() + staticCollidableOffset.x() - moving.width() / 2
                         && xiy <= collidableStatic.maxX() + staticCollidableOffset.x() + moving.width() / 2
                         && ziy >= collidableStatic.minZ() + staticCollidableOffset.z() - moving.depth() / 2
@@ -133,13 +139,13 @@ final class RayUtils {
         }
 
         if (rayDirection.y() < 0) {
-            double yFac = epsilon(bbOffMax.y() / rayDirection.y());
+            double yFac = epsilon(bbOffMaxY / rayDirection.y());
             if (yFac < percentage) {
-                double xiy = rayDirection.x() * yFac + rayCentre.x();
-                double ziy = rayDirection.z() * yFac + rayCentre.z();
+                double xiy = rayDirection.x() * yFac + rayCentreX;
+                double ziy = rayDirection.z() * yFac + rayCentreZ;
 
-                if (((ziy - rayCentre.z()) * signumRayZ) >= 0
-                        && ((xiy - rayCentre.x()) * signumRayX) >= 0
+                if (((ziy - rayCentreZ) * signumRayZ) >= 0
+                        && ((xiy - rayCentreX) * signumRayX) >= 0
                         && xiy >= collidableStatic.minX() + staticCollidableOffset.x() - moving.width() / 2
                         && xiy <= collidableStatic.maxX() + staticCollidableOffset.x() + moving.width() / 2
                         && ziy >= collidableStatic.minZ() + staticCollidableOffset.z() - moving.depth() / 2
@@ -8,15 +8,19 @@ import net.minestom.server.command.builder.ParsedCommand;
 import net.minestom.server.entity.Player;
 import net.minestom.server.event.EventDispatcher;
 import net.minestom.server.event.player.PlayerCommandEvent;
+import net.minestom.server.network.packet.server.CachedPacket;
+import net.minestom.server.network.packet.server.SendablePacket;
 import net.minestom.server.network.packet.server.play.DeclareCommandsPacket;
 import net.minestom.server.utils.callback.CommandCallback;
 import net.minestom.server.utils.validate.Check;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Method;
 import java.util.*;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Manager used to register {@link Command commands}.
@@ -25,6 +29,8 @@ import java.util.concurrent.Callable;
  */
 public final class CommandManager {
     private static final boolean ASYNC_VIRTUAL = Boolean.getBoolean("minestom.command.async-virtual");
+    // Maximum number of distinct declare commands packets kept, the cache is cleared when reached
+    private static final int DECLARE_COMMANDS_CACHE_SIZE = Integer.getInteger("minestom.command.packet-cache-size", 64);
 
     public static final String COMMAND_PREFIX = "/";
 
@@ -35,6 +41,12 @@ public final class CommandManager {
     private final Map<String, Command> commandMap = new HashMap<>();
     private final Set<Command> commands = new HashSet<>();
 
+    // Graph of the registered commands, rebuilt when a command changes
+    private volatile Graph graph;
+    private volatile int graphRevision;
+    // Declare commands packets per visible conditions result, cleared with the graph
+    private final Map<BitSet, CachedPacket> declareCommandsPackets = new ConcurrentHashMap<>();
+
     private CommandCallback unknownCommandCallback;
 
     public CommandManager() {
@@ -59,6 +71,7 @@ public final class CommandManager {
         for (String name : command.getNames()) {
             commandMap.put(name, command);
         }
+        this.graph = null;
     }
 
     /**
@@ -67,11 +80,12 @@ public final class CommandManager {
      *
      * @param command the command to remove
      */
-    public void unregister(@NotNull Command command) {
+    public synchronized void unregister(@NotNull Command command) {
         commands.remove(command);
         for (String name : command.getNames()) {
             commandMap.remove(name);
         }
+        this.graph = null;
     }
 
     /**
@@ -198,13 +212,43 @@ public final class CommandManager {
     /**
      * Gets the {@link DeclareCommandsPacket} for a specific player.
      * <p>
-     * Can be used to update a player auto-completion list.
+     * Can be used to update a player auto-completion list. The packet is shared with the players
+     * seeing the same commands and must not be modified.
      *
      * @param player the player to get the commands packet
      * @return the {@link DeclareCommandsPacket} for {@code player}
      */
     public @NotNull DeclareCommandsPacket createDeclareCommandsPacket(@NotNull Player player) {
-        return GraphConverter.createPacket(getGraph(), player);
+        return (DeclareCommandsPacket) declareCommandsPacket(player).packet();
+    }
+
+    /**
+     * Gets the cached {@link DeclareCommandsPacket} for a specific player, shared with all the players
+     * for which the command conditions give the same result.
+     *
+     * @param player the player to get the commands packet
+     * @return the cached packet for {@code player}
+     */
+    @ApiStatus.Internal
+    public @NotNull SendablePacket getDeclareCommandsPacket(@NotNull Player player) {
+        return declareCommandsPacket(player);
+    }
+
+    private CachedPacket declareCommandsPacket(Player player) {
+        final Graph graph = getGraph();
+        final BitSet conditions = GraphConverter.conditions(graph, player);
+        CachedPacket packet = declareCommandsPackets.get(conditions);
+        if (packet == null) {
+            packet = new CachedPacket(GraphConverter.createPacket(graph, player));
+            synchronized (this) {
+                // Do not cache a packet of an outdated graph, the cache is cleared under this lock when rebuilt
+                if (this.graph == graph && graphRevision == Command.revision()) {
+                    if (declareCommandsPackets.size() >= DECLARE_COMMANDS_CACHE_SIZE) declareCommandsPackets.clear();
+                    declareCommandsPackets.put(conditions, packet);
+                }
+            }
+        }
+        return packet;
     }
 
     public @NotNull Set<@NotNull Command> getCommands() {
@@ -222,8 +266,19 @@ public final class CommandManager {
     }
 
     private Graph getGraph() {
-        //todo cache
-        return Graph.merge(commands);
+        Graph graph = this.graph;
+        if (graph != null && graphRevision == Command.revision()) return graph;
+        synchronized (this) {
+            graph = this.graph;
+            final int revision = Command.revision();
+            if (graph == null || graphRevision != revision) {
+                graph = Graph.merge(commands);
+                this.declareCommandsPackets.clear();
+                this.graphRevision = revision;
+                this.graph = graph;
+            }
+            return graph;
+        }
     }
 
     private static CommandResult resultConverter(ExecutableCommand executable,
@@ -3,6 +3,8 @@ package net.minestom.server.command;
 import net.minestom.server.command.Graph.Node;
 import net.minestom.server.command.builder.*;
 import net.minestom.server.command.builder.arguments.Argument;
+import net.minestom.server.command.builder.arguments.ArgumentLiteral;
+import net.minestom.server.command.builder.arguments.ArgumentWord;
 import net.minestom.server.command.builder.condition.CommandCondition;
 import net.minestom.server.command.builder.exception.ArgumentSyntaxException;
 import net.minestom.server.command.builder.suggestion.Suggestion;
@@ -87,6 +89,18 @@ final class CommandParserImpl implements CommandParser {
         Chain fork() {
             return new Chain(defaultExecutor, suggestionCallback, nodeResults, conditions, globalListeners);
         }
+
+        /**
+         * Reverts the appends done since the chain had the given state.
+         */
+        void undo(int nodeCount, int conditionCount, int globalListenerCount,
+                  CommandExecutor defaultExecutor, SuggestionCallback suggestionCallback) {
+            while (nodeResults.size() > nodeCount) nodeResults.removeLast();
+            while (conditions.size() > conditionCount) conditions.remove(conditions.size() - 1);
+            while (globalListeners.size() > globalListenerCount) globalListeners.remove(globalListeners.size() - 1);
+            this.defaultExecutor = defaultExecutor;
+            this.suggestionCallback = suggestionCallback;
+        }
     }
 
     @Override
@@ -122,8 +136,13 @@ final class CommandParserImpl implements CommandParser {
         return obj == null ? null : getter.apply(obj);
     }
 
+    /**
+     * Parses a node and its children, appending the matched nodes to the chain.
+     * <p>
+     * The chain is shared by the whole parsing, the parent undoes the appends of children which failed.
+     * Results referencing the chain of a failure are given their own copy.
+     */
     private static NodeResult parseNode(@NotNull CommandSender sender, Node node, Chain chain, CommandStringReader reader) {
-        chain = chain.fork();
         Argument<?> argument = node.argument();
         int start = reader.cursor();
 
@@ -163,8 +182,24 @@ final class CommandParserImpl implements CommandParser {
         start = reader.cursor();
         if (!reader.hasRemaining()) start--; // This is needed otherwise the reader throws an AssertionError
 
+        final int nodeCount = chain.nodeResults.size();
+        final int conditionCount = chain.conditions.size();
+        final int globalListenerCount = chain.globalListeners.size();
+        final CommandExecutor defaultExecutor = chain.defaultExecutor;
+        final SuggestionCallback suggestionCallback = chain.suggestionCallback;
+        // Incompatible commands are not reported, only the literals matching the next word need to be tried
+        final boolean commandLevel = nodeCount == 1;
+        List<Node> children = node.next();
+        if (commandLevel && reader.hasRemaining() && node instanceof GraphImpl.NodeImpl impl && impl.dispatch() != null) {
+            children = impl.dispatch().children(reader.peekWord());
+        }
+
         NodeResult error = null;
-        for (Node child : node.next()) {
+        for (Node child : children) {
+            // A literal which cannot match would only be parsed to be reported
+            if ((error != null || commandLevel) && reader.hasRemaining() && literalMismatch(child.argument(), reader)) {
+                continue;
+            }
             NodeResult childResult = parseNode(sender, child, chain, reader);
             if (childResult.argumentResult instanceof ArgumentResult.Success<Object>) {
                 // Assume that there is only one successful node for a given chain of arguments
@@ -175,9 +210,10 @@ final class CommandParserImpl implements CommandParser {
                     // do not report an argument to be incompatible, since the more
                     // correct thing would be to say that the command is unknown.
                     if (!(childResult.chain.nodeResults.size() == 2 && childResult.argumentResult instanceof ArgumentResult.IncompatibleType<?>)) {
-                        error = childResult;
+                        error = childResult.chain == chain ? childResult.withChain(chain.fork()) : childResult;
                     }
                 }
+                chain.undo(nodeCount, conditionCount, globalListenerCount, defaultExecutor, suggestionCallback);
                 reader.cursor(start);
             }
         }
@@ -363,6 +399,10 @@ final class CommandParserImpl implements CommandParser {
         public String name() {
             return node.argument().getId();
         }
+
+        NodeResult withChain(Chain chain) {
+            return new NodeResult(node, chain, argumentResult, callback);
+        }
     }
 
     static final class CommandStringReader {
@@ -391,6 +431,22 @@ final class CommandParserImpl implements CommandParser {
             return read;
         }
 
+        /**
+         * Gets the next word without moving the cursor.
+         */
+        String peekWord() {
+            final int i = input.indexOf(' ', cursor);
+            return i == -1 ? input.substring(cursor) : input.substring(cursor, i);
+        }
+
+        /**
+         * Gets if the next word is equal to {@code word}, without allocating it.
+         */
+        boolean isNextWord(String word) {
+            final int end = cursor + word.length();
+            return input.startsWith(word, cursor) && (end == input.length() || input.charAt(end) == ' ');
+        }
+
         String readRemaining() {
             final String input = this.input;
             final String result = input.substring(cursor);
@@ -410,6 +466,23 @@ final class CommandParserImpl implements CommandParser {
 
     // ARGUMENT
 
+    /**
+     * Gets if an argument acting as a literal cannot accept the next word.
+     */
+    private static boolean literalMismatch(Argument<?> argument, CommandStringReader reader) {
+        // Exact classes only, subclasses may override the parsing
+        if (argument.getClass() == ArgumentLiteral.class) {
+            return !reader.isNextWord(argument.getId());
+        }
+        if (argument.getClass() == ArgumentWord.class && ((ArgumentWord) argument).hasRestrictions()) {
+            for (String restriction : ((ArgumentWord) argument).getRestrictions()) {
+                if (reader.isNextWord(restriction)) return false;
+            }
+            return true;
+        }
+        return false;
+    }
+
     private static <T> ArgumentResult<T> parseArgument(@NotNull CommandSender sender, Argument<T> argument, CommandStringReader reader) {
         // Handle specific type without loop
         try {
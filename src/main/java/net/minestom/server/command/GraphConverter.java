@@ -29,6 +29,28 @@ final class GraphConverter {
         return new DeclareCommandsPacket(nodes, rootId);
     }
 
+    /**
+     * Evaluates the conditions visible to {@link #createPacket(Graph, Player)} in the same order,
+     * players with the same result receive the same packet.
+     */
+    static BitSet conditions(Graph graph, Player player) {
+        BitSet result = new BitSet();
+        conditions(graph.root(), player, result, new int[1]);
+        return result;
+    }
+
+    private static void conditions(Graph.Node graphNode, Player player, BitSet result, int[] index) {
+        final Graph.Execution execution = graphNode.execution();
+        if (execution != null) {
+            final int i = index[0]++;
+            if (!execution.test(player)) return;
+            result.set(i);
+        }
+        for (Graph.Node child : graphNode.next()) {
+            conditions(child, player, result, index);
+        }
+    }
+
     private static int[] append(Graph.Node graphNode, List<DeclareCommandsPacket.Node> to,
                                 List<BiConsumer<Graph, Integer>> redirects, AtomicInteger id, @Nullable AtomicInteger redirect,
                                 @Nullable Player player, Map<Argument<?>, Integer> argToPacketId) {
@@ -6,6 +6,7 @@ import net.minestom.server.command.builder.CommandSyntax;
 import net.minestom.server.command.builder.arguments.Argument;
 import net.minestom.server.command.builder.arguments.ArgumentCommand;
 import net.minestom.server.command.builder.arguments.ArgumentLiteral;
+import net.minestom.server.command.builder.arguments.ArgumentWord;
 import net.minestom.server.command.builder.condition.CommandCondition;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -63,11 +64,14 @@ record GraphImpl(NodeImpl root) implements Graph {
         }
     }
 
-    record NodeImpl(Argument<?> argument, ExecutionImpl execution, List<Graph.Node> next) implements Graph.Node {
+    record NodeImpl(Argument<?> argument, ExecutionImpl execution, List<Graph.Node> next,
+                    @Nullable Dispatch dispatch) implements Graph.Node {
         NodeImpl(Argument<?> argument, ExecutionImpl execution, List<Graph.Node> next) {
-            this.argument = argument;
-            this.execution = execution;
-            this.next = next.stream().sorted(nodePriority).toList();
+            this(argument, execution, next.stream().sorted(nodePriority).toList(), null);
+        }
+
+        NodeImpl {
+            if (dispatch == null) dispatch = Dispatch.create(next);
         }
 
         static NodeImpl fromBuilder(BuilderImpl builder) {
@@ -97,6 +101,59 @@ record GraphImpl(NodeImpl root) implements Graph {
         }
     }
 
+    /**
+     * Children of a node to try depending on the next word, literal children which cannot match are left out.
+     *
+     * @param literals the children to try in order per word matched by a literal child
+     * @param others   the children to try in order when the word does not match any literal child
+     */
+    record Dispatch(Map<String, List<Node>> literals, List<Node> others) {
+        static @Nullable Dispatch create(List<Node> children) {
+            Map<String, List<Node>> literals = new HashMap<>();
+            for (Node child : children) {
+                final String[] words = literalWords(child.argument());
+                if (words == null) continue;
+                for (String word : words) literals.putIfAbsent(word, new ArrayList<>());
+            }
+            if (literals.isEmpty()) return null;
+            List<Node> others = new ArrayList<>();
+            for (Node child : children) {
+                final String[] words = literalWords(child.argument());
+                if (words == null) {
+                    others.add(child);
+                    for (List<Node> nodes : literals.values()) nodes.add(child);
+                } else {
+                    for (String word : words) literals.get(word).add(child);
+                }
+            }
+            Map<String, List<Node>> result = new HashMap<>(literals.size());
+            for (var entry : literals.entrySet()) result.put(entry.getKey(), List.copyOf(entry.getValue()));
+            return new Dispatch(Map.copyOf(result), List.copyOf(others));
+        }
+
+        @NotNull List<Node> children(@NotNull String word) {
+            return literals.getOrDefault(word, others);
+        }
+
+        /**
+         * Gets the words accepted by an argument matching a single word against constants.
+         *
+         * @return the accepted words, null if the argument is not a literal
+         */
+        static String @Nullable [] literalWords(Argument<?> argument) {
+            // Exact classes only, subclasses may override the parsing
+            if (argument.getClass() == ArgumentLiteral.class) {
+                final String id = argument.getId();
+                return id.indexOf(' ') == -1 ? new String[]{id} : null;
+            }
+            if (argument.getClass() == ArgumentWord.class && ((ArgumentWord) argument).hasRestrictions()) {
+                return Arrays.stream(((ArgumentWord) argument).getRestrictions())
+                        .filter(word -> word.indexOf(' ') == -1).toArray(String[]::new);
+            }
+            return null;
+        }
+    }
+
     record ExecutionImpl(Predicate<CommandSender> predicate,
                          CommandExecutor defaultExecutor, CommandExecutor globalListener,
                          CommandExecutor executor, CommandCondition condition) implements Execution {
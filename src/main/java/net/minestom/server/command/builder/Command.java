@@ -16,6 +16,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.*;
 import java.util.stream.Stream;
 
@@ -42,6 +43,8 @@ import java.util.stream.Stream;
 public class Command {
 
     private final static Logger LOGGER = LoggerFactory.getLogger(Command.class);
+    // Incremented on every structural change of any command, used to invalidate cached graphs
+    private static final AtomicInteger REVISION = new AtomicInteger();
 
     private final String name;
     private final String[] aliases;
@@ -102,6 +105,7 @@ public class Command {
      */
     public void setCondition(@Nullable CommandCondition commandCondition) {
         this.condition = commandCondition;
+        REVISION.incrementAndGet();
     }
 
     /**
@@ -118,6 +122,7 @@ public class Command {
 
     public void addSubcommand(@NotNull Command command) {
         this.subcommands.add(command);
+        REVISION.incrementAndGet();
     }
 
     @NotNull
@@ -158,6 +163,7 @@ public class Command {
         if (!hasOptional) {
             final CommandSyntax syntax = new CommandSyntax(commandCondition, executor, args);
             this.syntaxes.add(syntax);
+            REVISION.incrementAndGet();
             return List.of(syntax);
         } else {
             List<CommandSyntax> optionalSyntaxes = new ArrayList<>();
@@ -196,6 +202,7 @@ public class Command {
             }
 
             this.syntaxes.addAll(optionalSyntaxes);
+            REVISION.incrementAndGet();
             return optionalSyntaxes;
         }
     }
@@ -272,6 +279,7 @@ public class Command {
      */
     public void setDefaultExecutor(@Nullable CommandExecutor executor) {
         this.defaultExecutor = executor;
+        REVISION.incrementAndGet();
     }
 
     /**
@@ -394,6 +402,20 @@ public class Command {
         return jsonObject.toString();
     }
 
+    /**
+     * Gets a counter incremented every time a command condition, executor, subcommand or syntax changes.
+     *
+     * @return the current revision of all the commands
+     */
+    @ApiStatus.Internal
+    public static int revision() {
+        return REVISION.get();
+    }
+
+    static void incrementRevision() {
+        REVISION.incrementAndGet();
+    }
+
     public static boolean isValidName(@NotNull Command command, @NotNull String name) {
         for (String commandName : command.getNames()) {
             if (commandName.equals(name)) {
@@ -67,6 +67,7 @@ public class CommandSyntax {
      */
     public void setCommandCondition(@Nullable CommandCondition commandCondition) {
         this.commandCondition = commandCondition;
+        Command.incrementRevision();
     }
 
     /**
@@ -86,6 +87,7 @@ public class CommandSyntax {
      */
     public void setExecutor(@NotNull CommandExecutor executor) {
         this.executor = executor;
+        Command.incrementRevision();
     }
 
     @Nullable
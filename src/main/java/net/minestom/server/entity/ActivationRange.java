@@ -0,0 +1,50 @@
+package net.minestom.server.entity;
+
+import net.minestom.server.instance.Instance;
+import net.minestom.server.utils.validate.Check;
+import org.jetbrains.annotations.ApiStatus;
+
+/**
+ * Controls how entities far from players are ticked.
+ * <p>
+ * An entity is inactive when none of its viewers is within {@code range} blocks, inactive entities only run
+ * their scheduled tasks and, if {@code gravity} is enabled, their physics while they fall or move.
+ * A full tick is still run every {@code interval} ticks, never if 0.
+ * <p>
+ * Entities wake up for {@value #WAKE_UP_TICKS} ticks when a player comes within range, when they are damaged
+ * or when their velocity changes. Players, vehicles and passengers are always active.
+ * <p>
+ * The default range is read from {@code minestom.entity.activation-range} (0 by default, disabled),
+ * the default interval from {@code minestom.entity.inactive-interval} (20 by default).
+ *
+ * @param range    the distance to the closest viewer under which the entity is active, 0 to always be active
+ * @param interval the number of ticks between two full ticks of an inactive entity, 0 to never run them
+ * @param gravity  true to keep moving inactive entities
+ * @see Instance#setActivationRange(EntityType, ActivationRange)
+ */
+@ApiStatus.Experimental
+public record ActivationRange(double range, int interval, boolean gravity) {
+    public static final ActivationRange ALWAYS_ACTIVE = new ActivationRange(0, 1, true);
+    public static final ActivationRange DEFAULT = new ActivationRange(
+            Double.parseDouble(System.getProperty("minestom.entity.activation-range", "0")),
+            Integer.getInteger("minestom.entity.inactive-interval", 20), true);
+
+    /**
+     * Number of ticks during which an entity stays active once woken up.
+     */
+    public static final int WAKE_UP_TICKS = 20;
+
+    public ActivationRange {
+        Check.argCondition(range < 0, "The range cannot be negative");
+        Check.argCondition(interval < 0, "The interval cannot be negative");
+    }
+
+    /**
+     * Gets if entities can become inactive.
+     *
+     * @return true if the range is positive
+     */
+    public boolean isEnabled() {
+        return range > 0;
+    }
+}
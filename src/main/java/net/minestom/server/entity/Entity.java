@@ -177,6 +177,8 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
 
     // Tick related
     private long ticks;
+    // Alive ticks until which the entity stays active, see ActivationRange
+    private volatile long activeUntil;
 
     private final Acquirable<Entity> acquirable = Acquirable.of(this);
 
@@ -410,6 +412,17 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
         this.viewEngine.viewableOption.updateRule();
     }
 
+    /**
+     * Evaluates the viewable rule again during the next tick of this entity,
+     * instead of immediately like {@link #updateViewableRule()}.
+     * <p>
+     * Calls during the same tick only cause a single update.
+     */
+    @ApiStatus.Experimental
+    public void scheduleViewableRuleUpdate() {
+        this.viewEngine.viewableOption.scheduleUpdate();
+    }
+
     /**
      * Gets if surrounding entities are automatically visible by this.
      * True by default.
@@ -441,6 +454,17 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
         this.viewEngine.viewerOption.updateRule();
     }
 
+    /**
+     * Evaluates the viewer rule again during the next tick of this entity,
+     * instead of immediately like {@link #updateViewerRule()}.
+     * <p>
+     * Calls during the same tick only cause a single update.
+     */
+    @ApiStatus.Experimental
+    public void scheduleViewerRuleUpdate() {
+        this.viewEngine.viewerOption.scheduleUpdate();
+    }
+
     @Override
     public final boolean addViewer(@NotNull Player player) {
         if (!viewEngine.manualAdd(player)) return false;
@@ -550,8 +574,12 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
         this.scheduler.processTick();
         if (isRemoved()) return;
 
+        // Visibility rules changed since the last tick
+        this.viewEngine.updateScheduledRules();
+
         // Entity tick
-        {
+        final ActivationRange activation = instance.getActivationRange(entityType);
+        if (isAwake(activation) || (activation.interval() != 0 && (ticks + id) % activation.interval() == 0)) {
             // Cache the number of "gravity tick"
             velocityTick();
 
@@ -566,6 +594,10 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
 
             // remove expired effects
             effectTick(time);
+        } else {
+            // Inactive, only keep moving
+            if (activation.gravity() && (!onGround || hasVelocity())) velocityTick();
+            ticks++;
         }
         // Scheduled synchronization
         if (!Cooldown.hasCooldown(time, lastAbsoluteSynchronizationTime, getSynchronizationCooldown())) {
@@ -573,6 +605,40 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
         }
     }
 
+    private boolean isAwake(ActivationRange activation) {
+        if (!activation.isEnabled() || this instanceof Player || vehicle != null || !passengers.isEmpty()) return true;
+        if (ticks < activeUntil) return true;
+        final double squaredRange = activation.range() * activation.range();
+        for (Player viewer : getViewers()) {
+            if (viewer.getPosition().distanceSquared(position) <= squaredRange) {
+                wakeUp();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Runs the full tick of this entity for the next {@value ActivationRange#WAKE_UP_TICKS} ticks,
+     * even if no player is within its {@link ActivationRange activation range}.
+     * <p>
+     * Called when the entity is damaged or its velocity changes.
+     */
+    public void wakeUp() {
+        this.activeUntil = ticks + ActivationRange.WAKE_UP_TICKS;
+    }
+
+    /**
+     * Gets if this entity is currently running its full tick.
+     *
+     * @return false if the entity is inactive because no player is within its activation range
+     * @see Instance#getActivationRange(EntityType)
+     */
+    public boolean isAwake() {
+        final Instance instance = this.instance;
+        return instance == null || isAwake(instance.getActivationRange(entityType));
+    }
+
     private void velocityTick() {
         this.gravityTickCount = onGround ? 0 : gravityTickCount + 1;
         if (vehicle != null) return;
@@ -942,6 +1008,7 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
         EntityVelocityEvent entityVelocityEvent = new EntityVelocityEvent(this, velocity);
         EventDispatcher.callCancellable(entityVelocityEvent, () -> {
             this.velocity = entityVelocityEvent.getVelocity();
+            wakeUp();
             sendPacketToViewersAndSelf(getVelocityPacket());
         });
     }
@@ -2,6 +2,7 @@ package net.minestom.server.entity;
 
 import com.extollit.gaming.ai.path.HydrazinePathFinder;
 import net.minestom.server.coordinate.Pos;
+import net.minestom.server.entity.ai.AIScheduler;
 import net.minestom.server.entity.ai.EntityAI;
 import net.minestom.server.entity.ai.EntityAIGroup;
 import net.minestom.server.entity.pathfinding.NavigableEntity;
@@ -45,7 +46,7 @@ public class EntityCreature extends LivingEntity implements NavigableEntity, Ent
     @Override
     public void update(long time) {
         // AI
-        aiTick(time);
+        if (AIScheduler.shouldTick(this)) aiTick(time);
 
         // Path finding
         this.navigator.tick();
@@ -1,6 +1,5 @@
 package net.minestom.server.entity;
 
-import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.ints.IntIterator;
 import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
 import it.unimi.dsi.fastutil.ints.IntSet;
@@ -101,6 +100,11 @@ final class EntityView {
         }
     }
 
+    public void updateScheduledRules() {
+        viewableOption.updateScheduled();
+        viewerOption.updateScheduled();
+    }
+
     public boolean hasPredictableViewers() {
         // Verify if this entity's viewers can be predicted from surrounding entities
         synchronized (mutex) {
@@ -141,6 +145,8 @@ final class EntityView {
         // The custom rule used to determine if an entity is viewable.
         // null if auto-viewable
         private Predicate<T> predicate = null;
+        // True if the rule has to be evaluated again during the next tick
+        private volatile boolean scheduled;
 
         public Option(EntityTracker.Target<T> target, Predicate<T> loopPredicate,
                       Consumer<T> addition, Consumer<T> removal) {
@@ -176,7 +182,9 @@ final class EntityView {
             final boolean previous = UPDATER.getAndSet(this, autoViewable ? 1 : 0) == 1;
             if (previous != autoViewable) {
                 synchronized (mutex) {
-                    if (autoViewable) update(loopPredicate, addition);
+                    if (autoViewable) update(loopPredicate, entity -> {
+                        if (!isRegistered(entity)) addition.accept(entity);
+                    });
                     else update(this::isRegistered, removal);
                 }
             }
@@ -195,6 +203,19 @@ final class EntityView {
             }
         }
 
+        /**
+         * Evaluates the rule again during the next tick of the entity, once whatever the number of calls.
+         */
+        public void scheduleUpdate() {
+            this.scheduled = true;
+        }
+
+        void updateScheduled() {
+            if (!scheduled) return;
+            this.scheduled = false;
+            updateRule();
+        }
+
         void updateRule0(Predicate<T> predicate) {
             if (predicate == null) {
                 update(loopPredicate, entity -> {
@@ -213,28 +234,17 @@ final class EntityView {
 
         private void update(Predicate<T> visibilityPredicate,
                             Consumer<T> action) {
-            references().forEach(entity -> {
+            final TrackedLocation trackedLocation = EntityView.this.trackedLocation;
+            if (trackedLocation == null) return;
+            // The chunk lists are iterated directly, an entity moving to another chunk can be visited twice.
+            // Actions are only applied if the entity is not already in the expected state.
+            trackedLocation.instance().getEntityTracker().nearbyEntitiesByChunkRange(trackedLocation.point(), RANGE, target, entity -> {
                 if (entity == EntityView.this.entity || !visibilityPredicate.test(entity)) return;
                 if (entity instanceof Player player && manualViewers.contains(player)) return;
                 if (entity.getVehicle() != null) return;
                 action.accept(entity);
             });
         }
-
-        private int lastSize;
-
-        private Collection<T> references() {
-            final TrackedLocation trackedLocation = EntityView.this.trackedLocation;
-            if (trackedLocation == null) return List.of();
-            final Instance instance = trackedLocation.instance();
-            final Point point = trackedLocation.point();
-
-            Int2ObjectOpenHashMap<T> entityMap = new Int2ObjectOpenHashMap<>(lastSize);
-            instance.getEntityTracker().nearbyEntitiesByChunkRange(point, RANGE, target,
-                    (entity) -> entityMap.putIfAbsent(entity.getEntityId(), entity));
-            this.lastSize = entityMap.size();
-            return entityMap.values();
-        }
     }
 
     final class SetImpl extends AbstractSet<Player> {
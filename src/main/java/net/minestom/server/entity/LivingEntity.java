@@ -328,6 +328,7 @@ public class LivingEntity extends Entity implements EquipmentHandler {
         EventDispatcher.callCancellable(entityDamageEvent, () -> {
             // Set the last damage type since the event is not cancelled
             this.lastDamageSource = entityDamageEvent.getDamageType();
+            wakeUp();
 
             float remainingDamage = entityDamageEvent.getDamage();
 
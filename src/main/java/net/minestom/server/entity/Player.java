@@ -547,7 +547,7 @@ public class Player extends LivingEntity implements CommandSender, Localizable,
      * again, and any changes will be visible to the player.
      */
     public void refreshCommands() {
-        sendPacket(MinecraftServer.getCommandManager().createDeclareCommandsPacket(this));
+        sendPacket(MinecraftServer.getCommandManager().getDeclareCommandsPacket(this));
     }
 
     @Override
@@ -0,0 +1,79 @@
+package net.minestom.server.entity.ai;
+
+import net.minestom.server.entity.ActivationRange;
+import net.minestom.server.entity.EntityCreature;
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.thread.TickThread;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Decides whether the AI of a creature runs during the current tick.
+ * <p>
+ * Creatures far from players are throttled by their {@link ActivationRange}: the AI only runs during full ticks,
+ * see {@link net.minestom.server.entity.Entity#isAwake()}.
+ * <p>
+ * The number of AI ticks per partition (chunk) and tick can be capped using {@code minestom.ai.partition-budget}
+ * (unlimited by default). Creatures over the budget are deferred, and served first during the next tick:
+ * the served creatures of a partition rotate like a queue.
+ */
+@ApiStatus.Internal
+public final class AIScheduler {
+    private static final int PARTITION_BUDGET = Integer.getInteger("minestom.ai.partition-budget", 0);
+
+    // Partitions are ticked by a single thread at a time
+    private static final ThreadLocal<Map<Chunk, Budget>> BUDGETS = ThreadLocal.withInitial(WeakHashMap::new);
+
+    private AIScheduler() {
+    }
+
+    /**
+     * Gets if the AI of a creature has to run.
+     *
+     * @param creature the creature about to be ticked
+     * @return true to tick the AI
+     */
+    public static boolean shouldTick(@NotNull EntityCreature creature) {
+        if (PARTITION_BUDGET <= 0) return true;
+        final TickThread thread = TickThread.current();
+        final Chunk chunk = creature.getChunk();
+        if (thread == null || chunk == null) return true;
+        return BUDGETS.get().computeIfAbsent(chunk, c -> new Budget()).acquire(thread.getTick());
+    }
+
+    private static final class Budget {
+        private long tick = Long.MIN_VALUE;
+        // Creatures of the partition seen during the current tick
+        private int index;
+        private int served;
+        // Creatures seen during the previous tick
+        private int count;
+        // Index of the first creature to serve
+        private int start;
+
+        boolean acquire(long tick) {
+            if (this.tick != tick) {
+                if (this.tick == tick - 1 && index > 0) {
+                    // Continue after the last served creature
+                    this.start = (start + PARTITION_BUDGET) % index;
+                    this.count = index;
+                } else {
+                    this.start = 0;
+                    this.count = 0;
+                }
+                this.tick = tick;
+                this.index = 0;
+                this.served = 0;
+            }
+            final int index = this.index++;
+            if (served >= PARTITION_BUDGET) return false;
+            final int count = this.count;
+            if (count != 0 && Math.floorMod(index % count - start, count) >= PARTITION_BUDGET) return false;
+            this.served++;
+            return true;
+        }
+    }
+}
@@ -19,6 +19,7 @@ public class EntityAIGroup {
     private GoalSelector currentGoalSelector;
     private final List<GoalSelector> goalSelectors = new GoalSelectorsArrayList();
     private final List<TargetSelector> targetSelectors = new ArrayList<>();
+    private long tick;
 
     /**
      * Gets the goal selectors of this group.
@@ -67,6 +68,7 @@ public class EntityAIGroup {
     }
 
     public void tick(long time) {
+        final long tick = ++this.tick;
         GoalSelector currentGoalSelector = getCurrentGoalSelector();
 
         if (currentGoalSelector != null && currentGoalSelector.shouldEnd()) {
@@ -79,7 +81,7 @@ public class EntityAIGroup {
             if (selector == currentGoalSelector) {
                 break;
             }
-            if (selector.shouldStart()) {
+            if (selector.shouldEvaluate(tick) && selector.shouldStart()) {
                 if (currentGoalSelector != null) {
                     currentGoalSelector.end();
                 }
@@ -95,6 +97,13 @@ public class EntityAIGroup {
         }
     }
 
+    /**
+     * Gets the number of times this group has been ticked.
+     */
+    long currentTick() {
+        return tick;
+    }
+
     /**
      * The purpose of this list is to guarantee that every {@link GoalSelector} added to that group
      * has a reference to it for some internal interactions. We don't provide developers with
@@ -2,16 +2,23 @@ package net.minestom.server.entity.ai;
 
 import net.minestom.server.entity.Entity;
 import net.minestom.server.entity.EntityCreature;
+import net.minestom.server.utils.validate.Check;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.ref.WeakReference;
+import java.util.concurrent.ThreadLocalRandom;
 
 public abstract class GoalSelector {
+    private static final int DEFAULT_START_INTERVAL = Integer.getInteger("minestom.ai.goal-interval", 1);
 
     private WeakReference<EntityAIGroup> aiGroupWeakReference;
     protected EntityCreature entityCreature;
 
+    private int startInterval = DEFAULT_START_INTERVAL;
+    // Spreads the evaluations of the creatures across ticks
+    private final int startOffset = ThreadLocalRandom.current().nextInt(1 << 16);
+
     public GoalSelector(@NotNull EntityCreature entityCreature) {
         this.entityCreature = entityCreature;
     }
@@ -47,6 +54,32 @@ public abstract class GoalSelector {
      */
     public abstract void end();
 
+    /**
+     * Gets the number of ticks between two calls to {@link #shouldStart()}.
+     *
+     * @return the start interval in ticks
+     */
+    public int getStartInterval() {
+        return startInterval;
+    }
+
+    /**
+     * Changes the number of ticks between two calls to {@link #shouldStart()}, 1 to check every tick.
+     * <p>
+     * The default value is read from the {@code minestom.ai.goal-interval} system property (1 by default).
+     * Creatures are not all checked during the same tick.
+     *
+     * @param startInterval the start interval in ticks
+     */
+    public void setStartInterval(int startInterval) {
+        Check.argCondition(startInterval < 1, "The start interval must be positive");
+        this.startInterval = startInterval;
+    }
+
+    boolean shouldEvaluate(long tick) {
+        return startInterval == 1 || (tick + startOffset) % startInterval == 0;
+    }
+
     /**
      * Finds a target based on the entity {@link TargetSelector}.
      *
@@ -58,8 +91,9 @@ public abstract class GoalSelector {
         if (aiGroup == null) {
             return null;
         }
+        final long tick = aiGroup.currentTick();
         for (TargetSelector targetSelector : aiGroup.getTargetSelectors()) {
-            final Entity entity = targetSelector.findTarget();
+            final Entity entity = targetSelector.findTarget(tick);
             if (entity != null) {
                 return entity;
             }
@@ -2,6 +2,7 @@ package net.minestom.server.entity.ai;
 
 import net.minestom.server.entity.Entity;
 import net.minestom.server.entity.EntityCreature;
+import net.minestom.server.utils.validate.Check;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -11,8 +12,15 @@ import org.jetbrains.annotations.Nullable;
  */
 public abstract class TargetSelector {
 
+    private static final int DEFAULT_INTERVAL = Integer.getInteger("minestom.ai.target-interval", 1);
+
     protected final EntityCreature entityCreature;
 
+    private int interval = DEFAULT_INTERVAL;
+    // Tick of the last search, 0 if none (group ticks start at 1)
+    private long lastSearch;
+    private Entity lastTarget;
+
     public TargetSelector(@NotNull EntityCreature entityCreature) {
         this.entityCreature = entityCreature;
     }
@@ -28,6 +36,41 @@ public abstract class TargetSelector {
     @Nullable
     public abstract Entity findTarget();
 
+    /**
+     * Gets the number of ticks during which the result of {@link #findTarget()} is reused.
+     *
+     * @return the search interval in ticks
+     */
+    public int getInterval() {
+        return interval;
+    }
+
+    /**
+     * Changes the number of ticks during which the result of {@link #findTarget()} is reused,
+     * as long as the target is still in the instance. 1 to search every time.
+     * <p>
+     * The default value is read from the {@code minestom.ai.target-interval} system property (1 by default).
+     *
+     * @param interval the search interval in ticks
+     */
+    public void setInterval(int interval) {
+        Check.argCondition(interval < 1, "The interval must be positive");
+        this.interval = interval;
+    }
+
+    @Nullable Entity findTarget(long tick) {
+        if (interval > 1 && lastSearch != 0 && tick >= lastSearch && tick - lastSearch < interval) {
+            final Entity target = this.lastTarget;
+            if (target == null || (!target.isRemoved() && target.getInstance() == entityCreature.getInstance())) {
+                return target;
+            }
+        }
+        final Entity target = findTarget();
+        this.lastSearch = tick;
+        this.lastTarget = target;
+        return target;
+    }
+
     /**
      * Gets the entity linked to this target selector.
      *
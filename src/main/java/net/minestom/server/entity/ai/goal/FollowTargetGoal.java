@@ -61,7 +61,7 @@ public class FollowTargetGoal extends GoalSelector {
             return;
         }
         if (navigator.getPathPosition() == null || !navigator.getPathPosition().samePoint(lastTargetPos)) {
-            navigator.setPathTo(lastTargetPos);
+            navigator.follow(target);
         } else {
             forceEnd = true;
         }
@@ -74,11 +74,12 @@ public class FollowTargetGoal extends GoalSelector {
                 pathDuration.toMillis() + lastUpdateTime > time) {
             return;
         }
-        final Pos targetPos = entityCreature.getTarget() != null ? entityCreature.getTarget().getPosition() : null;
+        final Entity currentTarget = entityCreature.getTarget();
+        final Pos targetPos = currentTarget != null ? currentTarget.getPosition() : null;
         if (targetPos != null && !targetPos.samePoint(lastTargetPos)) {
             this.lastUpdateTime = time;
             this.lastTargetPos = targetPos;
-            this.entityCreature.getNavigator().setPathTo(targetPos);
+            this.entityCreature.getNavigator().follow(currentTarget);
         }
     }
 
@@ -5,7 +5,6 @@ import net.minestom.server.entity.EntityCreature;
 import net.minestom.server.entity.ai.GoalSelector;
 import net.minestom.server.entity.ai.TargetSelector;
 import net.minestom.server.entity.pathfinding.Navigator;
-import net.minestom.server.coordinate.Point;
 import net.minestom.server.utils.time.Cooldown;
 import net.minestom.server.utils.time.TimeUnit;
 import org.jetbrains.annotations.NotNull;
@@ -61,8 +60,7 @@ public class MeleeAttackGoal extends GoalSelector {
 
     @Override
     public void start() {
-        final Point targetPosition = this.cachedTarget.getPosition();
-        entityCreature.getNavigator().setPathTo(targetPosition);
+        entityCreature.getNavigator().follow(this.cachedTarget);
     }
 
     @Override
@@ -96,7 +94,7 @@ public class MeleeAttackGoal extends GoalSelector {
             if (pathPosition == null || !pathPosition.samePoint(targetPosition)) {
                 if (this.cooldown.isReady(time)) {
                     this.cooldown.refreshLastUpdate(time);
-                    navigator.setPathTo(targetPosition);
+                    navigator.follow(target);
                 }
             }
         }
@@ -1,13 +1,14 @@
 package net.minestom.server.entity.ai.target;
 
+import net.minestom.server.coordinate.Pos;
 import net.minestom.server.entity.Entity;
 import net.minestom.server.entity.EntityCreature;
 import net.minestom.server.entity.LivingEntity;
 import net.minestom.server.entity.ai.TargetSelector;
+import net.minestom.server.instance.EntityTracker;
 import net.minestom.server.instance.Instance;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Comparator;
 import java.util.function.Predicate;
 
 /**
@@ -60,13 +61,20 @@ public class ClosestEntityTarget extends TargetSelector {
             return null;
         }
 
-        return instance.getNearbyEntities(entityCreature.getPosition(), range).stream()
-                // Don't target our self and make sure entity is valid
-                .filter(ent -> !entityCreature.equals(ent) && !ent.isRemoved())
-                .filter(targetPredicate)
-                .min(Comparator.comparingDouble(e -> e.getDistanceSquared(entityCreature)))
-                .orElse(null);
-
+        // Avoid collecting and sorting the nearby entities
+        final Pos position = entityCreature.getPosition();
+        final Entity[] closest = new Entity[1];
+        final double[] closestDistance = {Double.MAX_VALUE};
+        instance.getEntityTracker().nearbyEntities(position, range, EntityTracker.Target.ENTITIES, ent -> {
+            // Don't target our self and make sure entity is valid
+            if (entityCreature.equals(ent) || ent.isRemoved()) return;
+            final double distance = ent.getPosition().distanceSquared(position);
+            if (distance < closestDistance[0] && targetPredicate.test(ent)) {
+                closestDistance[0] = distance;
+                closest[0] = ent;
+            }
+        });
+        return closest[0];
     }
 
 }
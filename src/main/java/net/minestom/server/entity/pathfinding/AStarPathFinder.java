@@ -0,0 +1,270 @@
+package net.minestom.server.entity.pathfinding;
+
+import net.minestom.server.collision.BoundingBox;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.thread.ServerExecutors;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static net.minestom.server.entity.pathfinding.NavigationGrid.*;
+
+/**
+ * A* search over the blocks of a {@link NavigationCache}.
+ * <p>
+ * Nodes are pooled per thread in parallel primitive arrays, found using an open-addressing table of packed positions.
+ * The open set is a binary heap of node indices and the closed set a flag per node, nodes are never allocated.
+ * <p>
+ * Movements are described in {@link NavigationGrid}.
+ * A search gives up after {@code minestom.pathfinding.max-nodes} nodes (4096 by default).
+ */
+@ApiStatus.Experimental
+public final class AStarPathFinder {
+    static final int MAX_NODES = Integer.getInteger("minestom.pathfinding.max-nodes", 4096);
+
+    // Prefer nodes closer to the goal when costs are equal
+    private static final float HEURISTIC_WEIGHT = 1.001f;
+
+    private static final ThreadLocal<Search> SEARCH = ThreadLocal.withInitial(Search::new);
+
+    private AStarPathFinder() {
+    }
+
+    /**
+     * Finds the path of an entity to a position.
+     *
+     * @param cache       the blocks of the instance
+     * @param start       the entity position
+     * @param target      the position to reach
+     * @param boundingBox the entity bounding box
+     * @param bestEffort  whether to return the path to the closest reachable position if the target cannot be reached
+     * @return the positions to walk through, excluding the start position, null if no path has been found
+     */
+    public static @Nullable List<Vec> findPath(@NotNull NavigationCache cache, @NotNull Point start, @NotNull Point target,
+                                               @NotNull BoundingBox boundingBox, boolean bestEffort) {
+        return SEARCH.get().find(cache, start, target, boundingBox, bestEffort);
+    }
+
+    /**
+     * Finds a path in the {@link ServerExecutors#pathfinding() pathfinding pool}.
+     * <p>
+     * The blocks are read while the instance is ticking, the path may be slightly outdated once retrieved.
+     *
+     * @see #findPath(NavigationCache, Point, Point, BoundingBox, boolean)
+     */
+    public static @NotNull CompletableFuture<@Nullable List<Vec>> findPathAsync(@NotNull NavigationCache cache,
+                                                                                @NotNull Point start, @NotNull Point target,
+                                                                                @NotNull BoundingBox boundingBox, boolean bestEffort) {
+        return CompletableFuture.supplyAsync(() -> findPath(cache, start, target, boundingBox, bestEffort), ServerExecutors.pathfinding());
+    }
+
+    private static final class Search {
+        // Position -> node table, slots of previous searches are recognized by their generation
+        private final int tableMask;
+        private final long[] tableKeys;
+        private final int[] tableNodes;
+        private final int[] tableGenerations;
+        private int generation;
+
+        // Nodes
+        private final int[] nodeX = new int[MAX_NODES], nodeY = new int[MAX_NODES], nodeZ = new int[MAX_NODES];
+        private final int[] parent = new int[MAX_NODES];
+        private final float[] cost = new float[MAX_NODES], score = new float[MAX_NODES];
+        private final boolean[] closed = new boolean[MAX_NODES];
+        // Position of the node in the heap, -1 once removed
+        private final int[] heapIndex = new int[MAX_NODES];
+        private int nodeCount;
+
+        // Open set
+        private final int[] heap = new int[MAX_NODES];
+        private int heapSize;
+
+        // Current search
+        private NavigationGrid grid;
+        private int goalX, goalY, goalZ;
+
+        Search() {
+            final int capacity = Integer.highestOneBit(MAX_NODES * 4 - 1);
+            this.tableMask = capacity - 1;
+            this.tableKeys = new long[capacity];
+            this.tableNodes = new int[capacity];
+            this.tableGenerations = new int[capacity];
+        }
+
+        @Nullable List<Vec> find(NavigationCache cache, Point start, Point target, BoundingBox boundingBox, boolean bestEffort) {
+            this.grid = new NavigationGrid(cache, boundingBox);
+            try {
+                return search(start, target, bestEffort);
+            } finally {
+                this.grid = null;
+            }
+        }
+
+        private @Nullable List<Vec> search(Point start, Point target, boolean bestEffort) {
+            final NavigationGrid grid = this.grid;
+            final int startX = grid.nodeCoordinate(start.x()), startZ = grid.nodeCoordinate(start.z());
+            final int startY = grid.snap(startX, nodeY(start.y()), startZ);
+            this.goalX = grid.nodeCoordinate(target.x());
+            this.goalZ = grid.nodeCoordinate(target.z());
+            final int targetY = nodeY(target.y());
+            this.goalY = grid.snap(goalX, targetY, goalZ);
+            if (goalY == NONE) {
+                // Unreachable target, only the closest position can be found
+                if (!bestEffort) return null;
+                this.goalY = targetY;
+            }
+
+            newGeneration();
+            this.nodeCount = 0;
+            this.heapSize = 0;
+            final int startNode = addNode(startX, startY != NONE ? startY : nodeY(start.y()), startZ, -1, 0);
+            int bestNode = startNode;
+            float bestHeuristic = Float.MAX_VALUE;
+            while (heapSize > 0) {
+                final int node = poll();
+                final int x = nodeX[node], y = nodeY[node], z = nodeZ[node];
+                if (x == goalX && y == goalY && z == goalZ) return buildPath(node);
+                final float heuristic = heuristic(x, y, z);
+                if (heuristic < bestHeuristic) {
+                    bestHeuristic = heuristic;
+                    bestNode = node;
+                }
+                closed[node] = true;
+                expand(node, x, y, z);
+            }
+            // Exhausted or too many nodes
+            return bestEffort && bestNode != startNode ? buildPath(bestNode) : null;
+        }
+
+        private void expand(int node, int x, int y, int z) {
+            final NavigationGrid grid = this.grid;
+            for (int direction = 0; direction < DIRECTION_X.length; direction++) {
+                final int ny = grid.move(x, y, z, direction);
+                if (ny != NONE) {
+                    visit(node, x + DIRECTION_X[direction], ny, z + DIRECTION_Z[direction], cost(direction, ny - y));
+                }
+            }
+        }
+
+        private void visit(int parentNode, int x, int y, int z, float moveCost) {
+            final float newCost = cost[parentNode] + moveCost;
+            final long key = key(x, y, z);
+            int slot = slot(key);
+            while (tableGenerations[slot] == generation) {
+                if (tableKeys[slot] == key) {
+                    final int node = tableNodes[slot];
+                    if (closed[node] || newCost >= cost[node]) return;
+                    parent[node] = parentNode;
+                    score[node] -= cost[node] - newCost;
+                    cost[node] = newCost;
+                    siftUp(heapIndex[node]);
+                    return;
+                }
+                slot = (slot + 1) & tableMask;
+            }
+            if (nodeCount == MAX_NODES) return;
+            addNode(x, y, z, parentNode, newCost);
+        }
+
+        private int addNode(int x, int y, int z, int parentNode, float nodeCost) {
+            final int node = nodeCount++;
+            nodeX[node] = x;
+            nodeY[node] = y;
+            nodeZ[node] = z;
+            parent[node] = parentNode;
+            cost[node] = nodeCost;
+            score[node] = nodeCost + heuristic(x, y, z) * HEURISTIC_WEIGHT;
+            closed[node] = false;
+            // Table
+            final long key = key(x, y, z);
+            int slot = slot(key);
+            while (tableGenerations[slot] == generation) slot = (slot + 1) & tableMask;
+            tableGenerations[slot] = generation;
+            tableKeys[slot] = key;
+            tableNodes[slot] = node;
+            // Open set
+            final int index = heapSize++;
+            heap[index] = node;
+            heapIndex[node] = index;
+            siftUp(index);
+            return node;
+        }
+
+        private List<Vec> buildPath(int node) {
+            int length = 0;
+            for (int current = node; parent[current] != -1; current = parent[current]) length++;
+            final Vec[] path = new Vec[length];
+            for (int current = node; parent[current] != -1; current = parent[current]) {
+                path[--length] = grid.waypoint(nodeX[current], nodeY[current], nodeZ[current]);
+            }
+            return List.of(path);
+        }
+
+        private float heuristic(int x, int y, int z) {
+            final int dx = Math.abs(x - goalX), dz = Math.abs(z - goalZ);
+            return Math.max(dx, dz) + (DIAGONAL_COST - 1) * Math.min(dx, dz) + VERTICAL_COST * Math.abs(y - goalY);
+        }
+
+        private int poll() {
+            final int node = heap[0];
+            heapIndex[node] = -1;
+            final int last = heap[--heapSize];
+            if (heapSize > 0) {
+                heap[0] = last;
+                heapIndex[last] = 0;
+                siftDown(0);
+            }
+            return node;
+        }
+
+        private void siftUp(int index) {
+            final int node = heap[index];
+            final float nodeScore = score[node];
+            while (index > 0) {
+                final int parentIndex = (index - 1) >>> 1;
+                final int parentNode = heap[parentIndex];
+                if (score[parentNode] <= nodeScore) break;
+                heap[index] = parentNode;
+                heapIndex[parentNode] = index;
+                index = parentIndex;
+            }
+            heap[index] = node;
+            heapIndex[node] = index;
+        }
+
+        private void siftDown(int index) {
+            final int node = heap[index];
+            final float nodeScore = score[node];
+            final int half = heapSize >>> 1;
+            while (index < half) {
+                int child = 2 * index + 1;
+                final int right = child + 1;
+                if (right < heapSize && score[heap[right]] < score[heap[child]]) child = right;
+                final int childNode = heap[child];
+                if (nodeScore <= score[childNode]) break;
+                heap[index] = childNode;
+                heapIndex[childNode] = index;
+                index = child;
+            }
+            heap[index] = node;
+            heapIndex[node] = index;
+        }
+
+        private void newGeneration() {
+            if (++generation == 0) {
+                Arrays.fill(tableGenerations, 0);
+                this.generation = 1;
+            }
+        }
+
+        private int slot(long key) {
+            final long hash = key * 0x9E3779B97F4A7C15L;
+            return (int) (hash ^ (hash >>> 32)) & tableMask;
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package net.minestom.server.entity.pathfinding;
+
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.entity.Entity;
+import net.minestom.server.thread.ServerExecutors;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+
+import static net.minestom.server.entity.pathfinding.NavigationGrid.*;
+
+/**
+ * Distances to a target from the walkable positions around it (a Dijkstra map),
+ * shared by all the entities of the same size moving toward it.
+ * <p>
+ * The field covers {@code minestom.pathfinding.flow-field.radius} blocks around the target (32 by default),
+ * entities outside of it have to find their own path. It is first computed in the pathfinding pool once used,
+ * entities also find their own path until it is ready. It is computed again
+ * once the target moves to another block or blocks change, at most every
+ * {@code minestom.pathfinding.flow-field.interval} ticks (5 by default), entities follow the previous field meanwhile.
+ *
+ * @see FlowFields
+ */
+@ApiStatus.Experimental
+public final class FlowField {
+    static final int RADIUS = Integer.getInteger("minestom.pathfinding.flow-field.radius", 32);
+    static final int INTERVAL = Integer.getInteger("minestom.pathfinding.flow-field.interval", 5);
+
+    // Heights to look for the entity node, standing on a partial block or falling
+    private static final int[] SEARCH_OFFSETS = {0, 1, -1, -2};
+
+    private final FlowFields owner;
+    private final NavigationCache cache;
+    private final NavigationGrid grid;
+    private final Entity targetEntity;
+    private final Point targetPoint;
+
+    private volatile Field field;
+    private volatile CompletableFuture<Void> firstComputation;
+    // Accessed by the instance tick only
+    private CompletableFuture<Void> computation;
+    private long lastComputation;
+
+    volatile long lastUse;
+
+    FlowField(@NotNull FlowFields owner, @NotNull NavigationCache cache, @NotNull NavigationGrid grid,
+              @Nullable Entity targetEntity, @NotNull Point targetPoint) {
+        this.owner = owner;
+        this.cache = cache;
+        this.grid = grid;
+        this.targetEntity = targetEntity;
+        this.targetPoint = targetPoint;
+    }
+
+    /**
+     * Gets the position of the target, updated as the target entity moves.
+     *
+     * @return the target position
+     */
+    public @NotNull Point getTargetPosition() {
+        return targetEntity != null ? targetEntity.getPosition() : targetPoint;
+    }
+
+    /**
+     * Gets if the field can still be followed, its target entity may have been removed.
+     *
+     * @return true if the target is still in the instance
+     */
+    public boolean isValid() {
+        return targetEntity == null || (!targetEntity.isRemoved() && targetEntity.getInstance() == owner.instance());
+    }
+
+    /**
+     * Gets the next position to walk to from a position.
+     *
+     * @param position the entity position
+     * @return the next position, the target position once reached,
+     * null if the position is outside the field, cannot reach the target, or if the field is not computed yet
+     */
+    public @Nullable Point next(@NotNull Point position) {
+        this.lastUse = owner.currentTick();
+        final Field field = this.field;
+        if (field == null) {
+            whenComputed();
+            return null;
+        }
+        final NavigationGrid grid = this.grid;
+        final int x = grid.nodeCoordinate(position.x()), y = nodeY(position.y()), z = grid.nodeCoordinate(position.z());
+        for (int offset : SEARCH_OFFSETS) {
+            final int node = field.nodes.get(key(x, y + offset, z));
+            if (node == -1) continue;
+            final int next = field.next[node];
+            if (next == -1) return getTargetPosition();
+            return grid.waypoint(field.x[next], field.y[next], field.z[next]);
+        }
+        return null;
+    }
+
+    /**
+     * Starts a new computation if the field is outdated.
+     */
+    void update(long tick) {
+        final Field field = this.field;
+        if (field == null) return; // Computed once used
+        final CompletableFuture<Void> computation = this.computation;
+        if (computation != null && !computation.isDone()) return;
+        if (tick - lastComputation < INTERVAL) return;
+        final int version = cache.version();
+        final Point target = getTargetPosition();
+        final int targetX = grid.nodeCoordinate(target.x()), targetZ = grid.nodeCoordinate(target.z());
+        final int targetY = targetY(targetX, target.y(), targetZ);
+        if (field.targetX == targetX && field.targetY == targetY && field.targetZ == targetZ && field.version == version) {
+            return;
+        }
+        this.lastComputation = tick;
+        this.computation = CompletableFuture
+                .supplyAsync(() -> compute(targetX, targetY, targetZ, version), ServerExecutors.pathfinding())
+                .thenAccept(result -> this.field = result)
+                .exceptionally(throwable -> {
+                    MinecraftServer.getExceptionManager().handleException(throwable);
+                    return null;
+                });
+    }
+
+    /**
+     * Starts the first computation of the field if needed.
+     *
+     * @return a future completed once the field has been computed for the first time
+     */
+    @NotNull CompletableFuture<Void> whenComputed() {
+        CompletableFuture<Void> computation = this.firstComputation;
+        if (computation != null) return computation;
+        synchronized (this) {
+            computation = this.firstComputation;
+            if (computation != null) return computation;
+            final int version = cache.version();
+            final Point target = getTargetPosition();
+            final int targetX = grid.nodeCoordinate(target.x()), targetZ = grid.nodeCoordinate(target.z());
+            final int targetY = targetY(targetX, target.y(), targetZ);
+            computation = CompletableFuture
+                    .supplyAsync(() -> compute(targetX, targetY, targetZ, version), ServerExecutors.pathfinding())
+                    .thenAccept(result -> this.field = result)
+                    .exceptionally(throwable -> {
+                        MinecraftServer.getExceptionManager().handleException(throwable);
+                        return null;
+                    });
+            this.firstComputation = computation;
+            return computation;
+        }
+    }
+
+    private int targetY(int x, double y, int z) {
+        final int targetY = grid.snap(x, nodeY(y), z);
+        return targetY != NONE ? targetY : nodeY(y);
+    }
+
+    /**
+     * Dijkstra from the target, following the movements backward.
+     */
+    private Field compute(int targetX, int targetY, int targetZ, int version) {
+        final NavigationGrid grid = this.grid;
+        final Field field = new Field(targetX, targetY, targetZ, version);
+        final Heap heap = new Heap();
+        heap.push(field.add(targetX, targetY, targetZ, 0, -1), 0);
+        while (heap.size > 0) {
+            final float distance = heap.peekScore();
+            final int node = heap.pop();
+            if (field.done[node] || distance > field.distance[node]) continue;
+            field.done[node] = true;
+            final int x = field.x[node], y = field.y[node], z = field.z[node];
+            for (int direction = 0; direction < DIRECTION_X.length; direction++) {
+                final int px = x - DIRECTION_X[direction], pz = z - DIRECTION_Z[direction];
+                if (Math.abs(px - targetX) > RADIUS || Math.abs(pz - targetZ) > RADIUS) continue;
+                final boolean diagonal = DIRECTION_X[direction] != 0 && DIRECTION_Z[direction] != 0;
+                // Positions from which the movement lands on the node: same height, step up or fall
+                final int minY = diagonal ? y : y - 1, maxY = diagonal ? y : y + MAX_FALL;
+                for (int py = minY; py <= maxY; py++) {
+                    if (!grid.canStand(px, py, pz) || grid.move(px, py, pz, direction) != y) continue;
+                    final float newDistance = distance + cost(direction, y - py);
+                    final long key = key(px, py, pz);
+                    int previous = field.nodes.get(key);
+                    if (previous == -1) {
+                        previous = field.add(px, py, pz, newDistance, node);
+                    } else if (field.done[previous] || newDistance >= field.distance[previous]) {
+                        continue;
+                    } else {
+                        field.distance[previous] = newDistance;
+                        field.next[previous] = node;
+                    }
+                    heap.push(previous, newDistance);
+                }
+            }
+        }
+        return field;
+    }
+
+    private static final class Field {
+        final int targetX, targetY, targetZ, version;
+        final Long2IntOpenHashMap nodes = new Long2IntOpenHashMap();
+        int[] x = new int[256], y = new int[256], z = new int[256];
+        // Node to walk to, -1 for the target
+        int[] next = new int[256];
+        float[] distance = new float[256];
+        boolean[] done = new boolean[256];
+        int size;
+
+        Field(int targetX, int targetY, int targetZ, int version) {
+            this.targetX = targetX;
+            this.targetY = targetY;
+            this.targetZ = targetZ;
+            this.version = version;
+            this.nodes.defaultReturnValue(-1);
+        }
+
+        int add(int x, int y, int z, float distance, int next) {
+            final int node = size++;
+            if (node == this.x.length) {
+                final int length = node * 2;
+                this.x = Arrays.copyOf(this.x, length);
+                this.y = Arrays.copyOf(this.y, length);
+                this.z = Arrays.copyOf(this.z, length);
+                this.next = Arrays.copyOf(this.next, length);
+                this.distance = Arrays.copyOf(this.distance, length);
+                this.done = Arrays.copyOf(this.done, length);
+            }
+            this.x[node] = x;
+            this.y[node] = y;
+            this.z[node] = z;
+            this.next[node] = next;
+            this.distance[node] = distance;
+            this.nodes.put(key(x, y, z), node);
+            return node;
+        }
+    }
+
+    /**
+     * Binary heap of nodes, entries are not updated but pushed again with their new score.
+     */
+    private static final class Heap {
+        private int[] nodes = new int[256];
+        private float[] scores = new float[256];
+        private int size;
+
+        void push(int node, float score) {
+            if (size == nodes.length) {
+                this.nodes = Arrays.copyOf(nodes, size * 2);
+                this.scores = Arrays.copyOf(scores, size * 2);
+            }
+            int index = size++;
+            while (index > 0) {
+                final int parent = (index - 1) >>> 1;
+                if (scores[parent] <= score) break;
+                nodes[index] = nodes[parent];
+                scores[index] = scores[parent];
+                index = parent;
+            }
+            nodes[index] = node;
+            scores[index] = score;
+        }
+
+        float peekScore() {
+            return scores[0];
+        }
+
+        int pop() {
+            final int result = nodes[0];
+            final int lastNode = nodes[--size];
+            final float lastScore = scores[size];
+            int index = 0;
+            final int half = size >>> 1;
+            while (index < half) {
+                int child = 2 * index + 1;
+                if (child + 1 < size && scores[child + 1] < scores[child]) child++;
+                if (lastScore <= scores[child]) break;
+                nodes[index] = nodes[child];
+                scores[index] = scores[child];
+                index = child;
+            }
+            nodes[index] = lastNode;
+            scores[index] = lastScore;
+            return result;
+        }
+    }
+}
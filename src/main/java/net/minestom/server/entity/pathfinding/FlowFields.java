@@ -0,0 +1,87 @@
+package net.minestom.server.entity.pathfinding;
+
+import net.minestom.server.collision.BoundingBox;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.entity.Entity;
+import net.minestom.server.instance.Instance;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The {@link FlowField flow fields} of an instance, one per target and entity size.
+ * <p>
+ * Fields are updated during the instance tick, and forgotten once unused for {@value #EXPIRATION} ticks.
+ */
+@ApiStatus.Experimental
+public final class FlowFields {
+    private static final int EXPIRATION = 100;
+
+    private final Instance instance;
+    private final NavigationCache cache;
+    private final Map<Key, FlowField> fields = new ConcurrentHashMap<>();
+    private volatile long tick;
+
+    /**
+     * Creates the flow fields of an instance.
+     *
+     * @param instance the instance of the moving entities
+     * @param cache    the blocks of the instance, shared with its container for a shared instance
+     */
+    public FlowFields(@NotNull Instance instance, @NotNull NavigationCache cache) {
+        this.instance = instance;
+        this.cache = cache;
+    }
+
+    /**
+     * Gets the field leading to an entity.
+     *
+     * @param target      the entity to reach
+     * @param boundingBox the bounding box of the moving entities
+     * @return the shared field
+     */
+    public @NotNull FlowField get(@NotNull Entity target, @NotNull BoundingBox boundingBox) {
+        return get(target, target, target.getPosition(), boundingBox);
+    }
+
+    /**
+     * Gets the field leading to a position.
+     *
+     * @param target      the position to reach
+     * @param boundingBox the bounding box of the moving entities
+     * @return the shared field
+     */
+    public @NotNull FlowField get(@NotNull Point target, @NotNull BoundingBox boundingBox) {
+        final Vec block = new Vec(target.blockX(), target.blockY(), target.blockZ());
+        return get(block, null, target, boundingBox);
+    }
+
+    private FlowField get(Object target, Entity entity, Point point, BoundingBox boundingBox) {
+        final int size = NavigationGrid.sizeOf(boundingBox), height = NavigationGrid.heightOf(boundingBox);
+        final FlowField field = fields.computeIfAbsent(new Key(target, size, height),
+                key -> new FlowField(this, cache, new NavigationGrid(cache, size, height), entity, point));
+        field.lastUse = tick;
+        return field;
+    }
+
+    @ApiStatus.Internal
+    public void tick() {
+        final long tick = ++this.tick;
+        fields.values().removeIf(field -> tick - field.lastUse > EXPIRATION || !field.isValid());
+        for (FlowField field : fields.values()) field.update(tick);
+    }
+
+    @NotNull Instance instance() {
+        return instance;
+    }
+
+    long currentTick() {
+        return tick;
+    }
+
+    private record Key(Object target, int size, int height) {
+    }
+}
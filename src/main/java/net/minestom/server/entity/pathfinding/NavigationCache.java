@@ -0,0 +1,193 @@
+package net.minestom.server.entity.pathfinding;
+
+import net.minestom.server.collision.Shape;
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.utils.chunk.ChunkUtils;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import space.vectrix.flare.fastutil.Long2ObjectSyncMap;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static net.minestom.server.utils.chunk.ChunkUtils.toSectionRelativeCoordinate;
+
+/**
+ * Walkability of the blocks of an instance, shared by all the entities pathfinding in it.
+ * <p>
+ * Each block is reduced to a single byte describing how it can be traversed, sections are computed
+ * from their palette the first time they are queried and kept up to date by block changes.
+ * Can be read from any thread.
+ */
+@ApiStatus.Internal
+public final class NavigationCache {
+    /**
+     * Chunk not loaded, or not yet computed in the state table.
+     */
+    static final byte UNKNOWN = 0;
+    /**
+     * No collision, can be walked through.
+     */
+    static final byte OPEN = 1;
+    /**
+     * Collision no higher than a full block, can be stood on. Partial blocks (slabs, stairs...) are treated as full.
+     */
+    static final byte FLOOR = 2;
+    /**
+     * Collision higher than a full block (fences, walls), can neither be walked through nor stood on.
+     */
+    static final byte WALL = 3;
+    /**
+     * Damaging or out of the world, avoided entirely.
+     */
+    static final byte HAZARD = 4;
+
+    private static final byte[] STATE_KINDS;
+
+    static {
+        int maxStateId = 0;
+        for (Block block : Block.values()) {
+            for (Block state : block.possibleStates()) maxStateId = Math.max(maxStateId, state.stateId());
+        }
+        STATE_KINDS = new byte[maxStateId + 1];
+    }
+
+    private final Instance instance;
+    private final int minY, maxY;
+    private final Long2ObjectSyncMap<Column> columns = Long2ObjectSyncMap.hashmap();
+    // Incremented when a cached block changes, concurrent changes may only be counted once
+    private volatile int version;
+
+    public NavigationCache(@NotNull Instance instance) {
+        this.instance = instance;
+        this.minY = instance.getDimensionType().getMinY();
+        this.maxY = instance.getDimensionType().getMaxY();
+    }
+
+    /**
+     * Gets the walkability of a block.
+     *
+     * @return one of the kind constants, {@link #UNKNOWN} if the chunk is not loaded
+     */
+    byte kind(int x, int y, int z) {
+        if (y < minY) return HAZARD;
+        if (y >= maxY) return OPEN;
+        final Column column = column(ChunkUtils.getChunkCoordinate(x), ChunkUtils.getChunkCoordinate(z));
+        if (column == null) return UNKNOWN;
+        final int sectionIndex = ChunkUtils.getChunkCoordinate(y) - column.minSection;
+        byte[] kinds = column.sections.get(sectionIndex);
+        if (kinds == null) kinds = column.load(sectionIndex);
+        return kinds[index(x, y, z)];
+    }
+
+    /**
+     * Updates a block, called by the chunk while holding its lock.
+     */
+    public void onBlockChange(int x, int y, int z, @NotNull Block block) {
+        final Column column = columns.get(ChunkUtils.getChunkIndex(ChunkUtils.getChunkCoordinate(x), ChunkUtils.getChunkCoordinate(z)));
+        if (column == null) return;
+        final byte[] kinds = column.sections.get(ChunkUtils.getChunkCoordinate(y) - column.minSection);
+        if (kinds == null) return;
+        final int index = index(x, y, z);
+        final byte kind = kindOf(block.stateId());
+        if (kinds[index] != kind) {
+            kinds[index] = kind;
+            this.version++;
+        }
+    }
+
+    /**
+     * Forgets a section whose blocks changed in bulk, computed again once queried.
+     * Called by the chunk while holding its lock.
+     */
+    public void invalidateSection(int chunkX, int sectionY, int chunkZ) {
+        final Column column = columns.get(ChunkUtils.getChunkIndex(chunkX, chunkZ));
+        if (column == null) return;
+        final int sectionIndex = sectionY - column.minSection;
+        if (sectionIndex < 0 || sectionIndex >= column.sections.length()) return;
+        if (column.sections.getAndSet(sectionIndex, null) != null) this.version++;
+    }
+
+    /**
+     * Forgets the blocks of an unloaded chunk.
+     */
+    public void unloadChunk(int chunkX, int chunkZ) {
+        this.columns.remove(ChunkUtils.getChunkIndex(chunkX, chunkZ));
+    }
+
+    /**
+     * Gets a counter changing when the walkability of a cached block changes.
+     */
+    int version() {
+        return version;
+    }
+
+    public @NotNull Instance getInstance() {
+        return instance;
+    }
+
+    private Column column(int chunkX, int chunkZ) {
+        final long index = ChunkUtils.getChunkIndex(chunkX, chunkZ);
+        final Column column = columns.get(index);
+        if (column != null && column.chunk.isLoaded()) return column;
+        // Unknown or unloaded since
+        final Chunk chunk = instance.getChunk(chunkX, chunkZ);
+        if (column != null) columns.remove(index, column);
+        if (!ChunkUtils.isLoaded(chunk)) return null;
+        return columns.computeIfAbsent(index, i -> new Column(chunk));
+    }
+
+    static byte kindOf(int stateId) {
+        final byte[] kinds = STATE_KINDS;
+        if (stateId < 0 || stateId >= kinds.length) return FLOOR;
+        byte kind = kinds[stateId];
+        if (kind == UNKNOWN) {
+            // Deterministic, concurrent computations are harmless
+            final Block block = Objects.requireNonNullElse(Block.fromStateId((short) stateId), Block.AIR);
+            kinds[stateId] = kind = computeKind(block);
+        }
+        return kind;
+    }
+
+    private static byte computeKind(Block block) {
+        if (block.compare(Block.LAVA) || block.compare(Block.FIRE) || block.compare(Block.SOUL_FIRE) ||
+                block.compare(Block.CACTUS) || block.compare(Block.MAGMA_BLOCK) || block.compare(Block.SWEET_BERRY_BUSH)) {
+            return HAZARD;
+        }
+        final Shape shape = block.registry().collisionShape();
+        final double minY = shape.relativeStart().y(), maxY = shape.relativeEnd().y();
+        if (maxY <= minY) return OPEN; // No collision box
+        return maxY > 1 ? WALL : FLOOR;
+    }
+
+    private static int index(int x, int y, int z) {
+        return toSectionRelativeCoordinate(y) << 8 | toSectionRelativeCoordinate(z) << 4 | toSectionRelativeCoordinate(x);
+    }
+
+    private static final class Column {
+        private final Chunk chunk;
+        private final int minSection;
+        private final AtomicReferenceArray<byte[]> sections;
+
+        Column(Chunk chunk) {
+            this.chunk = chunk;
+            this.minSection = chunk.getMinSection();
+            this.sections = new AtomicReferenceArray<>(chunk.getMaxSection() - minSection);
+        }
+
+        byte[] load(int sectionIndex) {
+            synchronized (chunk) {
+                // Published while holding the lock so that no block change can be missed
+                byte[] kinds = sections.get(sectionIndex);
+                if (kinds != null) return kinds;
+                final byte[] result = new byte[Chunk.CHUNK_SECTION_SIZE * Chunk.CHUNK_SECTION_SIZE * Chunk.CHUNK_SECTION_SIZE];
+                chunk.getSection(sectionIndex + minSection).blockPalette()
+                        .getAll((x, y, z, value) -> result[index(x, y, z)] = kindOf(value));
+                sections.set(sectionIndex, result);
+                return result;
+            }
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package net.minestom.server.entity.pathfinding;
+
+import net.minestom.server.collision.BoundingBox;
+import net.minestom.server.coordinate.Vec;
+import org.jetbrains.annotations.NotNull;
+
+import static net.minestom.server.entity.pathfinding.NavigationCache.*;
+
+/**
+ * Movements of an entity size over a {@link NavigationCache}, shared by the pathfinders.
+ * <p>
+ * A node is the minimum block corner of the entity standing at a position. Entities walk on blocks in 8 directions,
+ * may step up one block and fall down up to {@value #MAX_FALL} blocks when moving in a straight line.
+ */
+final class NavigationGrid {
+    static final int MAX_FALL = 3;
+    static final float DIAGONAL_COST = (float) Math.sqrt(2);
+    static final float VERTICAL_COST = 0.5f;
+    static final int NONE = Integer.MIN_VALUE;
+
+    static final int[] DIRECTION_X = {1, -1, 0, 0, 1, 1, -1, -1};
+    static final int[] DIRECTION_Z = {0, 0, 1, -1, 1, -1, 1, -1};
+
+    private final NavigationCache cache;
+    final int size, height;
+
+    NavigationGrid(@NotNull NavigationCache cache, @NotNull BoundingBox boundingBox) {
+        this(cache, sizeOf(boundingBox), heightOf(boundingBox));
+    }
+
+    NavigationGrid(@NotNull NavigationCache cache, int size, int height) {
+        this.cache = cache;
+        this.size = size;
+        this.height = height;
+    }
+
+    static int sizeOf(@NotNull BoundingBox boundingBox) {
+        return Math.max(1, (int) Math.ceil(boundingBox.width() - 1e-3));
+    }
+
+    static int heightOf(@NotNull BoundingBox boundingBox) {
+        return Math.max(1, (int) Math.ceil(boundingBox.height() - 1e-3));
+    }
+
+    /**
+     * Gets the height reached by moving in a direction.
+     *
+     * @return the y coordinate of the destination, {@link #NONE} if the move is not possible
+     */
+    int move(int x, int y, int z, int direction) {
+        final int dx = DIRECTION_X[direction], dz = DIRECTION_Z[direction];
+        final int nx = x + dx, nz = z + dz;
+        if (dx != 0 && dz != 0) {
+            // Diagonal, both sides must be free to not cut corners
+            return canStand(nx, y, nz) && isClear(x + dx, y, z) && isClear(x, y, z + dz) ? y : NONE;
+        }
+        if (canStand(nx, y, nz)) return y;
+        if (isClear(nx, y, nz)) {
+            // Fall
+            for (int fall = 1; fall <= MAX_FALL; fall++) {
+                final int ny = y - fall;
+                if (!isClear(nx, ny, nz)) return NONE;
+                if (isGround(nx, ny - 1, nz)) return ny;
+            }
+            return NONE;
+        }
+        // Step up, with room to jump
+        return canStand(nx, y + 1, nz) && isLayerClear(x, y + height, z) ? y + 1 : NONE;
+    }
+
+    static float cost(int direction, int dy) {
+        if (DIRECTION_X[direction] != 0 && DIRECTION_Z[direction] != 0) return DIAGONAL_COST;
+        return 1 + VERTICAL_COST * Math.abs(dy);
+    }
+
+    /**
+     * Finds the height the entity would stand at around a position.
+     *
+     * @return the y coordinate, {@link #NONE} if there is no ground nearby
+     */
+    int snap(int x, int y, int z) {
+        if (canStand(x, y, z)) return y;
+        // Partial block or jumping
+        if (canStand(x, y + 1, z)) return y + 1;
+        for (int fall = 1; fall <= MAX_FALL + 1; fall++) {
+            if (canStand(x, y - fall, z)) return y - fall;
+        }
+        return NONE;
+    }
+
+    boolean canStand(int x, int y, int z) {
+        return isClear(x, y, z) && isGround(x, y - 1, z);
+    }
+
+    /**
+     * Gets if the entity body fits at the position.
+     */
+    boolean isClear(int x, int y, int z) {
+        for (int i = 0; i < height; i++) {
+            if (!isLayerClear(x, y + i, z)) return false;
+        }
+        return true;
+    }
+
+    boolean isLayerClear(int x, int y, int z) {
+        final NavigationCache cache = this.cache;
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                if (cache.kind(x + i, y, z + j) != OPEN) return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets if the entity can stand on top of the blocks at the position.
+     */
+    boolean isGround(int x, int y, int z) {
+        final NavigationCache cache = this.cache;
+        boolean floor = false;
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                final byte kind = cache.kind(x + i, y, z + j);
+                if (kind == FLOOR) floor = true;
+                else if (kind != OPEN) return false;
+            }
+        }
+        return floor;
+    }
+
+    int nodeCoordinate(double xz) {
+        return (int) Math.floor(xz - size / 2d + 0.5);
+    }
+
+    static int nodeY(double y) {
+        return (int) Math.floor(y + 1e-5);
+    }
+
+    @NotNull Vec waypoint(int x, int y, int z) {
+        final double offset = size / 2d;
+        return new Vec(x + offset, y, z + offset);
+    }
+
+    static long key(int x, int y, int z) {
+        return ((long) x & 0x3FFFFFF) << 38 | ((long) z & 0x3FFFFFF) << 12 | ((long) y & 0xFFF);
+    }
+}
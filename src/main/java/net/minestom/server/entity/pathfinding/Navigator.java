@@ -3,6 +3,8 @@ package net.minestom.server.entity.pathfinding;
 import com.extollit.gaming.ai.path.HydrazinePathFinder;
 import com.extollit.gaming.ai.path.PathOptions;
 import com.extollit.gaming.ai.path.model.IPath;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.attribute.Attribute;
 import net.minestom.server.collision.CollisionUtils;
 import net.minestom.server.collision.PhysicsResult;
 import net.minestom.server.coordinate.Point;
@@ -19,16 +21,36 @@ import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-// TODO all pathfinding requests could be processed in another thread
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * Necessary object for all {@link NavigableEntity}.
+ * <p>
+ * Paths are computed by the {@link AStarPathFinder} when no {@link HydrazinePathFinder} is set,
+ * or when the {@code minestom.pathfinding.builtin} system property is enabled.
+ * Built-in paths are computed in the pathfinding pool when the {@code minestom.pathfinding.async} system property is enabled,
+ * the entity keeps following its previous path until the new one is retrieved by {@link #tick()}.
+ * Entities following another one with the built-in pathfinder share a {@link FlowField}.
  */
 public final class Navigator {
+    private static final boolean BUILTIN = Boolean.getBoolean("minestom.pathfinding.builtin");
+    private static final boolean ASYNC = Boolean.getBoolean("minestom.pathfinding.async");
+    // Ticks between path requests toward a flow field
+    private static final int FLOW_FIELD_PATH_COOLDOWN = 20;
+
     private final PFPathingEntity pathingEntity;
     private HydrazinePathFinder pathFinder;
     private Point pathPosition;
 
+    // Built-in pathfinder
+    private List<Vec> path;
+    private int pathIndex;
+    private CompletableFuture<List<Vec>> pendingPath;
+    private FlowField flowField;
+    private int flowFieldPathCooldown;
+
     private final Entity entity;
 
     public Navigator(@NotNull Entity entity) {
@@ -82,7 +104,7 @@ public final class Navigator {
      * @param point      the position to find the path to, null to reset the pathfinder
      * @param bestEffort whether to use the best-effort algorithm to the destination,
      *                   if false then this method is more likely to return immediately
-     * @return true if a path has been found
+     * @return true if a path has been found, or requested when computed asynchronously
      */
     public synchronized boolean setPathTo(@Nullable Point point, boolean bestEffort) {
         if (point != null && pathPosition != null && point.samePoint(pathPosition)) {
@@ -90,12 +112,18 @@ public final class Navigator {
             return false;
         }
         final Instance instance = entity.getInstance();
-        if (pathFinder == null) {
-            // Unexpected error
-            return false;
+        final boolean builtin = isBuiltin();
+        this.flowField = null;
+        if (builtin) {
+            if (point == null || !ASYNC) {
+                this.path = null;
+                this.pendingPath = null;
+            }
+        } else {
+            this.pathFinder.reset();
         }
-        this.pathFinder.reset();
         if (point == null) {
+            this.pathPosition = null;
             return false;
         }
         // Can't path with a null instance.
@@ -113,6 +141,12 @@ public final class Navigator {
             return false;
         }
 
+        if (builtin) {
+            final boolean success = requestPath(instance, point, bestEffort);
+            this.pathPosition = success ? point : null;
+            return success;
+        }
+
         final PathOptions pathOptions = new PathOptions()
                 .targetingStrategy(bestEffort ? PathOptions.TargetingStrategy.gravitySnap :
                         PathOptions.TargetingStrategy.none);
@@ -134,23 +168,140 @@ public final class Navigator {
         return setPathTo(position, true);
     }
 
+    /**
+     * Follows an entity, the path is updated as it moves.
+     * <p>
+     * With the built-in pathfinder, entities of the same size following the same target share a {@link FlowField}
+     * instead of searching their own path. Otherwise, equivalent to {@code setPathTo(target.getPosition())}.
+     *
+     * @param target the entity to follow
+     * @return true if a path has been found
+     */
+    public synchronized boolean follow(@NotNull Entity target) {
+        final Instance instance = entity.getInstance();
+        if (!isBuiltin() || instance == null || target.getInstance() != instance) {
+            return setPathTo(target.getPosition());
+        }
+        final FlowField field = instance.getFlowFields().get(target, entity.getBoundingBox());
+        if (field != flowField) {
+            reset();
+            this.flowField = field;
+        }
+        return true;
+    }
+
+    private boolean requestPath(Instance instance, Point point, boolean bestEffort) {
+        final NavigationCache cache = instance.getNavigationCache();
+        if (ASYNC) {
+            this.pendingPath = AStarPathFinder.findPathAsync(cache, entity.getPosition(), point, entity.getBoundingBox(), bestEffort);
+            return true;
+        }
+        final List<Vec> path = AStarPathFinder.findPath(cache, entity.getPosition(), point, entity.getBoundingBox(), bestEffort);
+        this.path = path;
+        this.pathIndex = 0;
+        return path != null;
+    }
+
     @ApiStatus.Internal
     public synchronized void tick() {
-        if (pathPosition == null) return; // No path
+        final FlowField flowField = this.flowField;
+        if (pathPosition == null && flowField == null) return; // No path
         if (entity instanceof LivingEntity && ((LivingEntity) entity).isDead())
             return; // No pathfinding tick for dead entities
+        if (flowField != null) {
+            followFlowField(flowField);
+            return;
+        }
+        if (isBuiltin()) {
+            if (!followPath()) reset();
+            return;
+        }
         if (pathFinder.updatePathFor(pathingEntity) == null) {
             reset();
         }
     }
 
+    private void followFlowField(FlowField flowField) {
+        final Instance instance = entity.getInstance();
+        if (instance == null || !flowField.isValid()) {
+            reset();
+            return;
+        }
+        final Pos position = entity.getPosition();
+        final Point next = flowField.next(position);
+        if (next != null) {
+            this.path = null;
+            this.pendingPath = null;
+            moveAlong(position, next);
+            return;
+        }
+        // Outside the field or field not computed yet, walk toward the target until reaching it
+        if (path == null && pendingPath == null) {
+            if (flowFieldPathCooldown-- > 0) return;
+            this.flowFieldPathCooldown = FLOW_FIELD_PATH_COOLDOWN;
+            requestPath(instance, flowField.getTargetPosition(), true);
+        }
+        followPath();
+    }
+
+    /**
+     * Moves along the built-in path.
+     *
+     * @return false once the path is over
+     */
+    private boolean followPath() {
+        final CompletableFuture<List<Vec>> pendingPath = this.pendingPath;
+        if (pendingPath != null && pendingPath.isDone()) {
+            this.pendingPath = null;
+            List<Vec> result;
+            try {
+                result = pendingPath.join();
+            } catch (CompletionException e) {
+                MinecraftServer.getExceptionManager().handleException(e.getCause());
+                result = null;
+            }
+            this.path = result;
+            this.pathIndex = 0;
+            if (result == null) return false;
+        }
+        final List<Vec> path = this.path;
+        if (path == null) return this.pendingPath != null; // Waiting for the path
+        final Pos position = entity.getPosition();
+        Vec waypoint;
+        while (true) {
+            if (pathIndex >= path.size()) {
+                // Destination reached
+                this.path = null;
+                return this.pendingPath != null;
+            }
+            waypoint = path.get(pathIndex);
+            final double dx = waypoint.x() - position.x(), dz = waypoint.z() - position.z();
+            // Closer to the last position, further ones only need to be approached
+            final double radius = pathIndex == path.size() - 1 ? 0.2 : 0.5;
+            if (dx * dx + dz * dz >= radius * radius || waypoint.y() - position.y() >= 0.5) break;
+            this.pathIndex++;
+        }
+        moveAlong(position, waypoint);
+        return true;
+    }
+
+    private void moveAlong(Pos position, Point waypoint) {
+        final double speed = entity instanceof LivingEntity living ? living.getAttributeValue(Attribute.MOVEMENT_SPEED) : 0;
+        moveTowards(waypoint, speed);
+        // See PFPathingEntity#moveTo for the offset
+        if (position.y() + 0.00001D < waypoint.y() && entity.isOnGround()) {
+            jump(1);
+        }
+    }
+
     /**
      * Gets the target pathfinder position.
      *
      * @return the target pathfinder position, null if there is no one
      */
     public @Nullable Point getPathPosition() {
-        return pathPosition;
+        final FlowField flowField = this.flowField;
+        return flowField != null ? flowField.getTargetPosition() : pathPosition;
     }
 
     public @NotNull Entity getEntity() {
@@ -167,8 +318,16 @@ public final class Navigator {
         this.pathFinder = pathFinder;
     }
 
+    private boolean isBuiltin() {
+        return BUILTIN || pathFinder == null;
+    }
+
     private void reset() {
         this.pathPosition = null;
-        this.pathFinder.reset();
+        this.path = null;
+        this.pendingPath = null;
+        this.flowField = null;
+        this.flowFieldPathCooldown = 0;
+        if (pathFinder != null) this.pathFinder.reset();
     }
 }
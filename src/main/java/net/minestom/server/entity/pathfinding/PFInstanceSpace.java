@@ -35,6 +35,13 @@ public final class PFInstanceSpace implements IInstanceSpace {
         });
     }
 
+    /**
+     * Forgets the columnar space of an unloaded chunk.
+     */
+    public void unloadChunk(Chunk chunk) {
+        this.chunkSpaceMap.remove(chunk);
+    }
+
     public Instance getInstance() {
         return instance;
     }
@@ -0,0 +1,160 @@
+package net.minestom.server.event;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.event.trait.CancellableEvent;
+import net.minestom.server.event.trait.EntityEvent;
+import net.minestom.server.thread.ServerExecutors;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+
+/**
+ * Listener executing its handler outside the calling thread.
+ * <p>
+ * The handler is submitted once the synchronous dispatch of the event returned, so that it sees the event
+ * as left by all the other listeners. It is skipped if the event has been cancelled by then.
+ * <p>
+ * Executions targeting the same entity (see {@link EntityEvent}) are run in submission order,
+ * other events have no ordering guarantee.
+ * <p>
+ * Uses {@link ServerExecutors#virtual() virtual threads} when the {@code minestom.event.async-virtual} system property is set,
+ * otherwise the {@link ServerExecutors#async() async pool}.
+ *
+ * @param <T> the event type
+ */
+final class AsyncEventListener<T extends Event> implements EventListener<T> {
+    private static final Executor EXECUTOR = Boolean.getBoolean("minestom.event.async-virtual") ?
+            ServerExecutors.virtual() : ServerExecutors.async();
+    /**
+     * Last scheduled execution for each entity, removed once completed.
+     */
+    private static final Map<Object, CompletableFuture<Void>> ORDERED_TAILS = new ConcurrentHashMap<>();
+    /**
+     * Executions scheduled during the current {@link #collect(Runnable)} call.
+     */
+    private static final ThreadLocal<List<CompletableFuture<Void>>> PENDING = new ThreadLocal<>();
+    /**
+     * Dispatches in progress on the thread, only tracked once an async listener exists.
+     */
+    private static final ThreadLocal<Dispatch> DISPATCH = ThreadLocal.withInitial(Dispatch::new);
+    private static volatile boolean used;
+
+    private final Class<T> eventType;
+    private final Consumer<T> handler;
+
+    AsyncEventListener(@NotNull Class<T> eventType, @NotNull Consumer<T> handler) {
+        this.eventType = eventType;
+        this.handler = handler;
+        used = true;
+    }
+
+    @Override
+    public @NotNull Class<T> eventType() {
+        return eventType;
+    }
+
+    @Override
+    public @NotNull Result run(@NotNull T event) {
+        if (isCancelled(event)) return Result.INVALID;
+        final Dispatch dispatch = DISPATCH.get();
+        if (dispatch.depth > 0) {
+            dispatch.queued.add(new Queued<>(this, event));
+        } else {
+            submit(event);
+        }
+        return Result.SUCCESS;
+    }
+
+    private void submit(T event) {
+        final Runnable task = () -> {
+            try {
+                handler.accept(event);
+            } catch (Throwable e) {
+                MinecraftServer.getExceptionManager().handleException(e);
+            }
+        };
+        final Object key = event instanceof EntityEvent entityEvent ? entityEvent.getEntity() : null;
+        final CompletableFuture<Void> future = submit(key, task);
+        final List<CompletableFuture<Void>> pending = PENDING.get();
+        if (pending != null) pending.add(future);
+    }
+
+    /**
+     * Marks the start of the synchronous dispatch of an event.
+     *
+     * @return the dispatch marker to give to {@link #endDispatch(int)}
+     */
+    static int beginDispatch() {
+        if (!used) return -1;
+        final Dispatch dispatch = DISPATCH.get();
+        dispatch.depth++;
+        return dispatch.queued.size();
+    }
+
+    /**
+     * Submits the handlers queued since the matching {@link #beginDispatch()}, unless their event got cancelled.
+     *
+     * @param start the dispatch marker
+     */
+    static void endDispatch(int start) {
+        if (start == -1) return;
+        final Dispatch dispatch = DISPATCH.get();
+        dispatch.depth--;
+        final List<Queued<?>> queued = dispatch.queued;
+        final int end = queued.size();
+        if (end == start) return;
+        final List<Queued<?>> tasks = queued.subList(start, end);
+        for (Queued<?> task : tasks) task.submit();
+        tasks.clear();
+    }
+
+    private static boolean isCancelled(Event event) {
+        return event instanceof CancellableEvent cancellableEvent && cancellableEvent.isCancelled();
+    }
+
+    /**
+     * Runs {@code call} and collects all the async executions it scheduled.
+     *
+     * @param call the synchronous call
+     * @return a future completed once {@code call} returned and all the scheduled executions completed
+     */
+    static @NotNull CompletableFuture<Void> collect(@NotNull Runnable call) {
+        final List<CompletableFuture<Void>> previous = PENDING.get();
+        List<CompletableFuture<Void>> pending = new ArrayList<>();
+        PENDING.set(pending);
+        try {
+            call.run();
+        } finally {
+            PENDING.set(previous);
+        }
+        return switch (pending.size()) {
+            case 0 -> CompletableFuture.completedFuture(null);
+            case 1 -> pending.get(0);
+            default -> CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new));
+        };
+    }
+
+    private static CompletableFuture<Void> submit(@Nullable Object key, @NotNull Runnable task) {
+        if (key == null) return CompletableFuture.runAsync(task, EXECUTOR);
+        final CompletableFuture<Void> future = ORDERED_TAILS.compute(key, (k, tail) -> tail == null ?
+                CompletableFuture.runAsync(task, EXECUTOR) : tail.thenRunAsync(task, EXECUTOR));
+        future.whenComplete((unused, throwable) -> ORDERED_TAILS.remove(key, future));
+        return future;
+    }
+
+    private static final class Dispatch {
+        final List<Queued<?>> queued = new ArrayList<>();
+        int depth;
+    }
+
+    private record Queued<T extends Event>(AsyncEventListener<T> listener, T event) {
+        void submit() {
+            if (!isCancelled(event)) listener.submit(event);
+        }
+    }
+}
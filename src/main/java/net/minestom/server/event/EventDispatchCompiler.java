@@ -0,0 +1,412 @@
+package net.minestom.server.event;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.*;
+import java.util.function.BiPredicate;
+import java.util.function.Consumer;
+
+/**
+ * Compiles the listeners of a {@link EventNodeImpl.Handle} into a straight-line hidden class.
+ * <p>
+ * Every listener, binding and filter of the node subtree becomes a {@code static final} constant of the generated class,
+ * giving each of them a dedicated call site that the JIT can inline, instead of the shared (megamorphic)
+ * {@link Consumer#accept(Object)} call sites of the lambda chain.
+ * <p>
+ * Enabled using the {@code minestom.event.compiled-dispatch} system property.
+ */
+@ApiStatus.Internal
+final class EventDispatchCompiler {
+    static final boolean ENABLED = Boolean.getBoolean("minestom.event.compiled-dispatch");
+    /**
+     * Maximum number of constants in a generated class, larger graphs fall back to the lambda chain.
+     */
+    private static final int MAX_CONSTANTS = 1024;
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final String CLASS_NAME = "net/minestom/server/event/EventDispatch";
+    private static final String OBJECT = "java/lang/Object";
+    private static final String CONSUMER = "java/util/function/Consumer";
+    private static final String BI_PREDICATE = "java/util/function/BiPredicate";
+    private static final String EVENT = "net/minestom/server/event/Event";
+    private static final String EVENT_FILTER = "net/minestom/server/event/EventFilter";
+    private static final String EVENT_LISTENER = "net/minestom/server/event/EventListener";
+    private static final String LISTENER_RESULT = "net/minestom/server/event/EventListener$Result";
+    private static final String HANDLE = "net/minestom/server/event/EventNodeImpl$Handle";
+    private static final String COMPILER = "net/minestom/server/event/EventDispatchCompiler";
+
+    /**
+     * A single step of the flattened dispatch.
+     */
+    sealed interface Op {
+    }
+
+    /**
+     * Runs {@code body} only if the node predicate passes.
+     */
+    record Filter(@NotNull BiPredicate<?, Object> predicate, @NotNull EventFilter<?, ?> filter,
+                  @NotNull List<Op> body) implements Op {
+    }
+
+    /**
+     * Runs a listener, removing it from {@code handle}'s node once expired.
+     */
+    record Listener(@NotNull EventNodeImpl<?>.Handle<?> handle, @NotNull EventListener<?> listener) implements Op {
+    }
+
+    /**
+     * Calls an opaque consumer, used for bindings and mapped nodes.
+     */
+    record Call(@NotNull Consumer<?> consumer) implements Op {
+    }
+
+    /**
+     * Generates a consumer executing the given operations in order.
+     *
+     * @param ops the operations to execute
+     * @return the compiled consumer, null if the graph is too large to be compiled
+     */
+    @SuppressWarnings("unchecked")
+    static <E extends Event> @Nullable Consumer<E> compile(@NotNull List<Op> ops) {
+        final Generator generator = new Generator();
+        final byte[] bytes;
+        try {
+            bytes = generator.generate(ops);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        if (bytes == null) return null;
+        try {
+            final MethodHandles.Lookup lookup = LOOKUP.defineHiddenClassWithClassData(bytes,
+                    generator.constants.toArray(), true);
+            return (Consumer<E>) lookup.findConstructor(lookup.lookupClass(), MethodType.methodType(void.class)).invoke();
+        } catch (Throwable e) {
+            throw new IllegalStateException("Failed to compile event dispatch", e);
+        }
+    }
+
+    /**
+     * Called by generated classes after each listener execution.
+     */
+    @SuppressWarnings({"unused", "rawtypes", "unchecked"})
+    static void checkResult(EventListener.Result result, EventNodeImpl.Handle handle, EventListener listener) {
+        if (result == EventListener.Result.EXPIRED) handle.expire(listener);
+    }
+
+    private static final class Generator {
+        private final ConstantPool pool = new ConstantPool();
+        private final List<Object> constants = new ArrayList<>();
+        private final List<String> descriptors = new ArrayList<>();
+        private final Map<Object, Integer> constantIndexes = new IdentityHashMap<>();
+
+        private final ByteArrayOutputStream codeBytes = new ByteArrayOutputStream();
+        private final DataOutputStream code = new DataOutputStream(codeBytes);
+        private final SortedSet<Integer> branchTargets = new TreeSet<>();
+
+        byte[] generate(List<Op> ops) throws IOException {
+            for (Op op : ops) {
+                if (!emit(op)) return null;
+            }
+            code.writeByte(0xB1); // return
+
+            ByteArrayOutputStream classBytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(classBytes);
+            // Everything referencing the pool must be resolved before it is written
+            final int thisClass = pool.classRef(CLASS_NAME);
+            final int superClass = pool.classRef(OBJECT);
+            final int consumerClass = pool.classRef(CONSUMER);
+            final byte[] constructor = method(0x0001, "<init>", "()V", 1, 1, initCode(), null);
+            final byte[] accept = method(0x0001, "accept", "(Ljava/lang/Object;)V", 4, 2,
+                    codeBytes.toByteArray(), stackMapTable());
+            final byte[] initializer = method(0x0008, "<clinit>", "()V", 3, 1, clinitCode(), null);
+            final int[] fieldNames = new int[constants.size()];
+            final int[] fieldDescriptors = new int[constants.size()];
+            for (int i = 0; i < fieldNames.length; i++) {
+                fieldNames[i] = pool.utf8("c" + i);
+                fieldDescriptors[i] = pool.utf8(descriptors.get(i));
+            }
+
+            out.writeInt(0xCAFEBABE);
+            out.writeShort(0); // minor
+            out.writeShort(61); // major, java 17
+            pool.write(out);
+            out.writeShort(0x1030); // final super synthetic
+            out.writeShort(thisClass);
+            out.writeShort(superClass);
+            out.writeShort(1);
+            out.writeShort(consumerClass);
+            // Fields
+            out.writeShort(fieldNames.length);
+            for (int i = 0; i < fieldNames.length; i++) {
+                out.writeShort(0x101A); // private static final synthetic
+                out.writeShort(fieldNames[i]);
+                out.writeShort(fieldDescriptors[i]);
+                out.writeShort(0);
+            }
+            // Methods
+            out.writeShort(3);
+            out.write(constructor);
+            out.write(accept);
+            out.write(initializer);
+            out.writeShort(0); // attributes
+            return classBytes.toByteArray();
+        }
+
+        private boolean emit(Op op) throws IOException {
+            if (op instanceof Listener listener) {
+                final int listenerField = constant(listener.listener(), EVENT_LISTENER);
+                final int handleField = constant(listener.handle(), HANDLE);
+                if (listenerField == -1 || handleField == -1) return false;
+                getStatic(listenerField);
+                code.writeByte(0x2B); // aload_1
+                invokeInterface(EVENT_LISTENER, "run", "(L" + EVENT + ";)L" + LISTENER_RESULT + ";", 2);
+                getStatic(handleField);
+                getStatic(listenerField);
+                code.writeByte(0xB8); // invokestatic
+                code.writeShort(pool.methodRef(COMPILER, "checkResult",
+                        "(L" + LISTENER_RESULT + ";L" + HANDLE + ";L" + EVENT_LISTENER + ";)V"));
+            } else if (op instanceof Call call) {
+                final int consumerField = constant(call.consumer(), CONSUMER);
+                if (consumerField == -1) return false;
+                getStatic(consumerField);
+                code.writeByte(0x2B); // aload_1
+                invokeInterface(CONSUMER, "accept", "(Ljava/lang/Object;)V", 2);
+            } else if (op instanceof Filter filter) {
+                final int predicateField = constant(filter.predicate(), BI_PREDICATE);
+                final int filterField = constant(filter.filter(), EVENT_FILTER);
+                if (predicateField == -1 || filterField == -1) return false;
+                getStatic(predicateField);
+                code.writeByte(0x2B); // aload_1
+                getStatic(filterField);
+                code.writeByte(0x2B); // aload_1
+                invokeInterface(EVENT_FILTER, "getHandler", "(L" + EVENT + ";)Ljava/lang/Object;", 2);
+                invokeInterface(BI_PREDICATE, "test", "(Ljava/lang/Object;Ljava/lang/Object;)Z", 3);
+                final int branch = code.size();
+                code.writeByte(0x99); // ifeq
+                code.writeShort(0); // patched below
+                for (Op bodyOp : filter.body()) {
+                    if (!emit(bodyOp)) return false;
+                }
+                final int target = code.size();
+                final int offset = target - branch;
+                if (offset > Short.MAX_VALUE) return false;
+                code.flush();
+                patchShort(branch + 1, offset);
+                branchTargets.add(target);
+            } else {
+                throw new IllegalStateException("Unknown operation: " + op);
+            }
+            return true;
+        }
+
+        private int constant(Object value, String type) {
+            Integer index = constantIndexes.get(value);
+            if (index == null) {
+                if (constants.size() == MAX_CONSTANTS) return -1;
+                index = constants.size();
+                constants.add(value);
+                descriptors.add("L" + type + ";");
+                constantIndexes.put(value, index);
+            }
+            return index;
+        }
+
+        private void getStatic(int constant) throws IOException {
+            code.writeByte(0xB2);
+            code.writeShort(pool.fieldRef(CLASS_NAME, "c" + constant, descriptors.get(constant)));
+        }
+
+        private void invokeInterface(String owner, String name, String descriptor, int count) throws IOException {
+            code.writeByte(0xB9);
+            code.writeShort(pool.interfaceMethodRef(owner, name, descriptor));
+            code.writeByte(count);
+            code.writeByte(0);
+        }
+
+        private void patchShort(int position, int value) {
+            // DataOutputStream has no random access, rewrite the whole buffer
+            final byte[] array = codeBytes.toByteArray();
+            array[position] = (byte) (value >>> 8);
+            array[position + 1] = (byte) value;
+            codeBytes.reset();
+            codeBytes.write(array, 0, array.length);
+        }
+
+        private byte[] initCode() throws IOException {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream init = new DataOutputStream(bytes);
+            init.writeByte(0x2A); // aload_0
+            init.writeByte(0xB7); // invokespecial
+            init.writeShort(pool.methodRef(OBJECT, "<init>", "()V"));
+            init.writeByte(0xB1); // return
+            return bytes.toByteArray();
+        }
+
+        private byte[] clinitCode() throws IOException {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream clinit = new DataOutputStream(bytes);
+            // Object[] data = (Object[]) MethodHandles.classData(MethodHandles.lookup(), "_", Object.class);
+            clinit.writeByte(0xB8); // invokestatic
+            clinit.writeShort(pool.methodRef("java/lang/invoke/MethodHandles", "lookup",
+                    "()Ljava/lang/invoke/MethodHandles$Lookup;"));
+            clinit.writeByte(0x13); // ldc_w
+            clinit.writeShort(pool.string("_"));
+            clinit.writeByte(0x13); // ldc_w
+            clinit.writeShort(pool.classRef(OBJECT));
+            clinit.writeByte(0xB8); // invokestatic
+            clinit.writeShort(pool.methodRef("java/lang/invoke/MethodHandles", "classData",
+                    "(Ljava/lang/invoke/MethodHandles$Lookup;Ljava/lang/String;Ljava/lang/Class;)Ljava/lang/Object;"));
+            clinit.writeByte(0xC0); // checkcast
+            clinit.writeShort(pool.classRef("[Ljava/lang/Object;"));
+            clinit.writeByte(0x4B); // astore_0
+            for (int i = 0; i < constants.size(); i++) {
+                final String descriptor = descriptors.get(i);
+                clinit.writeByte(0x2A); // aload_0
+                clinit.writeByte(0x11); // sipush
+                clinit.writeShort(i);
+                clinit.writeByte(0x32); // aaload
+                clinit.writeByte(0xC0); // checkcast
+                clinit.writeShort(pool.classRef(descriptor.substring(1, descriptor.length() - 1)));
+                clinit.writeByte(0xB3); // putstatic
+                clinit.writeShort(pool.fieldRef(CLASS_NAME, "c" + i, descriptor));
+            }
+            clinit.writeByte(0xB1); // return
+            return bytes.toByteArray();
+        }
+
+        private byte @Nullable [] stackMapTable() throws IOException {
+            if (branchTargets.isEmpty()) return null;
+            // Every branch target has the method's initial locals and an empty stack
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream table = new DataOutputStream(bytes);
+            table.writeShort(branchTargets.size());
+            int previous = -1;
+            for (int target : branchTargets) {
+                final int delta = target - previous - 1;
+                if (delta < 64) {
+                    table.writeByte(delta); // same_frame
+                } else {
+                    table.writeByte(251); // same_frame_extended
+                    table.writeShort(delta);
+                }
+                previous = target;
+            }
+            return bytes.toByteArray();
+        }
+
+        private byte[] method(int access, String name, String descriptor, int maxStack, int maxLocals,
+                              byte[] code, byte @Nullable [] stackMapTable) throws IOException {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeShort(access);
+            out.writeShort(pool.utf8(name));
+            out.writeShort(pool.utf8(descriptor));
+            out.writeShort(1); // attributes
+            out.writeShort(pool.utf8("Code"));
+            final int stackMapLength = stackMapTable != null ? 6 + stackMapTable.length : 0;
+            out.writeInt(12 + code.length + stackMapLength);
+            out.writeShort(maxStack);
+            out.writeShort(maxLocals);
+            out.writeInt(code.length);
+            out.write(code);
+            out.writeShort(0); // exception table
+            if (stackMapTable != null) {
+                out.writeShort(1);
+                out.writeShort(pool.utf8("StackMapTable"));
+                out.writeInt(stackMapTable.length);
+                out.write(stackMapTable);
+            } else {
+                out.writeShort(0);
+            }
+            return bytes.toByteArray();
+        }
+    }
+
+    private static final class ConstantPool {
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final DataOutputStream out = new DataOutputStream(bytes);
+        private final Map<String, Integer> entries = new HashMap<>();
+        private int count = 1;
+
+        int utf8(String value) {
+            return entry("U" + value, () -> {
+                out.writeByte(1);
+                out.writeUTF(value);
+            });
+        }
+
+        int classRef(String name) {
+            final int nameIndex = utf8(name);
+            return entry("C" + name, () -> {
+                out.writeByte(7);
+                out.writeShort(nameIndex);
+            });
+        }
+
+        int string(String value) {
+            final int valueIndex = utf8(value);
+            return entry("S" + value, () -> {
+                out.writeByte(8);
+                out.writeShort(valueIndex);
+            });
+        }
+
+        int fieldRef(String owner, String name, String descriptor) {
+            return memberRef(9, owner, name, descriptor);
+        }
+
+        int methodRef(String owner, String name, String descriptor) {
+            return memberRef(10, owner, name, descriptor);
+        }
+
+        int interfaceMethodRef(String owner, String name, String descriptor) {
+            return memberRef(11, owner, name, descriptor);
+        }
+
+        private int memberRef(int tag, String owner, String name, String descriptor) {
+            final int ownerIndex = classRef(owner);
+            final int nameIndex = utf8(name);
+            final int descriptorIndex = utf8(descriptor);
+            final int nameAndType = entry("N" + name + ' ' + descriptor, () -> {
+                out.writeByte(12);
+                out.writeShort(nameIndex);
+                out.writeShort(descriptorIndex);
+            });
+            return entry("M" + tag + owner + '.' + name + descriptor, () -> {
+                out.writeByte(tag);
+                out.writeShort(ownerIndex);
+                out.writeShort(nameAndType);
+            });
+        }
+
+        void write(DataOutputStream output) throws IOException {
+            output.writeShort(count);
+            output.write(bytes.toByteArray());
+        }
+
+        private int entry(String key, EntryWriter writer) {
+            Integer index = entries.get(key);
+            if (index != null) return index;
+            try {
+                writer.write();
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            index = count++;
+            entries.put(key, index);
+            return index;
+        }
+
+        private interface EntryWriter {
+            void write() throws IOException;
+        }
+    }
+}
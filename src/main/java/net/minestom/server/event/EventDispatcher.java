@@ -4,12 +4,18 @@ import net.minestom.server.MinecraftServer;
 import net.minestom.server.event.trait.CancellableEvent;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.concurrent.CompletableFuture;
+
 public final class EventDispatcher {
 
     public static void call(@NotNull Event event) {
         MinecraftServer.getGlobalEventHandler().call(event);
     }
 
+    public static @NotNull CompletableFuture<Void> callAsync(@NotNull Event event) {
+        return MinecraftServer.getGlobalEventHandler().callAsync(event);
+    }
+
     public static <E extends Event> ListenerHandle<E> getHandle(@NotNull Class<E> handleType) {
         return MinecraftServer.getGlobalEventHandler().getHandle(handleType);
     }
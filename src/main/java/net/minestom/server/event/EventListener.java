@@ -42,6 +42,23 @@ public interface EventListener<T extends Event> {
         return builder(eventType).handler(listener).build();
     }
 
+    /**
+     * Create an event listener executing {@code listener} outside the calling thread.
+     * <p>
+     * Executions for the same entity (see {@link net.minestom.server.event.trait.EntityEvent})
+     * keep their call order. The listener is skipped for cancelled events, and cannot cancel them itself.
+     *
+     * @param eventType The event type to handle
+     * @param listener  The handler function, executed asynchronously
+     * @param <T>       The event type to handle
+     * @return An asynchronous event listener
+     * @see EventNode#callAsync(Event)
+     */
+    @Contract(pure = true)
+    static <T extends Event> @NotNull EventListener<T> async(@NotNull Class<T> eventType, @NotNull Consumer<@NotNull T> listener) {
+        return new AsyncEventListener<>(eventType, listener);
+    }
+
     class Builder<T extends Event> {
         private final Class<T> eventType;
         private final List<Predicate<T>> filters = new ArrayList<>();
@@ -10,6 +10,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.BiPredicate;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
@@ -190,6 +191,17 @@ public sealed interface EventNode<T extends Event> permits EventNodeImpl {
         getHandle((Class<T>) event.getClass()).call(event);
     }
 
+    /**
+     * Calls an event starting from this node, and waits for the listeners registered
+     * using {@link #addAsyncListener(Class, Consumer)}.
+     *
+     * @param event the event to call
+     * @return a future completed once all listeners, synchronous or not, have been executed
+     */
+    default @NotNull CompletableFuture<Void> callAsync(@NotNull T event) {
+        return AsyncEventListener.collect(() -> call(event));
+    }
+
     default boolean hasListener(@NotNull Class<? extends T> type) {
         return getHandle(type).hasListener();
     }
@@ -329,6 +341,21 @@ public sealed interface EventNode<T extends Event> permits EventNodeImpl {
         return addListener(EventListener.of(eventType, listener));
     }
 
+    /**
+     * Adds a listener executed outside the calling thread, useful for blocking work such as I/O.
+     * <p>
+     * Executions for the same entity keep their call order.
+     *
+     * @param eventType The event type to handle
+     * @param listener  The handler function
+     * @return this, can be used for chaining
+     * @see EventListener#async(Class, Consumer)
+     */
+    @Contract(value = "_, _ -> this")
+    default <E extends T> @NotNull EventNode<T> addAsyncListener(@NotNull Class<E> eventType, @NotNull Consumer<@NotNull E> listener) {
+        return addListener(EventListener.async(eventType, listener));
+    }
+
     @Contract(value = "_ -> this")
     @NotNull EventNode<T> removeListener(@NotNull EventListener<? extends T> listener);
 
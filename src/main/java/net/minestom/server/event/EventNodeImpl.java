@@ -323,10 +323,13 @@ non-sealed class EventNodeImpl<T extends Event> implements EventNode<T> {
         public void call(@NotNull E event) {
             final Consumer<E> listener = updatedListener();
             if (listener == null) return;
+            final int dispatch = AsyncEventListener.beginDispatch();
             try {
                 listener.accept(event);
             } catch (Throwable e) {
                 MinecraftServer.getExceptionManager().handleException(e);
+            } finally {
+                AsyncEventListener.endDispatch(dispatch);
             }
         }
 
@@ -351,6 +354,13 @@ non-sealed class EventNodeImpl<T extends Event> implements EventNode<T> {
         }
 
         private @Nullable Consumer<E> createConsumer() {
+            if (EventDispatchCompiler.ENABLED) {
+                List<EventDispatchCompiler.Op> ops = new ArrayList<>();
+                collectOps(ops);
+                if (ops.isEmpty()) return null;
+                final Consumer<E> compiled = EventDispatchCompiler.compile(ops);
+                if (compiled != null) return compiled;
+            }
             var node = (EventNodeImpl<E>) EventNodeImpl.this;
             // Standalone listeners
             List<Consumer<E>> listeners = new ArrayList<>();
@@ -405,6 +415,43 @@ non-sealed class EventNodeImpl<T extends Event> implements EventNode<T> {
             };
         }
 
+        /**
+         * Flatten the listeners of this node and its children into operations
+         * to be compiled by {@link EventDispatchCompiler}.
+         * <p>
+         * Mapped nodes are kept as a single opaque call as their target depends on the event.
+         */
+        void collectOps(@NotNull List<EventDispatchCompiler.Op> ops) {
+            var node = (EventNodeImpl<E>) EventNodeImpl.this;
+            List<EventDispatchCompiler.Op> body = new ArrayList<>();
+            // Standalone listeners
+            forTargetEvents(eventType, type -> {
+                final ListenerEntry<E> entry = node.listenerMap.get(type);
+                if (entry == null) return;
+                for (EventListener<E> listener : entry.listeners) {
+                    body.add(new EventDispatchCompiler.Listener(this, listener));
+                }
+                for (Consumer<E> binding : entry.bindingConsumers) {
+                    body.add(new EventDispatchCompiler.Call(binding));
+                }
+            });
+            // Mapped
+            final Consumer<E> mappedListener = mappedConsumer();
+            if (mappedListener != null) body.add(new EventDispatchCompiler.Call(mappedListener));
+            // Children
+            node.children.stream()
+                    .filter(child -> child.eventType.isAssignableFrom(eventType)) // Invalid event type
+                    .sorted(Comparator.comparing(EventNode::getPriority))
+                    .forEach(child -> ((Handle<E>) child.getHandle(eventType)).collectOps(body));
+            if (body.isEmpty()) return;
+            final BiPredicate<E, Object> predicate = node.predicate;
+            if (predicate != null) {
+                ops.add(new EventDispatchCompiler.Filter(predicate, node.filter, body));
+            } else {
+                ops.addAll(body);
+            }
+        }
+
         /**
          * Create a consumer calling all listeners from {@link EventNode#addListener(EventListener)} and
          * {@link EventNode#register(EventBinding)}.
@@ -487,12 +534,14 @@ non-sealed class EventNodeImpl<T extends Event> implements EventNode<T> {
         }
 
         void callListener(@NotNull EventListener<E> listener, E event) {
-            var node = (EventNodeImpl<E>) EventNodeImpl.this;
             EventListener.Result result = listener.run(event);
-            if (result == EventListener.Result.EXPIRED) {
-                node.removeListener(listener);
-                invalidate();
-            }
+            if (result == EventListener.Result.EXPIRED) expire(listener);
+        }
+
+        void expire(@NotNull EventListener<E> listener) {
+            var node = (EventNodeImpl<E>) EventNodeImpl.this;
+            node.removeListener(listener);
+            invalidate();
         }
     }
 }
@@ -371,6 +371,7 @@ public class AnvilLoader implements IChunkLoader {
         List<NBTCompound> sectionData = new ArrayList<>((maxY - minY + 1) / Chunk.CHUNK_SECTION_SIZE);
         int[] palettedBiomes = new int[ChunkSection.Companion.getBiomeArraySize()];
         int[] palettedBlockStates = new int[Chunk.CHUNK_SIZE_X * Chunk.CHUNK_SECTION_SIZE * Chunk.CHUNK_SIZE_Z];
+        int[] blockStates = new int[palettedBlockStates.length];
         for (int sectionY = chunk.getMinSection(); sectionY < chunk.getMaxSection(); sectionY++) {
             ChunkSectionWriter sectionWriter = new ChunkSectionWriter(SupportedVersion.Companion.getLatest(), (byte) sectionY);
 
@@ -380,6 +381,7 @@ public class AnvilLoader implements IChunkLoader {
 
             BiomePalette biomePalette = new BiomePalette();
             BlockPalette blockPalette = new BlockPalette();
+            section.blockPalette().getAll(blockStates);
             for (int sectionLocalY = 0; sectionLocalY < Chunk.CHUNK_SECTION_SIZE; sectionLocalY++) {
                 for (int z = 0; z < Chunk.CHUNK_SIZE_Z; z++) {
                     for (int x = 0; x < Chunk.CHUNK_SIZE_X; x++) {
@@ -387,7 +389,9 @@ public class AnvilLoader implements IChunkLoader {
 
                         final int blockIndex = x + sectionLocalY * 16 * 16 + z * 16;
 
-                        final Block block = chunk.getBlock(x, y, z);
+                        final Block cachedBlock = chunk.getBlock(x, y, z, Block.Getter.Condition.CACHED);
+                        final Block block = cachedBlock != null ? cachedBlock :
+                                Objects.requireNonNullElse(Block.fromStateId((short) blockStates[blockIndex]), Block.AIR);
 
                         final BlockState hephaistosBlockState = getBlockState(block);
                         blockPalette.increaseReference(hephaistosBlockState);
@@ -0,0 +1,266 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.block.BlockHandler;
+import net.minestom.server.utils.chunk.ChunkUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static net.minestom.server.utils.chunk.ChunkUtils.toSectionRelativeCoordinate;
+
+/**
+ * Tickable blocks of a chunk, stored per section as parallel arrays grouped by handler.
+ * <p>
+ * {@link BlockHandler.Tick} objects are created once when the block is placed,
+ * ticking does not allocate and gives each handler all its blocks of a section at once
+ * (see {@link BlockHandler#tick(BlockHandler.BulkTick)}).
+ * <p>
+ * Blocks changed by handlers during {@link #tick()} keep their slot when they stay in the same group,
+ * other changes are applied once all the groups have been ticked.
+ * <p>
+ * WARNING: not thread-safe.
+ */
+final class BlockTickables {
+    private final Instance instance;
+    private final int chunkX, chunkZ, minSection;
+    private final SectionTickables[] sections;
+    private int size;
+
+    private boolean ticking;
+    private List<PendingChange> pendingChanges;
+
+    BlockTickables(@NotNull Instance instance, int chunkX, int chunkZ, int minSection, int sectionCount) {
+        this.instance = instance;
+        this.chunkX = chunkX;
+        this.chunkZ = chunkZ;
+        this.minSection = minSection;
+        this.sections = new SectionTickables[sectionCount];
+    }
+
+    /**
+     * Updates the block at the given position, removing it if its handler is not tickable.
+     */
+    void set(int x, int y, int z, @NotNull Block block) {
+        final BlockHandler handler = block.handler();
+        final boolean tickable = handler != null && handler.isTickable();
+        final int sectionIndex = ChunkUtils.getChunkCoordinate(y) - minSection;
+        SectionTickables section = sections[sectionIndex];
+        final int index = toSectionRelativeCoordinate(x) | toSectionRelativeCoordinate(z) << 4 |
+                toSectionRelativeCoordinate(y) << 8;
+        if (ticking) {
+            // Changes must be applied in order once one has been delayed
+            if (pendingChanges == null && tickable && section != null && section.replace(index, block, handler)) return;
+            if (pendingChanges == null) pendingChanges = new ArrayList<>();
+            pendingChanges.add(new PendingChange(x, y, z, block));
+            return;
+        }
+        if (section == null) {
+            if (!tickable) return;
+            section = sections[sectionIndex] = new SectionTickables(sectionIndex + minSection);
+        }
+        if (tickable && section.replace(index, block, handler)) return;
+        if (section.remove(index)) size--;
+        if (tickable) {
+            section.add(index, block, handler);
+            size++;
+        }
+    }
+
+    void tick() {
+        if (size == 0) return;
+        this.ticking = true;
+        try {
+            for (SectionTickables section : sections) {
+                if (section == null) continue;
+                for (int i = 0; i < section.groupCount; i++) {
+                    final Group group = section.groups[i];
+                    group.handler.tick(group);
+                }
+            }
+        } finally {
+            this.ticking = false;
+        }
+        final List<PendingChange> pendingChanges = this.pendingChanges;
+        if (pendingChanges != null) {
+            this.pendingChanges = null;
+            for (PendingChange change : pendingChanges) set(change.x, change.y, change.z, change.block);
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    void clear() {
+        Arrays.fill(sections, null);
+        this.size = 0;
+        this.pendingChanges = null;
+    }
+
+    private record PendingChange(int x, int y, int z, Block block) {
+    }
+
+    private final class SectionTickables {
+        private final int sectionY;
+        // (group << 12 | slot) + 1, 0 if the block is not tickable
+        private final int[] slots = new int[Chunk.CHUNK_SECTION_SIZE * Chunk.CHUNK_SECTION_SIZE * Chunk.CHUNK_SECTION_SIZE];
+        private Group[] groups = new Group[1];
+        private int groupCount;
+
+        SectionTickables(int sectionY) {
+            this.sectionY = sectionY;
+        }
+
+        void add(int index, Block block, BlockHandler handler) {
+            int groupIndex = 0;
+            while (groupIndex < groupCount && groups[groupIndex].handler != handler) groupIndex++;
+            if (groupIndex == groupCount) {
+                if (groupCount == groups.length) groups = Arrays.copyOf(groups, groupCount * 2);
+                groups[groupCount++] = new Group(handler, sectionY);
+            }
+            final int slot = groups[groupIndex].add(index, block);
+            slots[index] = (groupIndex << 12 | slot) + 1;
+        }
+
+        /**
+         * Replaces the block at {@code index} if it is already ticked by {@code handler}, keeping its slot.
+         */
+        boolean replace(int index, Block block, BlockHandler handler) {
+            final int value = slots[index] - 1;
+            if (value == -1) return false;
+            final Group group = groups[value >>> 12];
+            if (group.handler != handler) return false;
+            group.replace(value & 0xFFF, block);
+            return true;
+        }
+
+        boolean remove(int index) {
+            final int value = slots[index] - 1;
+            if (value == -1) return false;
+            slots[index] = 0;
+            final int groupIndex = value >>> 12;
+            final Group group = groups[groupIndex];
+            final int movedIndex = group.remove(value & 0xFFF);
+            if (movedIndex != -1) slots[movedIndex] = (groupIndex << 12 | (value & 0xFFF)) + 1;
+            if (group.size == 0) {
+                // Move the last group to the free position
+                final int lastIndex = --groupCount;
+                final Group last = groups[lastIndex];
+                groups[lastIndex] = null;
+                if (lastIndex != groupIndex) {
+                    groups[groupIndex] = last;
+                    for (int i = 0; i < last.size; i++) {
+                        slots[last.positions[i]] = (groupIndex << 12 | i) + 1;
+                    }
+                }
+            }
+            return true;
+        }
+    }
+
+    private final class Group implements BlockHandler.BulkTick {
+        private final BlockHandler handler;
+        private final int sectionY;
+        private short[] positions = new short[4];
+        private Block[] blocks = new Block[4];
+        private BlockHandler.Tick[] ticks = new BlockHandler.Tick[4];
+        private int size;
+
+        Group(BlockHandler handler, int sectionY) {
+            this.handler = handler;
+            this.sectionY = sectionY;
+        }
+
+        int add(int index, Block block) {
+            final int slot = size++;
+            if (slot == positions.length) {
+                final int length = slot * 2;
+                this.positions = Arrays.copyOf(positions, length);
+                this.blocks = Arrays.copyOf(blocks, length);
+                this.ticks = Arrays.copyOf(ticks, length);
+            }
+            positions[slot] = (short) index;
+            blocks[slot] = block;
+            ticks[slot] = new BlockHandler.Tick(block, instance,
+                    new Vec(blockX(index), blockY(index), blockZ(index)));
+            return slot;
+        }
+
+        void replace(int slot, Block block) {
+            final int index = positions[slot];
+            blocks[slot] = block;
+            ticks[slot] = new BlockHandler.Tick(block, instance,
+                    new Vec(blockX(index), blockY(index), blockZ(index)));
+        }
+
+        /**
+         * Removes a slot by moving the last one in its place.
+         *
+         * @return the section index of the moved block, -1 if none
+         */
+        int remove(int slot) {
+            final int last = --size;
+            int movedIndex = -1;
+            if (slot != last) {
+                positions[slot] = positions[last];
+                blocks[slot] = blocks[last];
+                ticks[slot] = ticks[last];
+                movedIndex = positions[slot];
+            }
+            blocks[last] = null;
+            ticks[last] = null;
+            return movedIndex;
+        }
+
+        @Override
+        public @NotNull Instance getInstance() {
+            return instance;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public @NotNull Block getBlock(int i) {
+            return blocks[i];
+        }
+
+        @Override
+        public int getBlockX(int i) {
+            return blockX(positions[i]);
+        }
+
+        @Override
+        public int getBlockY(int i) {
+            return blockY(positions[i]);
+        }
+
+        @Override
+        public int getBlockZ(int i) {
+            return blockZ(positions[i]);
+        }
+
+        @Override
+        public @NotNull BlockHandler.Tick getTick(int i) {
+            return ticks[i];
+        }
+
+        private int blockX(int index) {
+            return chunkX * Chunk.CHUNK_SIZE_X + (index & 0xF);
+        }
+
+        private int blockY(int index) {
+            return sectionY * Chunk.CHUNK_SECTION_SIZE + (index >> 8 & 0xF);
+        }
+
+        private int blockZ(int index) {
+            return chunkZ * Chunk.CHUNK_SIZE_Z + (index >> 4 & 0xF);
+        }
+    }
+}
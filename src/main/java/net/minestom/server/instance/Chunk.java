@@ -15,6 +15,7 @@ import net.minestom.server.tag.Taggable;
 import net.minestom.server.utils.chunk.ChunkSupplier;
 import net.minestom.server.utils.chunk.ChunkUtils;
 import net.minestom.server.world.biomes.Biome;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -95,6 +96,32 @@ public abstract class Chunk implements Block.Getter, Block.Setter, Biome.Getter,
                                      @Nullable BlockHandler.Placement placement,
                                      @Nullable BlockHandler.Destroy destroy);
 
+    /**
+     * Replaces the blocks of a section by block states, without handler nor nbt.
+     * <p>
+     * Used by {@link net.minestom.server.instance.batch.BulkBlockBatch}, the chunk must be locked.
+     *
+     * @param sectionY the section coordinate
+     * @param states   the block state of each block of the section, indexed by {@code y << 8 | z << 4 | x},
+     *                 -1 to keep the current block
+     * @return the number of changed blocks
+     */
+    @ApiStatus.Internal
+    public int setBlockStates(int sectionY, short @NotNull [] states) {
+        final int offsetX = chunkX * CHUNK_SIZE_X, offsetY = sectionY * CHUNK_SECTION_SIZE, offsetZ = chunkZ * CHUNK_SIZE_Z;
+        int changed = 0;
+        for (int index = 0; index < states.length; index++) {
+            final int state = states[index];
+            if (state < 0) continue;
+            final int x = offsetX + (index & 0xF), y = offsetY + (index >> 8), z = offsetZ + (index >> 4 & 0xF);
+            final Block block = Block.fromStateId((short) state);
+            if (block == null || getBlock(x, y, z, Condition.TYPE).stateId() == state) continue;
+            setBlock(x, y, z, block);
+            changed++;
+        }
+        return changed;
+    }
+
     public abstract @NotNull List<Section> getSections();
 
     public abstract @NotNull Section getSection(int section);
@@ -103,6 +130,36 @@ public abstract class Chunk implements Block.Getter, Block.Setter, Biome.Getter,
         return getSection(ChunkUtils.getChunkCoordinate(blockY));
     }
 
+    /**
+     * Gets the block state id at a position without locking the chunk.
+     * <p>
+     * Used for {@link Condition#TYPE} reads, which do not need the block entities.
+     *
+     * @return the block state id, -1 if the chunk must be locked to read it
+     */
+    @ApiStatus.Internal
+    public int getBlockStateIdOptimistic(int x, int y, int z) {
+        return -1;
+    }
+
+    /**
+     * Gets the y coordinate of the highest block of a column matching a heightmap type.
+     * <p>
+     * WARNING: the chunk must be locked.
+     *
+     * @param type the condition of the block
+     * @param x    the x coordinate of the column
+     * @param z    the z coordinate of the column
+     * @return the y coordinate of the highest matching block, the bottom of the chunk minus one if none
+     */
+    public int getHighestBlockY(@NotNull Heightmap.Type type, int x, int z) {
+        final int minY = minSection * CHUNK_SECTION_SIZE;
+        for (int y = maxSection * CHUNK_SECTION_SIZE - 1; y >= minY; y--) {
+            if (type.test(getBlock(x, y, z, Condition.TYPE))) return y;
+        }
+        return minY - 1;
+    }
+
     /**
      * Executes a chunk tick.
      * <p>
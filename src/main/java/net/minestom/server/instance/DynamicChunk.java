@@ -3,14 +3,13 @@ package net.minestom.server.instance;
 import com.extollit.gaming.ai.path.model.ColumnarOcclusionFieldList;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import net.minestom.server.MinecraftServer;
-import net.minestom.server.coordinate.Point;
 import net.minestom.server.coordinate.Vec;
 import net.minestom.server.entity.Entity;
 import net.minestom.server.entity.Player;
+import net.minestom.server.entity.pathfinding.NavigationCache;
 import net.minestom.server.entity.pathfinding.PFBlock;
 import net.minestom.server.instance.block.Block;
 import net.minestom.server.instance.block.BlockHandler;
-import net.minestom.server.network.NetworkBuffer;
 import net.minestom.server.network.packet.server.CachedPacket;
 import net.minestom.server.network.packet.server.play.ChunkDataPacket;
 import net.minestom.server.network.packet.server.play.UpdateLightPacket;
@@ -20,8 +19,6 @@ import net.minestom.server.snapshot.ChunkSnapshot;
 import net.minestom.server.snapshot.SnapshotImpl;
 import net.minestom.server.snapshot.SnapshotUpdater;
 import net.minestom.server.utils.ArrayUtils;
-import net.minestom.server.utils.MathUtils;
-import net.minestom.server.utils.ObjectPool;
 import net.minestom.server.utils.chunk.ChunkUtils;
 import net.minestom.server.utils.validate.Check;
 import net.minestom.server.world.biomes.Biome;
@@ -48,9 +45,11 @@ public class DynamicChunk extends Chunk {
 
     // Key = ChunkUtils#getBlockIndex
     protected final Int2ObjectOpenHashMap<Block> entries = new Int2ObjectOpenHashMap<>(0);
-    protected final Int2ObjectOpenHashMap<Block> tickableMap = new Int2ObjectOpenHashMap<>(0);
+    final BlockTickables tickables;
 
     private long lastChange;
+    // Indexed by Heightmap.Type#ordinal, computed on first use then updated for each block change
+    private Heightmap[] heightmaps;
     final CachedPacket chunkCache = new CachedPacket(this::createChunkPacket);
 
     public DynamicChunk(@NotNull Instance instance, int chunkX, int chunkZ) {
@@ -58,6 +57,7 @@ public class DynamicChunk extends Chunk {
         var sectionsTemp = new Section[maxSection - minSection];
         Arrays.setAll(sectionsTemp, value -> new Section());
         this.sections = List.of(sectionsTemp);
+        this.tickables = new BlockTickables(instance, chunkX, chunkZ, minSection, sectionsTemp.length);
     }
 
     @Override
@@ -80,6 +80,7 @@ public class DynamicChunk extends Chunk {
             final var blockDescription = PFBlock.get(block);
             columnarOcclusionFieldList.onBlockChanged(x, y, z, blockDescription, 0);
         }
+        instance.getNavigationCache().onBlockChange(x, y, z, block);
         Section section = getSectionAt(y);
         section.blockPalette().set(
                 toSectionRelativeCoordinate(x),
@@ -87,6 +88,9 @@ public class DynamicChunk extends Chunk {
                 toSectionRelativeCoordinate(z),
                 block.stateId()
         );
+        if (heightmaps != null) {
+            for (Heightmap heightmap : heightmaps) heightmap.update(sections, x, y, z, block);
+        }
 
         final int index = ChunkUtils.getBlockIndex(x, y, z);
         // Handler
@@ -98,11 +102,7 @@ public class DynamicChunk extends Chunk {
             lastCachedBlock = this.entries.remove(index);
         }
         // Block tick
-        if (handler != null && handler.isTickable()) {
-            this.tickableMap.put(index, block);
-        } else {
-            this.tickableMap.remove(index);
-        }
+        this.tickables.set(x, y, z, block);
 
         // Update block handlers
         var blockPosition = new Vec(x, y, z);
@@ -120,6 +120,52 @@ public class DynamicChunk extends Chunk {
 
     }
 
+    @Override
+    public int setBlockStates(int sectionY, short @NotNull [] states) {
+        assertLock();
+        final Section section = getSection(sectionY);
+        final int offsetX = chunkX * CHUNK_SIZE_X, offsetY = sectionY * CHUNK_SECTION_SIZE, offsetZ = chunkZ * CHUNK_SIZE_Z;
+        final ColumnarOcclusionFieldList occlusionFields = columnarSpace != null ? columnarSpace.occlusionFields() : null;
+        final boolean hasEntries = !entries.isEmpty();
+        final List<Block> destroyed = new ArrayList<>(0);
+        final List<Vec> destroyedPositions = new ArrayList<>(0);
+        final int[] changed = {0};
+        section.blockPalette().replaceAll((x, y, z, value) -> {
+            final int state = states[y << 8 | z << 4 | x];
+            if (state < 0) return value;
+            final int blockX = offsetX + x, blockY = offsetY + y, blockZ = offsetZ + z;
+            // A block with a handler or nbt is replaced even when overwritten by its own state
+            final Block previous = hasEntries ? entries.remove(ChunkUtils.getBlockIndex(blockX, blockY, blockZ)) : null;
+            if (state == value && previous == null) return value;
+            changed[0]++;
+            if (occlusionFields == null && previous == null) return state;
+            final Block block = Objects.requireNonNullElse(Block.fromStateId((short) state), Block.AIR);
+            if (occlusionFields != null && state != value) {
+                occlusionFields.onBlockChanged(blockX, blockY, blockZ, PFBlock.get(block), 0);
+            }
+            if (previous != null) {
+                this.tickables.set(blockX, blockY, blockZ, block);
+                if (previous.handler() != null) {
+                    destroyed.add(previous);
+                    destroyedPositions.add(new Vec(blockX, blockY, blockZ));
+                }
+            }
+            return state;
+        });
+        if (changed[0] == 0) return 0;
+
+        invalidateHeightmaps();
+        this.lastChange = System.currentTimeMillis();
+        this.chunkCache.invalidate();
+        instance.getNavigationCache().invalidateSection(chunkX, sectionY, chunkZ);
+        // Handlers are called once the palette is consistent
+        for (int i = 0; i < destroyed.size(); i++) {
+            final Block previous = destroyed.get(i);
+            previous.handler().onDestroy(new BlockHandler.Destroy(previous, instance, destroyedPositions.get(i)));
+        }
+        return changed[0];
+    }
+
     @Override
     public void setBiome(int x, int y, int z, @NotNull Biome biome) {
         assertLock();
@@ -143,15 +189,7 @@ public class DynamicChunk extends Chunk {
 
     @Override
     public void tick(long time) {
-        if (tickableMap.isEmpty()) return;
-        tickableMap.int2ObjectEntrySet().fastForEach(entry -> {
-            final int index = entry.getIntKey();
-            final Block block = entry.getValue();
-            final BlockHandler handler = block.handler();
-            if (handler == null) return;
-            final Point blockPosition = ChunkUtils.getBlockPosition(index, chunkX, chunkZ);
-            handler.tick(new BlockHandler.Tick(block, instance, blockPosition));
-        });
+        this.tickables.tick();
     }
 
     @Override
@@ -175,6 +213,15 @@ public class DynamicChunk extends Chunk {
         return Objects.requireNonNullElse(Block.fromStateId((short) blockStateId), Block.AIR);
     }
 
+    @Override
+    public int getBlockStateIdOptimistic(int x, int y, int z) {
+        if (y < minSection * CHUNK_SECTION_SIZE || y >= maxSection * CHUNK_SECTION_SIZE)
+            return Block.AIR.stateId(); // Out of bounds
+        final Section section = getSectionAt(y);
+        return section.blockPalette()
+                .getOptimistic(toSectionRelativeCoordinate(x), toSectionRelativeCoordinate(y), toSectionRelativeCoordinate(z));
+    }
+
     @Override
     public @NotNull Biome getBiome(int x, int y, int z) {
         assertLock();
@@ -184,6 +231,12 @@ public class DynamicChunk extends Chunk {
         return MinecraftServer.getBiomeManager().getById(id);
     }
 
+    @Override
+    public int getHighestBlockY(@NotNull Heightmap.Type type, int x, int z) {
+        assertLock();
+        return heightmaps()[type.ordinal()].highestY(toSectionRelativeCoordinate(x), toSectionRelativeCoordinate(z));
+    }
+
     @Override
     public long getLastChangeTime() {
         return lastChange;
@@ -212,36 +265,61 @@ public class DynamicChunk extends Chunk {
     @Override
     public void reset() {
         for (Section section : sections) section.clear();
+        final NavigationCache navigationCache = instance.getNavigationCache();
+        for (int sectionY = minSection; sectionY < maxSection; sectionY++) {
+            navigationCache.invalidateSection(chunkX, sectionY, chunkZ);
+        }
         this.entries.clear();
+        this.tickables.clear();
+        invalidateHeightmaps();
     }
 
-    private @NotNull ChunkDataPacket createChunkPacket() {
-        final NBTCompound heightmapsNBT;
-        // TODO: don't hardcode heightmaps
-        // Heightmap
-        {
-            int dimensionHeight = getInstance().getDimensionType().getHeight();
-            int[] motionBlocking = new int[16 * 16];
-            int[] worldSurface = new int[16 * 16];
-            for (int x = 0; x < 16; x++) {
-                for (int z = 0; z < 16; z++) {
-                    motionBlocking[x + z * 16] = 0;
-                    worldSurface[x + z * 16] = dimensionHeight - 1;
-                }
+    /**
+     * Discards the heightmaps after changes bypassing {@link #setBlock(int, int, int, Block)},
+     * they are computed again when needed.
+     */
+    void invalidateHeightmaps() {
+        this.heightmaps = null;
+    }
+
+    private Heightmap[] heightmaps() {
+        Heightmap[] heightmaps = this.heightmaps;
+        if (heightmaps == null) {
+            final Heightmap.Type[] types = Heightmap.Type.values();
+            heightmaps = new Heightmap[types.length];
+            for (int i = 0; i < types.length; i++) {
+                final Heightmap heightmap = new Heightmap(types[i]::test,
+                        minSection * CHUNK_SECTION_SIZE, sections.size() * CHUNK_SECTION_SIZE);
+                heightmap.compute(sections);
+                heightmaps[i] = heightmap;
             }
-            final int bitsForHeight = MathUtils.bitsToRepresent(dimensionHeight);
-            heightmapsNBT = NBT.Compound(Map.of(
-                    "MOTION_BLOCKING", NBT.LongArray(encodeBlocks(motionBlocking, bitsForHeight)),
-                    "WORLD_SURFACE", NBT.LongArray(encodeBlocks(worldSurface, bitsForHeight))));
+            this.heightmaps = heightmaps;
         }
-        // Data
+        return heightmaps;
+    }
 
+    private @NotNull ChunkDataPacket createChunkPacket() {
+        final NBTCompound heightmapsNBT;
         final byte[] data;
         synchronized (this) {
-            data = ObjectPool.PACKET_POOL.use(buffer ->
-                    NetworkBuffer.makeArray(networkBuffer -> {
-                        for (Section section : sections) networkBuffer.write(section);
-                    }));
+            final Heightmap[] heightmaps = heightmaps();
+            heightmapsNBT = NBT.Compound(Map.of(
+                    "MOTION_BLOCKING", NBT.LongArray(heightmaps[Heightmap.Type.MOTION_BLOCKING.ordinal()].data()),
+                    "WORLD_SURFACE", NBT.LongArray(heightmaps[Heightmap.Type.WORLD_SURFACE.ordinal()].data())));
+            // Only the modified sections are serialized again
+            final byte[][] sectionsData = new byte[sections.size()][];
+            int length = 0;
+            for (int i = 0; i < sectionsData.length; i++) {
+                final byte[] sectionData = sections.get(i).data();
+                sectionsData[i] = sectionData;
+                length += sectionData.length;
+            }
+            data = new byte[length];
+            int offset = 0;
+            for (byte[] sectionData : sectionsData) {
+                System.arraycopy(sectionData, 0, data, offset, sectionData.length);
+                offset += sectionData.length;
+            }
         }
 
         if (this instanceof LightingChunk light) {
@@ -329,47 +407,4 @@ public class DynamicChunk extends Chunk {
     private void assertLock() {
         assert Thread.holdsLock(this) : "Chunk must be locked before access";
     }
-
-    private static final int[] MAGIC = {
-            -1, -1, 0, Integer.MIN_VALUE, 0, 0, 1431655765, 1431655765, 0, Integer.MIN_VALUE,
-            0, 1, 858993459, 858993459, 0, 715827882, 715827882, 0, 613566756, 613566756,
-            0, Integer.MIN_VALUE, 0, 2, 477218588, 477218588, 0, 429496729, 429496729, 0,
-            390451572, 390451572, 0, 357913941, 357913941, 0, 330382099, 330382099, 0, 306783378,
-            306783378, 0, 286331153, 286331153, 0, Integer.MIN_VALUE, 0, 3, 252645135, 252645135,
-            0, 238609294, 238609294, 0, 226050910, 226050910, 0, 214748364, 214748364, 0,
-            204522252, 204522252, 0, 195225786, 195225786, 0, 186737708, 186737708, 0, 178956970,
-            178956970, 0, 171798691, 171798691, 0, 165191049, 165191049, 0, 159072862, 159072862,
-            0, 153391689, 153391689, 0, 148102320, 148102320, 0, 143165576, 143165576, 0,
-            138547332, 138547332, 0, Integer.MIN_VALUE, 0, 4, 130150524, 130150524, 0, 126322567,
-            126322567, 0, 122713351, 122713351, 0, 119304647, 119304647, 0, 116080197, 116080197,
-            0, 113025455, 113025455, 0, 110127366, 110127366, 0, 107374182, 107374182, 0,
-            104755299, 104755299, 0, 102261126, 102261126, 0, 99882960, 99882960, 0, 97612893,
-            97612893, 0, 95443717, 95443717, 0, 93368854, 93368854, 0, 91382282, 91382282,
-            0, 89478485, 89478485, 0, 87652393, 87652393, 0, 85899345, 85899345, 0,
-            84215045, 84215045, 0, 82595524, 82595524, 0, 81037118, 81037118, 0, 79536431,
-            79536431, 0, 78090314, 78090314, 0, 76695844, 76695844, 0, 75350303, 75350303,
-            0, 74051160, 74051160, 0, 72796055, 72796055, 0, 71582788, 71582788, 0,
-            70409299, 70409299, 0, 69273666, 69273666, 0, 68174084, 68174084, 0, Integer.MIN_VALUE,
-            0, 5};
-
-    private static long[] encodeBlocks(int[] blocks, int bitsPerEntry) {
-        final long maxEntryValue = (1L << bitsPerEntry) - 1;
-        final char valuesPerLong = (char) (64 / bitsPerEntry);
-        final int magicIndex = 3 * (valuesPerLong - 1);
-        final long divideMul = Integer.toUnsignedLong(MAGIC[magicIndex]);
-        final long divideAdd = Integer.toUnsignedLong(MAGIC[magicIndex + 1]);
-        final int divideShift = MAGIC[magicIndex + 2];
-        final int size = (blocks.length + valuesPerLong - 1) / valuesPerLong;
-
-        long[] data = new long[size];
-
-        for (int i = 0; i < blocks.length; i++) {
-            final long value = blocks[i];
-            final int cellIndex = (int) (i * divideMul + divideAdd >> 32L >> divideShift);
-            final int bitIndex = (i - cellIndex * valuesPerLong) * bitsPerEntry;
-            data[cellIndex] = data[cellIndex] & ~(maxEntryValue << bitIndex) | (value & maxEntryValue) << bitIndex;
-        }
-
-        return data;
-    }
 }
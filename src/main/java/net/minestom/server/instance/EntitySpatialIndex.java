@@ -0,0 +1,308 @@
+package net.minestom.server.instance;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import net.minestom.server.collision.BoundingBox;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.entity.Entity;
+import org.jetbrains.annotations.NotNull;
+import space.vectrix.flare.fastutil.Long2ObjectSyncMap;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Grid of 4x4x4 block cells used by {@link EntityTrackerImpl} to answer range queries
+ * without scanning whole chunks.
+ * <p>
+ * Each cell stores its entities along with their positions in a flat array, positions of entities
+ * staying in the same cell are updated in place. Queries read the cells without locking.
+ * <p>
+ * Small queries look up each cell they span, larger ones scan the occupied cells instead
+ * so that the cost is bounded by the number of occupied cells rather than by the range.
+ */
+final class EntitySpatialIndex {
+    static final int CELL_SHIFT = 2;
+    /**
+     * Queries spanning up to this many cells always look up each cell.
+     */
+    static final int MAX_QUERY_CELLS = 512;
+    /**
+     * Past this many occupied cells, queries too large to look up each cell are expected
+     * to be faster using the chunk buckets.
+     */
+    static final int MAX_SCANNED_CELLS = 4096;
+
+    private static final Content EMPTY = new Content(new Entity[0], new double[0]);
+
+    private final Long2ObjectSyncMap<Cell> cells = Long2ObjectSyncMap.hashmap();
+    /**
+     * Largest distance between an entity position and its bounding box, used to expand ray queries.
+     */
+    private volatile double maxExtent;
+
+    void add(@NotNull Entity entity, @NotNull Point point) {
+        updateExtent(entity.getBoundingBox());
+        final long key = cellKey(point);
+        while (true) {
+            final Cell cell = cells.computeIfAbsent(key, k -> new Cell());
+            if (cell.add(entity, point.x(), point.y(), point.z())) return;
+        }
+    }
+
+    void remove(@NotNull Entity entity, @NotNull Point point) {
+        final long key = cellKey(point);
+        final Cell cell = cells.get(key);
+        if (cell != null && cell.remove(entity)) cells.remove(key, cell);
+    }
+
+    void move(@NotNull Entity entity, @NotNull Point oldPoint, @NotNull Point newPoint) {
+        updateExtent(entity.getBoundingBox());
+        final long oldKey = cellKey(oldPoint);
+        final long newKey = cellKey(newPoint);
+        if (oldKey == newKey) {
+            final Cell cell = cells.get(oldKey);
+            if (cell != null && cell.update(entity, newPoint.x(), newPoint.y(), newPoint.z())) return;
+        }
+        remove(entity, oldPoint);
+        add(entity, newPoint);
+    }
+
+    /**
+     * Finds the entities whose position is within the sphere.
+     *
+     * @return false if the query is too large for the index and has not been executed
+     */
+    <T extends Entity> boolean sphere(@NotNull Point center, double range,
+                                      @NotNull EntityTracker.Target<T> target, @NotNull Consumer<T> query) {
+        final double x = center.x(), y = center.y(), z = center.z();
+        final double squaredRange = range * range;
+        return forCells(x - range, y - range, z - range, x + range, y + range, z + range, (content, i) -> {
+            final double[] positions = content.positions;
+            final double dx = positions[i * 3] - x;
+            final double dy = positions[i * 3 + 1] - y;
+            final double dz = positions[i * 3 + 2] - z;
+            return dx * dx + dy * dy + dz * dz <= squaredRange;
+        }, target, query);
+    }
+
+    /**
+     * Finds the entities whose position is within the box.
+     *
+     * @return false if the query is too large for the index and has not been executed
+     */
+    <T extends Entity> boolean box(double minX, double minY, double minZ, double maxX, double maxY, double maxZ,
+                                   @NotNull EntityTracker.Target<T> target, @NotNull Consumer<T> query) {
+        return forCells(minX, minY, minZ, maxX, maxY, maxZ, (content, i) -> {
+            final double[] positions = content.positions;
+            final double px = positions[i * 3], py = positions[i * 3 + 1], pz = positions[i * 3 + 2];
+            return px >= minX && px <= maxX && py >= minY && py <= maxY && pz >= minZ && pz <= maxZ;
+        }, target, query);
+    }
+
+    /**
+     * Finds the entities whose bounding box intersects the segment.
+     *
+     * @return false if the query is too large for the index and has not been executed
+     */
+    <T extends Entity> boolean ray(@NotNull Point start, @NotNull Point end,
+                                   @NotNull EntityTracker.Target<T> target, @NotNull Consumer<T> query) {
+        final double extent = maxExtent;
+        final double sx = start.x(), sy = start.y(), sz = start.z();
+        final double dx = end.x() - sx, dy = end.y() - sy, dz = end.z() - sz;
+        return forCells(Math.min(sx, end.x()) - extent, Math.min(sy, end.y()) - extent, Math.min(sz, end.z()) - extent,
+                Math.max(sx, end.x()) + extent, Math.max(sy, end.y()) + extent, Math.max(sz, end.z()) + extent,
+                (content, i) -> {
+                    final double[] positions = content.positions;
+                    final BoundingBox box = content.entities[i].getBoundingBox();
+                    final double px = positions[i * 3], py = positions[i * 3 + 1], pz = positions[i * 3 + 2];
+                    return intersectSegment(sx, sy, sz, dx, dy, dz,
+                            px + box.minX(), py + box.minY(), pz + box.minZ(),
+                            px + box.maxX(), py + box.maxY(), pz + box.maxZ());
+                }, target, query);
+    }
+
+    /**
+     * Slab test of the segment {@code start + t * direction} with {@code t} in [0, 1].
+     */
+    static boolean intersectSegment(double sx, double sy, double sz, double dx, double dy, double dz,
+                                    double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+        double tMin = 0, tMax = 1;
+        // X
+        if (dx == 0) {
+            if (sx < minX || sx > maxX) return false;
+        } else {
+            double t1 = (minX - sx) / dx, t2 = (maxX - sx) / dx;
+            tMin = Math.max(tMin, Math.min(t1, t2));
+            tMax = Math.min(tMax, Math.max(t1, t2));
+            if (tMin > tMax) return false;
+        }
+        // Y
+        if (dy == 0) {
+            if (sy < minY || sy > maxY) return false;
+        } else {
+            double t1 = (minY - sy) / dy, t2 = (maxY - sy) / dy;
+            tMin = Math.max(tMin, Math.min(t1, t2));
+            tMax = Math.min(tMax, Math.max(t1, t2));
+            if (tMin > tMax) return false;
+        }
+        // Z
+        if (dz == 0) {
+            return sz >= minZ && sz <= maxZ;
+        } else {
+            double t1 = (minZ - sz) / dz, t2 = (maxZ - sz) / dz;
+            tMin = Math.max(tMin, Math.min(t1, t2));
+            tMax = Math.min(tMax, Math.max(t1, t2));
+            return tMin <= tMax;
+        }
+    }
+
+    private <T extends Entity> boolean forCells(double minX, double minY, double minZ,
+                                                double maxX, double maxY, double maxZ,
+                                                EntryPredicate predicate,
+                                                EntityTracker.Target<T> target, Consumer<T> query) {
+        final int minCellX = cellCoordinate(minX), minCellY = cellCoordinate(minY), minCellZ = cellCoordinate(minZ);
+        final int maxCellX = cellCoordinate(maxX), maxCellY = cellCoordinate(maxY), maxCellZ = cellCoordinate(maxZ);
+        final long cellCount = (long) (maxCellX - minCellX + 1) * (maxCellY - minCellY + 1) * (maxCellZ - minCellZ + 1);
+        final int occupiedCells = cells.size();
+        if (cellCount <= Math.max(MAX_QUERY_CELLS, occupiedCells)) {
+            for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+                for (int cellZ = minCellZ; cellZ <= maxCellZ; cellZ++) {
+                    for (int cellY = minCellY; cellY <= maxCellY; cellY++) {
+                        final Cell cell = cells.get(cellKey(cellX, cellY, cellZ));
+                        if (cell != null) queryCell(cell, predicate, target, query);
+                    }
+                }
+            }
+        } else if (occupiedCells <= MAX_SCANNED_CELLS) {
+            for (Long2ObjectMap.Entry<Cell> entry : cells.long2ObjectEntrySet()) {
+                final long key = entry.getLongKey();
+                final int cellX = cellX(key), cellY = cellY(key), cellZ = cellZ(key);
+                if (cellX < minCellX || cellX > maxCellX || cellY < minCellY || cellY > maxCellY ||
+                        cellZ < minCellZ || cellZ > maxCellZ) continue;
+                queryCell(entry.getValue(), predicate, target, query);
+            }
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    private static <T extends Entity> void queryCell(Cell cell, EntryPredicate predicate,
+                                                     EntityTracker.Target<T> target, Consumer<T> query) {
+        final Class<T> type = target.type();
+        final boolean allEntities = type == Entity.class;
+        final Content content = cell.content;
+        final Entity[] entities = content.entities;
+        for (int i = 0; i < entities.length; i++) {
+            final Entity entity = entities[i];
+            if (!allEntities && !type.isInstance(entity)) continue;
+            if (predicate.test(content, i)) query.accept(type.cast(entity));
+        }
+    }
+
+    private void updateExtent(BoundingBox box) {
+        final double extent = Math.max(
+                Math.max(Math.max(-box.minX(), box.maxX()), Math.max(-box.minY(), box.maxY())),
+                Math.max(-box.minZ(), box.maxZ()));
+        if (extent > maxExtent) this.maxExtent = extent;
+    }
+
+    static int cellCoordinate(double xyz) {
+        return (int) Math.floor(xyz) >> CELL_SHIFT;
+    }
+
+    static long cellKey(@NotNull Point point) {
+        return cellKey(cellCoordinate(point.x()), cellCoordinate(point.y()), cellCoordinate(point.z()));
+    }
+
+    static long cellKey(int cellX, int cellY, int cellZ) {
+        return ((long) cellX & 0x1FFFFF) << 42 | ((long) cellZ & 0x1FFFFF) << 21 | ((long) cellY & 0x1FFFFF);
+    }
+
+    static int cellX(long key) {
+        return (int) (key << 1 >> 43);
+    }
+
+    static int cellY(long key) {
+        return (int) (key << 43 >> 43);
+    }
+
+    static int cellZ(long key) {
+        return (int) (key << 22 >> 43);
+    }
+
+    @FunctionalInterface
+    private interface EntryPredicate {
+        boolean test(Content content, int index);
+    }
+
+    /**
+     * Entities of a cell with their positions (x, y, z for each entity).
+     * <p>
+     * Replaced when the entities change, positions are updated in place.
+     */
+    private record Content(Entity[] entities, double[] positions) {
+    }
+
+    private static final class Cell {
+        volatile Content content = EMPTY;
+        // Set once the cell has been emptied and removed from the map
+        private boolean removed;
+
+        synchronized boolean add(Entity entity, double x, double y, double z) {
+            if (removed) return false;
+            final Content content = this.content;
+            final int size = content.entities.length;
+            Entity[] entities = Arrays.copyOf(content.entities, size + 1);
+            double[] positions = Arrays.copyOf(content.positions, (size + 1) * 3);
+            entities[size] = entity;
+            positions[size * 3] = x;
+            positions[size * 3 + 1] = y;
+            positions[size * 3 + 2] = z;
+            this.content = new Content(entities, positions);
+            return true;
+        }
+
+        /**
+         * @return true if the cell is now empty and has to be removed
+         */
+        synchronized boolean remove(Entity entity) {
+            final Content content = this.content;
+            final int index = indexOf(content, entity);
+            if (index == -1) return false;
+            final int size = content.entities.length - 1;
+            if (size == 0) {
+                this.content = EMPTY;
+                this.removed = true;
+                return true;
+            }
+            Entity[] entities = new Entity[size];
+            double[] positions = new double[size * 3];
+            System.arraycopy(content.entities, 0, entities, 0, index);
+            System.arraycopy(content.entities, index + 1, entities, index, size - index);
+            System.arraycopy(content.positions, 0, positions, 0, index * 3);
+            System.arraycopy(content.positions, (index + 1) * 3, positions, index * 3, (size - index) * 3);
+            this.content = new Content(entities, positions);
+            return false;
+        }
+
+        synchronized boolean update(Entity entity, double x, double y, double z) {
+            final Content content = this.content;
+            final int index = indexOf(content, entity);
+            if (index == -1) return false;
+            final double[] positions = content.positions;
+            positions[index * 3] = x;
+            positions[index * 3 + 1] = y;
+            positions[index * 3 + 2] = z;
+            return true;
+        }
+
+        private static int indexOf(Content content, Entity entity) {
+            final Entity[] entities = content.entities;
+            for (int i = 0; i < entities.length; i++) {
+                if (entities[i] == entity) return i;
+            }
+            return -1;
+        }
+    }
+}
@@ -27,6 +27,20 @@ public sealed interface EntityTracker permits EntityTrackerImpl {
         return new EntityTrackerImpl();
     }
 
+    /**
+     * Creates a tracker, optionally maintaining a spatial index of 4x4x4 block cells.
+     * <p>
+     * The index speeds up range queries (e.g. collisions) in crowded chunks
+     * at the cost of additional work on each movement. Queries fall back to the chunk buckets
+     * only when spanning more than 512 cells while more than 4096 cells are occupied.
+     *
+     * @param spatialIndex true to maintain the spatial index
+     * @return a new tracker
+     */
+    static @NotNull EntityTracker newTracker(boolean spatialIndex) {
+        return new EntityTrackerImpl(spatialIndex);
+    }
+
     /**
      * Register an entity to be tracked.
      */
@@ -64,6 +78,18 @@ public sealed interface EntityTracker permits EntityTrackerImpl {
     <T extends Entity> void nearbyEntities(@NotNull Point point, double range,
                                            @NotNull Target<T> target, @NotNull Consumer<T> query);
 
+    /**
+     * Gets the entities whose position is within a box.
+     */
+    <T extends Entity> void entitiesInBox(@NotNull Point start, @NotNull Point end,
+                                          @NotNull Target<T> target, @NotNull Consumer<T> query);
+
+    /**
+     * Gets the entities whose bounding box intersects the segment between two points.
+     */
+    <T extends Entity> void raycastEntities(@NotNull Point start, @NotNull Point end,
+                                            @NotNull Target<T> target, @NotNull Consumer<T> query);
+
     /**
      * Gets all the entities tracked by this class.
      */
@@ -3,6 +3,7 @@ package net.minestom.server.instance;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import net.minestom.server.MinecraftServer;
 import net.minestom.server.Viewable;
+import net.minestom.server.collision.BoundingBox;
 import net.minestom.server.coordinate.Point;
 import net.minestom.server.coordinate.Vec;
 import net.minestom.server.entity.Entity;
@@ -28,17 +29,28 @@ import static net.minestom.server.utils.chunk.ChunkUtils.*;
 
 final class EntityTrackerImpl implements EntityTracker {
     static final AtomicInteger TARGET_COUNTER = new AtomicInteger();
+    private static final boolean SPATIAL_INDEX = Boolean.getBoolean("minestom.entity-tracker.spatial-index");
 
     // Store all data associated to a Target
     // The array index is the Target enum ordinal
     final TargetEntry<Entity>[] entries = EntityTracker.Target.TARGETS.stream().map((Function<Target<?>, TargetEntry>) TargetEntry::new).toArray(TargetEntry[]::new);
     private final Int2ObjectSyncMap<Point> entityPositions = Int2ObjectSyncMap.hashmap();
+    private final EntitySpatialIndex spatialIndex;
+
+    EntityTrackerImpl(boolean spatialIndex) {
+        this.spatialIndex = spatialIndex ? new EntitySpatialIndex() : null;
+    }
+
+    EntityTrackerImpl() {
+        this(SPATIAL_INDEX);
+    }
 
     @Override
     public <T extends Entity> void register(@NotNull Entity entity, @NotNull Point point,
                                             @NotNull Target<T> target, @Nullable Update<T> update) {
         var prevPoint = entityPositions.putIfAbsent(entity.getEntityId(), point);
         if (prevPoint != null) return;
+        if (spatialIndex != null) spatialIndex.add(entity, point);
         final long index = getChunkIndex(point);
         for (TargetEntry<Entity> entry : entries) {
             if (entry.target.type().isInstance(entity)) {
@@ -60,6 +72,7 @@ final class EntityTrackerImpl implements EntityTracker {
                                               @NotNull Target<T> target, @Nullable Update<T> update) {
         final Point point = entityPositions.remove(entity.getEntityId());
         if (point == null) return;
+        if (spatialIndex != null) spatialIndex.remove(entity, point);
         final long index = getChunkIndex(point);
         for (TargetEntry<Entity> entry : entries) {
             if (entry.target.type().isInstance(entity)) {
@@ -80,7 +93,9 @@ final class EntityTrackerImpl implements EntityTracker {
     public <T extends Entity> void move(@NotNull Entity entity, @NotNull Point newPoint,
                                         @NotNull Target<T> target, @Nullable Update<T> update) {
         Point oldPoint = entityPositions.put(entity.getEntityId(), newPoint);
-        if (oldPoint == null || oldPoint.sameChunk(newPoint)) return;
+        if (oldPoint == null) return;
+        if (spatialIndex != null) spatialIndex.move(entity, oldPoint, newPoint);
+        if (oldPoint.sameChunk(newPoint)) return;
         final long oldIndex = getChunkIndex(oldPoint);
         final long newIndex = getChunkIndex(newPoint);
         for (TargetEntry<Entity> entry : entries) {
@@ -134,6 +149,7 @@ final class EntityTrackerImpl implements EntityTracker {
 
     @Override
     public <T extends Entity> void nearbyEntities(@NotNull Point point, double range, @NotNull Target<T> target, @NotNull Consumer<T> query) {
+        if (spatialIndex != null && spatialIndex.sphere(point, range, target, query)) return;
         final Long2ObjectSyncMap<List<Entity>> entities = entries[target.ordinal()].chunkEntities;
         final int minChunkX = ChunkUtils.getChunkCoordinate(point.x() - range);
         final int minChunkZ = ChunkUtils.getChunkCoordinate(point.z() - range);
@@ -165,6 +181,58 @@ final class EntityTrackerImpl implements EntityTracker {
         }
     }
 
+    @Override
+    public <T extends Entity> void entitiesInBox(@NotNull Point start, @NotNull Point end, @NotNull Target<T> target, @NotNull Consumer<T> query) {
+        final double minX = Math.min(start.x(), end.x()), maxX = Math.max(start.x(), end.x());
+        final double minY = Math.min(start.y(), end.y()), maxY = Math.max(start.y(), end.y());
+        final double minZ = Math.min(start.z(), end.z()), maxZ = Math.max(start.z(), end.z());
+        if (spatialIndex != null && spatialIndex.box(minX, minY, minZ, maxX, maxY, maxZ, target, query)) return;
+        forChunkEntities(minX, minZ, maxX, maxZ, target, entity -> {
+            final Point position = entityPositions.get(entity.getEntityId());
+            if (position == null) return;
+            final double x = position.x(), y = position.y(), z = position.z();
+            if (x >= minX && x <= maxX && y >= minY && y <= maxY && z >= minZ && z <= maxZ) {
+                query.accept(entity);
+            }
+        });
+    }
+
+    @Override
+    public <T extends Entity> void raycastEntities(@NotNull Point start, @NotNull Point end, @NotNull Target<T> target, @NotNull Consumer<T> query) {
+        if (spatialIndex != null && spatialIndex.ray(start, end, target, query)) return;
+        final double sx = start.x(), sy = start.y(), sz = start.z();
+        final double dx = end.x() - sx, dy = end.y() - sy, dz = end.z() - sz;
+        // Entities may overlap with the segment while being in a neighbour chunk
+        forChunkEntities(Math.min(sx, end.x()) - CHUNK_SIZE_X, Math.min(sz, end.z()) - CHUNK_SIZE_Z,
+                Math.max(sx, end.x()) + CHUNK_SIZE_X, Math.max(sz, end.z()) + CHUNK_SIZE_Z, target, entity -> {
+                    final Point position = entityPositions.get(entity.getEntityId());
+                    if (position == null) return;
+                    final BoundingBox box = entity.getBoundingBox();
+                    final double x = position.x(), y = position.y(), z = position.z();
+                    if (EntitySpatialIndex.intersectSegment(sx, sy, sz, dx, dy, dz,
+                            x + box.minX(), y + box.minY(), z + box.minZ(),
+                            x + box.maxX(), y + box.maxY(), z + box.maxZ())) {
+                        query.accept(entity);
+                    }
+                });
+    }
+
+    private <T extends Entity> void forChunkEntities(double minX, double minZ, double maxX, double maxZ,
+                                                     @NotNull Target<T> target, @NotNull Consumer<T> consumer) {
+        final Long2ObjectSyncMap<List<Entity>> entities = entries[target.ordinal()].chunkEntities;
+        final int minChunkX = ChunkUtils.getChunkCoordinate(minX);
+        final int minChunkZ = ChunkUtils.getChunkCoordinate(minZ);
+        final int maxChunkX = ChunkUtils.getChunkCoordinate(maxX);
+        final int maxChunkZ = ChunkUtils.getChunkCoordinate(maxZ);
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                final var chunkEntities = (List<T>) entities.get(getChunkIndex(chunkX, chunkZ));
+                if (chunkEntities == null || chunkEntities.isEmpty()) continue;
+                chunkEntities.forEach(consumer);
+            }
+        }
+    }
+
     @Override
     public @UnmodifiableView @NotNull <T extends Entity> Set<@NotNull T> entities(@NotNull Target<T> target) {
         //noinspection unchecked
@@ -1,11 +1,20 @@
 package net.minestom.server.instance;
 
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
 import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.entity.Player;
 import net.minestom.server.instance.block.Block;
 import net.minestom.server.network.packet.server.play.ExplosionPacket;
+import net.minestom.server.network.packet.server.play.MultiBlockChangePacket;
 import net.minestom.server.utils.PacketUtils;
+import net.minestom.server.utils.chunk.ChunkUtils;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -13,6 +22,10 @@ import java.util.List;
  * Instance can provide a supplier through {@link Instance#setExplosionSupplier}
  */
 public abstract class Explosion {
+    /**
+     * Distance under which players receive the explosion packet.
+     */
+    private static final double PACKET_RANGE = 64;
 
     private final float centerX;
     private final float centerY;
@@ -60,7 +73,6 @@ public abstract class Explosion {
         byte[] records = new byte[3 * blocks.size()];
         for (int i = 0; i < blocks.size(); i++) {
             final var pos = blocks.get(i);
-            instance.setBlock(pos, Block.AIR);
             final byte x = (byte) (pos.x() - Math.floor(getCenterX()));
             final byte y = (byte) (pos.y() - Math.floor(getCenterY()));
             final byte z = (byte) (pos.z() - Math.floor(getCenterZ()));
@@ -68,16 +80,71 @@ public abstract class Explosion {
             records[i * 3 + 1] = y;
             records[i * 3 + 2] = z;
         }
+        removeBlocks(instance, blocks);
 
-        // TODO send only to close players
         ExplosionPacket packet = new ExplosionPacket(centerX, centerY, centerZ, strength,
                 records, 0, 0, 0);
         postExplosion(instance, blocks, packet);
-        PacketUtils.sendGroupedPacket(instance.getPlayers(), packet);
+        List<Player> players = new ArrayList<>();
+        instance.getEntityTracker().nearbyEntities(new Vec(centerX, centerY, centerZ), PACKET_RANGE,
+                EntityTracker.Target.PLAYERS, players::add);
+        PacketUtils.sendGroupedPacket(players, packet);
 
         postSend(instance, blocks);
     }
 
+    /**
+     * Replaces blocks by air, locking each chunk once and sending a single packet per section.
+     * <p>
+     * Unlike {@link Instance#setBlock(Point, Block)}, placement rules are not applied to the removed blocks,
+     * their neighbours are still updated.
+     */
+    private static void removeBlocks(@NotNull Instance instance, @NotNull List<Point> blocks) {
+        if (blocks.isEmpty()) return;
+        final int minY = instance.getDimensionType().getMinY(), maxY = instance.getDimensionType().getMaxY();
+        // Group the blocks per chunk
+        Long2ObjectOpenHashMap<List<Point>> chunkBlocks = new Long2ObjectOpenHashMap<>();
+        for (Point block : blocks) {
+            if (block.blockY() < minY || block.blockY() >= maxY) continue;
+            final long index = ChunkUtils.getChunkIndex(block.chunkX(), block.chunkZ());
+            chunkBlocks.computeIfAbsent(index, i -> new ArrayList<>()).add(block);
+        }
+        List<Point> removed = new ArrayList<>(blocks.size());
+        for (List<Point> positions : chunkBlocks.values()) {
+            final Point first = positions.get(0);
+            final Chunk chunk = instance.getChunk(first.chunkX(), first.chunkZ());
+            if (!ChunkUtils.isLoaded(chunk) || chunk.isReadOnly()) continue;
+            // Section y -> encoded block changes
+            Int2ObjectOpenHashMap<LongArrayList> sections = new Int2ObjectOpenHashMap<>();
+            // Same locking order as block placements
+            synchronized (chunk.getInstance()) {
+                synchronized (chunk) {
+                    for (Point position : positions) {
+                        final int x = position.blockX(), y = position.blockY(), z = position.blockZ();
+                        if (chunk.getBlock(x, y, z, Block.Getter.Condition.TYPE).isAir()) continue;
+                        chunk.setBlock(x, y, z, Block.AIR);
+                        removed.add(position);
+                        final long change = (long) Block.AIR.stateId() << 12 |
+                                (long) ChunkUtils.toSectionRelativeCoordinate(x) << 8 |
+                                ChunkUtils.toSectionRelativeCoordinate(z) << 4 |
+                                ChunkUtils.toSectionRelativeCoordinate(y);
+                        sections.computeIfAbsent(ChunkUtils.getChunkCoordinate(y), i -> new LongArrayList()).add(change);
+                    }
+                }
+            }
+            for (Int2ObjectMap.Entry<LongArrayList> entry : sections.int2ObjectEntrySet()) {
+                chunk.sendPacketToViewers(new MultiBlockChangePacket(chunk.getChunkX(), entry.getIntKey(), chunk.getChunkZ(),
+                        entry.getValue().toLongArray()));
+            }
+        }
+        if (removed.isEmpty()) return;
+        final Instance owner = instance instanceof SharedInstance shared ? shared.getInstanceContainer() : instance;
+        if (owner instanceof InstanceContainer container) {
+            container.refreshLastBlockChangeTime();
+            for (Point position : removed) container.updateNeighbours(position);
+        }
+    }
+
     /**
      * Called after removing blocks and preparing the packet, but before sending it.
      *
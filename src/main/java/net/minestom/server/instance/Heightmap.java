@@ -0,0 +1,153 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.palette.Palette;
+import net.minestom.server.utils.MathUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Height of the highest block matching a condition in each column of a chunk.
+ * <p>
+ * Heights are stored like the client expects them, relative to the bottom of the world plus one (0 for an empty column)
+ * and packed in a {@code long[]} without spanning an entry across two longs. A heightmap is computed once
+ * then updated for each block change, a column is only scanned again when its highest block is removed.
+ * <p>
+ * WARNING: not thread-safe, the owning chunk must be locked.
+ */
+public final class Heightmap {
+
+    /**
+     * Conditions of the heightmaps sent to the client.
+     */
+    public enum Type {
+        /**
+         * Highest block which is not air.
+         */
+        WORLD_SURFACE(block -> !block.isAir()),
+        /**
+         * Highest block blocking motion or containing a fluid.
+         */
+        MOTION_BLOCKING(block -> block.isSolid() || block.isLiquid() ||
+                "true".equals(block.getProperty("waterlogged")));
+
+        private final Predicate<Block> predicate;
+
+        Type(Predicate<Block> predicate) {
+            this.predicate = predicate;
+        }
+
+        public boolean test(@NotNull Block block) {
+            return predicate.test(block);
+        }
+    }
+
+    private final Predicate<Block> predicate;
+    private final int minY;
+    private final int bitsPerEntry;
+    private final int valuesPerLong;
+    private final long entryMask;
+    private final long[] data;
+
+    /**
+     * @param predicate the condition of the blocks, must be false for air
+     * @param minY      the lowest y coordinate of the chunk
+     * @param height    the height of the chunk
+     */
+    Heightmap(@NotNull Predicate<Block> predicate, int minY, int height) {
+        this.predicate = predicate;
+        this.minY = minY;
+        this.bitsPerEntry = MathUtils.bitsToRepresent(height);
+        this.valuesPerLong = Long.SIZE / bitsPerEntry;
+        this.entryMask = (1L << bitsPerEntry) - 1;
+        final int columns = Chunk.CHUNK_SIZE_X * Chunk.CHUNK_SIZE_Z;
+        this.data = new long[(columns + valuesPerLong - 1) / valuesPerLong];
+    }
+
+    /**
+     * Computes the height of every column.
+     */
+    void compute(@NotNull List<Section> sections) {
+        Arrays.fill(data, 0);
+        final int topY = sections.size() * Chunk.CHUNK_SECTION_SIZE - 1;
+        for (int z = 0; z < Chunk.CHUNK_SIZE_Z; z++) {
+            for (int x = 0; x < Chunk.CHUNK_SIZE_X; x++) {
+                final int height = scan(sections, x, z, topY);
+                if (height != 0) set(x, z, height);
+            }
+        }
+    }
+
+    /**
+     * Updates the column of a block after it has been written to its section.
+     */
+    void update(@NotNull List<Section> sections, int x, int y, int z, @NotNull Block block) {
+        x &= 0xF;
+        z &= 0xF;
+        final int relativeY = y - minY;
+        final int height = get(x, z);
+        if (predicate.test(block)) {
+            if (relativeY >= height) set(x, z, relativeY + 1);
+        } else if (relativeY == height - 1) {
+            // Highest block removed, look for the next one below
+            set(x, z, scan(sections, x, z, relativeY - 1));
+        }
+    }
+
+    /**
+     * Gets the y coordinate of the highest matching block of a column.
+     *
+     * @param x the chunk relative x coordinate
+     * @param z the chunk relative z coordinate
+     * @return the y coordinate of the highest block, {@code minY - 1} if the column has none
+     */
+    int highestY(int x, int z) {
+        return minY + get(x, z) - 1;
+    }
+
+    /**
+     * Gets the heights in the format of the chunk packet.
+     *
+     * @return a copy of the packed heights
+     */
+    long @NotNull [] data() {
+        return data.clone();
+    }
+
+    private int get(int x, int z) {
+        final int index = z << 4 | x;
+        final int bitIndex = (index % valuesPerLong) * bitsPerEntry;
+        return (int) (data[index / valuesPerLong] >>> bitIndex & entryMask);
+    }
+
+    private void set(int x, int z, int height) {
+        final int index = z << 4 | x;
+        final int cellIndex = index / valuesPerLong;
+        final int bitIndex = (index % valuesPerLong) * bitsPerEntry;
+        data[cellIndex] = data[cellIndex] & ~(entryMask << bitIndex) | ((long) height & entryMask) << bitIndex;
+    }
+
+    /**
+     * Finds the height of a column from a starting point, sections containing only air are skipped.
+     *
+     * @param fromY the chunk relative y coordinate to start from
+     * @return the relative height of the highest matching block plus one, 0 if none
+     */
+    private int scan(List<Section> sections, int x, int z, int fromY) {
+        for (int sectionIndex = fromY >> 4; sectionIndex >= 0; sectionIndex--) {
+            final Palette palette = sections.get(sectionIndex).blockPalette();
+            if (palette.count() == 0) continue;
+            final int startY = sectionIndex == fromY >> 4 ? fromY & 0xF : Chunk.CHUNK_SECTION_SIZE - 1;
+            for (int y = startY; y >= 0; y--) {
+                final Block block = Block.fromStateId((short) palette.get(x, y, z));
+                if (block != null && predicate.test(block)) {
+                    return sectionIndex * Chunk.CHUNK_SECTION_SIZE + y + 1;
+                }
+            }
+        }
+        return 0;
+    }
+}
@@ -8,10 +8,14 @@ import net.minestom.server.ServerProcess;
 import net.minestom.server.Tickable;
 import net.minestom.server.adventure.audience.PacketGroupingAudience;
 import net.minestom.server.coordinate.Point;
+import net.minestom.server.entity.ActivationRange;
 import net.minestom.server.entity.Entity;
 import net.minestom.server.entity.EntityCreature;
+import net.minestom.server.entity.EntityType;
 import net.minestom.server.entity.ExperienceOrb;
 import net.minestom.server.entity.Player;
+import net.minestom.server.entity.pathfinding.FlowFields;
+import net.minestom.server.entity.pathfinding.NavigationCache;
 import net.minestom.server.entity.pathfinding.PFInstanceSpace;
 import net.minestom.server.event.EventDispatcher;
 import net.minestom.server.event.EventFilter;
@@ -34,7 +38,6 @@ import net.minestom.server.timer.Scheduler;
 import net.minestom.server.utils.ArrayUtils;
 import net.minestom.server.utils.NamespaceID;
 import net.minestom.server.utils.PacketUtils;
-import net.minestom.server.utils.chunk.ChunkCache;
 import net.minestom.server.utils.chunk.ChunkSupplier;
 import net.minestom.server.utils.chunk.ChunkUtils;
 import net.minestom.server.utils.time.Cooldown;
@@ -49,6 +52,7 @@ import org.jglrxavpok.hephaistos.nbt.NBTCompound;
 import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
@@ -87,8 +91,6 @@ public abstract class Instance implements Block.Getter, Block.Setter,
 
     private final EntityTracker entityTracker = new EntityTrackerImpl();
 
-    private final ChunkCache blockRetriever = new ChunkCache(this, null, null);
-
     // the uuid of this instance
     protected UUID uniqueId;
 
@@ -102,6 +104,12 @@ public abstract class Instance implements Block.Getter, Block.Setter,
 
     // Pathfinder
     private final PFInstanceSpace instanceSpace = new PFInstanceSpace(this);
+    private final NavigationCache navigationCache;
+    private final FlowFields flowFields;
+
+    // Entity activation
+    private volatile ActivationRange activationRange = ActivationRange.DEFAULT;
+    private final Map<EntityType, ActivationRange> activationRanges = new ConcurrentHashMap<>();
 
     // Adventure
     private final Pointers pointers;
@@ -129,6 +137,14 @@ public abstract class Instance implements Block.Getter, Block.Setter,
         this.dimensionType = dimensionType;
         this.dimensionName = dimensionName.asString();
 
+        if (this instanceof SharedInstance) {
+            // Uses the cache of its container, which is the one notified of the block changes
+            this.navigationCache = null;
+            this.flowFields = null;
+        } else {
+            this.navigationCache = new NavigationCache(this);
+            this.flowFields = new FlowFields(this, navigationCache);
+        }
         this.worldBorder = new WorldBorder(this);
 
         this.pointers = Pointers.builder()
@@ -590,9 +606,33 @@ public abstract class Instance implements Block.Getter, Block.Setter,
 
     @Override
     public @Nullable Block getBlock(int x, int y, int z, @NotNull Condition condition) {
-        final Block block = blockRetriever.getBlock(x, y, z, condition);
-        if (block == null) throw new NullPointerException("Unloaded chunk at " + x + "," + y + "," + z);
-        return block;
+        final Chunk chunk = getChunkAt(x, z);
+        if (chunk == null) throw new NullPointerException("Unloaded chunk at " + x + "," + y + "," + z);
+        if (condition == Condition.TYPE) {
+            // Most reads only need the block type, try without locking
+            final int stateId = chunk.getBlockStateIdOptimistic(x, y, z);
+            if (stateId != -1) return Objects.requireNonNullElse(Block.fromStateId((short) stateId), Block.AIR);
+        }
+        synchronized (chunk) {
+            return chunk.getBlock(x, y, z, condition);
+        }
+    }
+
+    /**
+     * Gets the y coordinate of the highest block of a column matching a heightmap type.
+     *
+     * @param type the condition of the block
+     * @param x    the x coordinate of the column
+     * @param z    the z coordinate of the column
+     * @return the y coordinate of the highest matching block, {@link DimensionType#getMinY()} minus one if none
+     * @throws NullPointerException if the chunk of the column is not loaded
+     */
+    public int getHighestBlockY(@NotNull Heightmap.Type type, int x, int z) {
+        final Chunk chunk = getChunkAt(x, z);
+        Check.notNull(chunk, "The chunk at {0}:{1} is not loaded", x, z);
+        synchronized (chunk) {
+            return chunk.getHighestBlockY(type, x, z);
+        }
     }
 
     /**
@@ -675,6 +715,8 @@ public abstract class Instance implements Block.Getter, Block.Setter,
             this.lastTickAge = time;
         }
         this.worldBorder.update();
+        // Pathfinding
+        getFlowFields().tick();
     }
 
     @Override
@@ -764,6 +806,74 @@ public abstract class Instance implements Block.Getter, Block.Setter,
         return instanceSpace;
     }
 
+    /**
+     * Gets the walkability cache of the blocks, shared by the built-in pathfinder of all the entities in this instance.
+     *
+     * @return the navigation cache
+     */
+    @ApiStatus.Internal
+    public @NotNull NavigationCache getNavigationCache() {
+        return navigationCache;
+    }
+
+    /**
+     * Gets the flow fields shared by the entities following the same target.
+     *
+     * @return the flow fields of this instance
+     */
+    @ApiStatus.Experimental
+    public @NotNull FlowFields getFlowFields() {
+        return flowFields;
+    }
+
+    /**
+     * Gets the activation range of the entities of a type in this instance.
+     *
+     * @param entityType the entity type
+     * @return the activation range of the type, or the default one of the instance
+     */
+    @ApiStatus.Experimental
+    public @NotNull ActivationRange getActivationRange(@NotNull EntityType entityType) {
+        final ActivationRange activationRange = activationRanges.get(entityType);
+        return activationRange != null ? activationRange : this.activationRange;
+    }
+
+    /**
+     * Changes the activation range of the entities of a type in this instance.
+     *
+     * @param entityType      the entity type
+     * @param activationRange the new activation range, null to use the default one of the instance
+     */
+    @ApiStatus.Experimental
+    public void setActivationRange(@NotNull EntityType entityType, @Nullable ActivationRange activationRange) {
+        if (activationRange != null) {
+            this.activationRanges.put(entityType, activationRange);
+        } else {
+            this.activationRanges.remove(entityType);
+        }
+    }
+
+    /**
+     * Gets the activation range of the entities without a specific one.
+     *
+     * @return the default activation range
+     */
+    @ApiStatus.Experimental
+    public @NotNull ActivationRange getActivationRange() {
+        return activationRange;
+    }
+
+    /**
+     * Changes the activation range of the entities without a specific one,
+     * {@link ActivationRange#DEFAULT} initially.
+     *
+     * @param activationRange the new default activation range
+     */
+    @ApiStatus.Experimental
+    public void setActivationRange(@NotNull ActivationRange activationRange) {
+        this.activationRange = activationRange;
+    }
+
     @Override
     public @NotNull Pointers pointers() {
         return this.pointers;
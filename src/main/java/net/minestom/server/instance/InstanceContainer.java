@@ -20,6 +20,7 @@ import net.minestom.server.network.packet.server.play.BlockChangePacket;
 import net.minestom.server.network.packet.server.play.BlockEntityDataPacket;
 import net.minestom.server.network.packet.server.play.EffectPacket;
 import net.minestom.server.network.packet.server.play.UnloadChunkPacket;
+import net.minestom.server.thread.ServerExecutors;
 import net.minestom.server.utils.NamespaceID;
 import net.minestom.server.utils.PacketUtils;
 import net.minestom.server.utils.async.AsyncUtils;
@@ -41,7 +42,6 @@ import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
@@ -257,6 +257,8 @@ public class InstanceContainer extends Instance {
         getEntityTracker().chunkEntities(chunkX, chunkZ, EntityTracker.Target.ENTITIES).forEach(Entity::remove);
         // Clear cache
         this.chunks.remove(getChunkIndex(chunkX, chunkZ));
+        getInstanceSpace().unloadChunk(chunk);
+        getNavigationCache().unloadChunk(chunkX, chunkZ);
         chunk.unload();
         if (chunkLoader != null) {
             chunkLoader.unloadChunk(chunk);
@@ -317,7 +319,7 @@ public class InstanceContainer extends Instance {
                     return null;
                 });
         if (loader.supportsParallelLoading()) {
-            CompletableFuture.runAsync(retriever);
+            CompletableFuture.runAsync(retriever, ServerExecutors.chunkIo());
         } else {
             retriever.run();
         }
@@ -332,8 +334,7 @@ public class InstanceContainer extends Instance {
         Generator generator = generator();
         if (generator != null && chunk.shouldGenerate()) {
             CompletableFuture<Chunk> resultFuture = new CompletableFuture<>();
-            // TODO: virtual thread once Loom is available
-            ForkJoinPool.commonPool().submit(() -> {
+            ServerExecutors.generation().execute(() -> {
                 var chunkUnit = GeneratorImpl.chunk(chunk);
                 try {
                     // Generate block/biome palette
@@ -411,6 +412,9 @@ public class InstanceContainer extends Instance {
             Palette currentBlocks = section.blockPalette();
             // -1 is necessary because forked units handle explicit changes by changing AIR 0 to 1
             sectionModifier.blockPalette().getAllPresent((x, y, z, value) -> currentBlocks.set(x, y, z, value - 1));
+            if (chunk instanceof DynamicChunk dynamicChunk) dynamicChunk.invalidateHeightmaps();
+            getNavigationCache().invalidateSection(chunk.getChunkX(),
+                    ChunkUtils.getChunkCoordinate(sectionModifier.start().blockY()), chunk.getChunkZ());
             applyGenerationData(chunk, sectionModifier);
         }
     }
@@ -618,6 +622,13 @@ public class InstanceContainer extends Instance {
         return Objects.equals(changedBlock, block);
     }
 
+    /**
+     * Updates the neighbours of a block changed directly in its chunk.
+     */
+    void updateNeighbours(@NotNull Point blockPosition) {
+        executeNeighboursBlockPlacementRule(blockPosition, 0);
+    }
+
     /**
      * Executed when a block is modified, this is used to modify the states of neighbours blocks.
      * <p>
@@ -36,7 +36,8 @@ public class LightingChunk extends DynamicChunk {
 
     private static final ExecutorService pool = Executors.newWorkStealingPool();
 
-    private int[] heightmap;
+    // Highest block occluding sky light of each column, computed on first use then updated for each block change
+    private Heightmap skyHeightmap;
     final CachedPacket lightCache = new CachedPacket(this::createLightPacket);
     boolean sendNeighbours = true;
     boolean chunkLoaded = false;
@@ -116,7 +117,7 @@ public class LightingChunk extends DynamicChunk {
                          @Nullable BlockHandler.Placement placement,
                          @Nullable BlockHandler.Destroy destroy) {
         super.setBlock(x, y, z, block, placement, destroy);
-        this.heightmap = null;
+        if (skyHeightmap != null) skyHeightmap.update(sections, x, y, z, block);
 
         // Invalidate neighbor chunks, since they can be updated by this block change
         int coordinate = ChunkUtils.getChunkCoordinate(y);
@@ -126,6 +127,18 @@ public class LightingChunk extends DynamicChunk {
         }
     }
 
+    @Override
+    public int setBlockStates(int sectionY, short @NotNull [] states) {
+        final int changed = super.setBlockStates(sectionY, states);
+        if (changed != 0) {
+            if (chunkLoaded) {
+                invalidateSection(sectionY);
+                this.lightCache.invalidate();
+            }
+        }
+        return changed;
+    }
+
     public void sendLighting() {
         if (!isLoaded()) return;
         sendPacketToViewers(lightCache);
@@ -138,28 +151,28 @@ public class LightingChunk extends DynamicChunk {
         updateAfterGeneration(this);
     }
 
+    @Override
+    void invalidateHeightmaps() {
+        super.invalidateHeightmaps();
+        this.skyHeightmap = null;
+    }
+
     public int[] calculateHeightMap() {
-        if (this.heightmap != null) return this.heightmap;
         var heightmap = new int[CHUNK_SIZE_X * CHUNK_SIZE_Z];
-
-        int minY = instance.getDimensionType().getMinY();
-        int maxY = instance.getDimensionType().getMinY() + instance.getDimensionType().getHeight();
-
         synchronized (this) {
+            Heightmap skyHeightmap = this.skyHeightmap;
+            if (skyHeightmap == null) {
+                skyHeightmap = new Heightmap(this::checkSkyOcclusion,
+                        minSection * CHUNK_SECTION_SIZE, sections.size() * CHUNK_SECTION_SIZE);
+                skyHeightmap.compute(sections);
+                this.skyHeightmap = skyHeightmap;
+            }
             for (int x = 0; x < CHUNK_SIZE_X; x++) {
                 for (int z = 0; z < CHUNK_SIZE_Z; z++) {
-                    int height = maxY;
-                    while (height > minY) {
-                        Block block = getBlock(x, height, z, Condition.TYPE);
-                        if (checkSkyOcclusion(block)) break;
-                        height--;
-                    }
-                    heightmap[z << 4 | x] = (height + 1);
+                    heightmap[z << 4 | x] = skyHeightmap.highestY(x, z) + 1;
                 }
             }
         }
-
-        this.heightmap = heightmap;
         return heightmap;
     }
 
@@ -3,8 +3,10 @@ package net.minestom.server.instance;
 import net.minestom.server.instance.light.Light;
 import net.minestom.server.instance.palette.Palette;
 import net.minestom.server.network.NetworkBuffer;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
+import static net.minestom.server.network.NetworkBuffer.RAW_BYTES;
 import static net.minestom.server.network.NetworkBuffer.SHORT;
 
 public final class Section implements NetworkBuffer.Writer {
@@ -13,6 +15,9 @@ public final class Section implements NetworkBuffer.Writer {
     private final Light skyLight;
     private final Light blockLight;
 
+    // Network serialization, valid as long as the palettes are not modified
+    private Data data;
+
     private Section(Palette blockPalette, Palette biomePalette) {
         this.blockPalette = blockPalette;
         this.biomePalette = biomePalette;
@@ -46,20 +51,37 @@ public final class Section implements NetworkBuffer.Writer {
 
     @Override
     public @NotNull Section clone() {
-        final Light skyLight = Light.sky(blockPalette);
-        final Light blockLight = Light.block(blockPalette);
-
-        skyLight.set(this.skyLight.array());
-        blockLight.set(this.blockLight.array());
-
-        return new Section(this.blockPalette.clone(), this.biomePalette.clone(), skyLight, blockLight);
+        final Palette blockPalette = this.blockPalette.clone();
+        return new Section(blockPalette, this.biomePalette.clone(),
+                this.skyLight.copy(blockPalette), this.blockLight.copy(blockPalette));
     }
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(SHORT, (short) blockPalette.count());
-        writer.write(blockPalette);
-        writer.write(biomePalette);
+        writer.write(RAW_BYTES, data());
+    }
+
+    /**
+     * Gets the network serialization of this section, cached until one of its palettes is modified.
+     * <p>
+     * WARNING: the chunk must be locked.
+     *
+     * @return the serialized section, must not be modified
+     */
+    @ApiStatus.Internal
+    public byte @NotNull [] data() {
+        Data data = this.data;
+        if (data == null || !data.isValid(blockPalette, biomePalette)) {
+            final byte[] bytes = NetworkBuffer.makeArray(writer -> {
+                writer.write(SHORT, (short) blockPalette.count());
+                writer.write(blockPalette);
+                writer.write(biomePalette);
+            });
+            // Versions are retrieved after writing, the palettes are optimized in the process
+            data = new Data(bytes, blockPalette.version(), biomePalette.version());
+            this.data = data;
+        }
+        return data.bytes();
     }
 
     public void setSkyLight(byte[] copyArray) {
@@ -77,4 +99,11 @@ public final class Section implements NetworkBuffer.Writer {
     public Light blockLight() {
         return blockLight;
     }
+
+    private record Data(byte[] bytes, int blockVersion, int biomeVersion) {
+        boolean isValid(Palette blockPalette, Palette biomePalette) {
+            return blockVersion != -1 && biomeVersion != -1 &&
+                    blockVersion == blockPalette.version() && biomeVersion == biomePalette.version();
+        }
+    }
 }
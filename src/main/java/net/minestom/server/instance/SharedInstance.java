@@ -2,6 +2,8 @@ package net.minestom.server.instance;
 
 import net.minestom.server.coordinate.Point;
 import net.minestom.server.entity.Player;
+import net.minestom.server.entity.pathfinding.FlowFields;
+import net.minestom.server.entity.pathfinding.NavigationCache;
 import net.minestom.server.instance.block.Block;
 import net.minestom.server.instance.block.BlockFace;
 import net.minestom.server.instance.block.BlockHandler;
@@ -20,10 +22,22 @@ import java.util.concurrent.CompletableFuture;
  */
 public class SharedInstance extends Instance {
     private final InstanceContainer instanceContainer;
+    private final FlowFields flowFields;
 
     public SharedInstance(@NotNull UUID uniqueId, @NotNull InstanceContainer instanceContainer) {
         super(uniqueId, instanceContainer.getDimensionType());
         this.instanceContainer = instanceContainer;
+        this.flowFields = new FlowFields(this, instanceContainer.getNavigationCache());
+    }
+
+    @Override
+    public @NotNull NavigationCache getNavigationCache() {
+        return instanceContainer.getNavigationCache();
+    }
+
+    @Override
+    public @NotNull FlowFields getFlowFields() {
+        return flowFields;
     }
 
     @Override
@@ -0,0 +1,254 @@
+package net.minestom.server.instance;
+
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.collision.BoundingBox;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.LivingEntity;
+import net.minestom.server.entity.damage.DamageType;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.utils.chunk.ChunkUtils;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Explosion breaking blocks and pushing entities like vanilla does.
+ * <p>
+ * Blocks are found by casting rays from the center, each losing intensity as it goes through blocks
+ * depending on their explosion resistance. Living entities within twice the strength are damaged,
+ * and all of them are pushed, depending on their distance and on how much of them is exposed to the center.
+ */
+@ApiStatus.Experimental
+public class VanillaExplosion extends Explosion {
+    /**
+     * Supplier creating explosions breaking blocks and affecting entities, the additional data is ignored.
+     */
+    public static final ExplosionSupplier SUPPLIER = (centerX, centerY, centerZ, strength, additionalData) ->
+            new VanillaExplosion(centerX, centerY, centerZ, strength);
+
+    private static final float STEP = 0.3f;
+    private static final float STEP_ATTENUATION = 0.22500001f;
+    // Ray steps, one per point on the surface of a 16x16x16 cube
+    private static final float[] RAY_X, RAY_Y, RAY_Z;
+
+    static {
+        final int size = 16;
+        final int count = size * size * size - (size - 2) * (size - 2) * (size - 2);
+        RAY_X = new float[count];
+        RAY_Y = new float[count];
+        RAY_Z = new float[count];
+        int ray = 0;
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                for (int k = 0; k < size; k++) {
+                    if (i != 0 && i != size - 1 && j != 0 && j != size - 1 && k != 0 && k != size - 1) continue;
+                    final double x = i / (size - 1f) * 2 - 1, y = j / (size - 1f) * 2 - 1, z = k / (size - 1f) * 2 - 1;
+                    final double length = Math.sqrt(x * x + y * y + z * z);
+                    RAY_X[ray] = (float) (x / length * STEP);
+                    RAY_Y[ray] = (float) (y / length * STEP);
+                    RAY_Z[ray] = (float) (z / length * STEP);
+                    ray++;
+                }
+            }
+        }
+    }
+
+    // Reused by all the explosions computed by a thread
+    private static final ThreadLocal<Buffers> BUFFERS = ThreadLocal.withInitial(Buffers::new);
+
+    private final boolean breakBlocks;
+    private final boolean affectEntities;
+
+    public VanillaExplosion(float centerX, float centerY, float centerZ, float strength,
+                            boolean breakBlocks, boolean affectEntities) {
+        super(centerX, centerY, centerZ, strength);
+        this.breakBlocks = breakBlocks;
+        this.affectEntities = affectEntities;
+    }
+
+    public VanillaExplosion(float centerX, float centerY, float centerZ, float strength) {
+        this(centerX, centerY, centerZ, strength, true, true);
+    }
+
+    @Override
+    protected List<Point> prepare(Instance instance) {
+        Buffers buffers = BUFFERS.get();
+        // Damaged entities may trigger another explosion on the same thread
+        if (buffers.inUse) buffers = new Buffers();
+        buffers.inUse = true;
+        buffers.instance = instance;
+        try {
+            if (affectEntities) affectEntities(instance, buffers);
+            return breakBlocks ? castRays(instance, buffers) : List.of();
+        } finally {
+            buffers.clear();
+        }
+    }
+
+    private List<Point> castRays(Instance instance, Buffers buffers) {
+        final int minY = instance.getDimensionType().getMinY(), maxY = instance.getDimensionType().getMaxY();
+        final float centerX = getCenterX(), centerY = getCenterY(), centerZ = getCenterZ();
+        final float strength = getStrength();
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final LongOpenHashSet visited = buffers.visited;
+        List<Point> blocks = new ArrayList<>();
+        for (int ray = 0; ray < RAY_X.length; ray++) {
+            final float stepX = RAY_X[ray], stepY = RAY_Y[ray], stepZ = RAY_Z[ray];
+            float intensity = strength * (0.7f + random.nextFloat() * 0.6f);
+            float x = centerX, y = centerY, z = centerZ;
+            int blockX = Integer.MIN_VALUE, blockY = 0, blockZ = 0;
+            float resistance = 0;
+            while (intensity > 0) {
+                final int currentX = (int) Math.floor(x), currentY = (int) Math.floor(y), currentZ = (int) Math.floor(z);
+                if (currentY < minY || currentY >= maxY) break;
+                // Consecutive steps often stay in the same block
+                if (currentX != blockX || currentY != blockY || currentZ != blockZ) {
+                    blockX = currentX;
+                    blockY = currentY;
+                    blockZ = currentZ;
+                    final Block block = buffers.block(currentX, currentY, currentZ);
+                    if (block == null) break; // Unloaded chunk
+                    resistance = block.isAir() ? -1 : (float) block.registry().explosionResistance();
+                }
+                if (resistance >= 0) {
+                    intensity -= (resistance + 0.3f) * 0.3f;
+                    if (intensity > 0 && visited.add(blockIndex(currentX, currentY, currentZ))) {
+                        blocks.add(new Vec(currentX, currentY, currentZ));
+                    }
+                }
+                x += stepX;
+                y += stepY;
+                z += stepZ;
+                intensity -= STEP_ATTENUATION;
+            }
+        }
+        return blocks;
+    }
+
+    private void affectEntities(Instance instance, Buffers buffers) {
+        final double radius = getStrength() * 2;
+        final Vec center = new Vec(getCenterX(), getCenterY(), getCenterZ());
+        // Damage may remove entities from the tracker
+        List<Entity> entities = new ArrayList<>();
+        instance.getEntityTracker().nearbyEntities(center, radius, EntityTracker.Target.ENTITIES, entities::add);
+        for (Entity entity : entities) {
+            final Pos position = entity.getPosition();
+            final double distance = position.distance(center) / radius;
+            if (distance > 1) continue;
+            final Vec direction = position.add(0, entity.getEyeHeight(), 0).sub(center).asVec();
+            if (direction.isZero()) continue;
+            final double impact = (1 - distance) * exposure(buffers, center, position, entity.getBoundingBox());
+            if (entity instanceof LivingEntity livingEntity) {
+                livingEntity.damage(DamageType.EXPLOSION, (int) ((impact * impact + impact) / 2 * 7 * radius + 1));
+            }
+            if (entity.isRemoved()) continue;
+            entity.setVelocity(entity.getVelocity().add(direction.normalize().mul(impact * MinecraftServer.TICK_PER_SECOND)));
+        }
+    }
+
+    /**
+     * Gets the fraction of the points of a bounding box with a direct line of sight to the center.
+     */
+    private static double exposure(Buffers buffers, Vec center, Pos position, BoundingBox boundingBox) {
+        final double stepX = 1 / (boundingBox.width() * 2 + 1);
+        final double stepY = 1 / (boundingBox.height() * 2 + 1);
+        final double stepZ = 1 / (boundingBox.depth() * 2 + 1);
+        final double offsetX = (1 - Math.floor(1 / stepX) * stepX) / 2;
+        final double offsetZ = (1 - Math.floor(1 / stepZ) * stepZ) / 2;
+        final double minX = position.x() + boundingBox.minX(), minY = position.y() + boundingBox.minY(), minZ = position.z() + boundingBox.minZ();
+        int visible = 0, total = 0;
+        for (double fx = 0; fx <= 1; fx += stepX) {
+            for (double fy = 0; fy <= 1; fy += stepY) {
+                for (double fz = 0; fz <= 1; fz += stepZ) {
+                    final double x = minX + fx * boundingBox.width() + offsetX;
+                    final double y = minY + fy * boundingBox.height();
+                    final double z = minZ + fz * boundingBox.depth() + offsetZ;
+                    if (!buffers.obstructed(x, y, z, center.x(), center.y(), center.z())) visible++;
+                    total++;
+                }
+            }
+        }
+        return total != 0 ? (double) visible / total : 0;
+    }
+
+    private static long blockIndex(int x, int y, int z) {
+        return ((long) x & 0x3FFFFFF) << 38 | ((long) z & 0x3FFFFFF) << 12 | (y & 0xFFF);
+    }
+
+    private static final class Buffers {
+        private final LongOpenHashSet visited = new LongOpenHashSet();
+        private Instance instance;
+        private Chunk chunk;
+        private boolean inUse;
+
+        /**
+         * Gets the type of a block, null if its chunk is not loaded.
+         */
+        Block block(int x, int y, int z) {
+            Chunk chunk = this.chunk;
+            final int chunkX = ChunkUtils.getChunkCoordinate(x), chunkZ = ChunkUtils.getChunkCoordinate(z);
+            if (chunk == null || chunk.getChunkX() != chunkX || chunk.getChunkZ() != chunkZ || !chunk.isLoaded()) {
+                chunk = instance.getChunk(chunkX, chunkZ);
+                if (!ChunkUtils.isLoaded(chunk)) return null;
+                this.chunk = chunk;
+            }
+            final int stateId = chunk.getBlockStateIdOptimistic(x, y, z);
+            if (stateId != -1) {
+                final Block block = Block.fromStateId((short) stateId);
+                return block != null ? block : Block.AIR;
+            }
+            synchronized (chunk) {
+                return chunk.getBlock(x, y, z, Block.Getter.Condition.TYPE);
+            }
+        }
+
+        /**
+         * Walks the blocks between two points, returns true if one of them is solid.
+         */
+        boolean obstructed(double startX, double startY, double startZ, double endX, double endY, double endZ) {
+            int x = (int) Math.floor(startX), y = (int) Math.floor(startY), z = (int) Math.floor(startZ);
+            final int lastX = (int) Math.floor(endX), lastY = (int) Math.floor(endY), lastZ = (int) Math.floor(endZ);
+            final double dx = endX - startX, dy = endY - startY, dz = endZ - startZ;
+            final int stepX = dx > 0 ? 1 : -1, stepY = dy > 0 ? 1 : -1, stepZ = dz > 0 ? 1 : -1;
+            // Fraction of the segment needed to cross a block on each axis, and to reach the next block
+            final double deltaX = dx != 0 ? Math.abs(1 / dx) : Double.POSITIVE_INFINITY;
+            final double deltaY = dy != 0 ? Math.abs(1 / dy) : Double.POSITIVE_INFINITY;
+            final double deltaZ = dz != 0 ? Math.abs(1 / dz) : Double.POSITIVE_INFINITY;
+            double nextX = dx != 0 ? (stepX > 0 ? x + 1 - startX : startX - x) * deltaX : Double.POSITIVE_INFINITY;
+            double nextY = dy != 0 ? (stepY > 0 ? y + 1 - startY : startY - y) * deltaY : Double.POSITIVE_INFINITY;
+            double nextZ = dz != 0 ? (stepZ > 0 ? z + 1 - startZ : startZ - z) * deltaZ : Double.POSITIVE_INFINITY;
+            while (true) {
+                final Block block = block(x, y, z);
+                if (block != null && block.isSolid()) return true;
+                if (x == lastX && y == lastY && z == lastZ) return false;
+                if (nextX < nextY && nextX < nextZ) {
+                    if (nextX > 1) return false;
+                    x += stepX;
+                    nextX += deltaX;
+                } else if (nextY < nextZ) {
+                    if (nextY > 1) return false;
+                    y += stepY;
+                    nextY += deltaY;
+                } else {
+                    if (nextZ > 1) return false;
+                    z += stepZ;
+                    nextZ += deltaZ;
+                }
+            }
+        }
+
+        void clear() {
+            this.visited.clear();
+            this.instance = null;
+            this.chunk = null;
+            this.inUse = false;
+        }
+    }
+}
@@ -2,11 +2,11 @@ package net.minestom.server.instance.batch;
 
 import net.minestom.server.instance.Instance;
 import net.minestom.server.instance.block.Block;
+import net.minestom.server.thread.ServerExecutors;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.ForkJoinPool;
 
 /**
  * A Batch is a tool used to cache a list of block changes, and apply the changes whenever you want.
@@ -28,7 +28,7 @@ import java.util.concurrent.ForkJoinPool;
  */
 public interface Batch<C> extends Block.Setter {
 
-    ExecutorService BLOCK_BATCH_POOL = ForkJoinPool.commonPool();
+    ExecutorService BLOCK_BATCH_POOL = ServerExecutors.generation();
 
     /**
      * Gets if the batch is ready to be applied to an instance.
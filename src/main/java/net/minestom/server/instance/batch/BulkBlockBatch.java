@@ -0,0 +1,292 @@
+package net.minestom.server.instance.batch;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMaps;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.InstanceContainer;
+import net.minestom.server.instance.LightingChunk;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.utils.chunk.ChunkUtils;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * A {@link Batch} for large changes across chunks (schematics, world edits), coordinates are relative
+ * to the world origin like {@link AbsoluteBlockBatch}.
+ * <p>
+ * Blocks are stored as block states per section, and written directly to the section palettes:
+ * the chunks are applied in parallel, each one is sent once to its viewers and lighting is computed once
+ * for all of them. Blocks with a handler, nbt or a block entity are placed one by one after the palette writes.
+ *
+ * @see Batch
+ */
+@ApiStatus.Experimental
+public class BulkBlockBatch implements Batch<Runnable> {
+    private static final Logger LOGGER = LoggerFactory.getLogger(BulkBlockBatch.class);
+
+    // In the form of <Section Index, Changes>
+    private final Long2ObjectMap<SectionChanges> sections = new Long2ObjectOpenHashMap<>();
+    // Last modified section, pastes usually write nearby blocks
+    private SectionChanges lastSection;
+
+    // Available for other implementations to handle.
+    protected final CountDownLatch readyLatch;
+    private final BatchOption options;
+
+    public BulkBlockBatch() {
+        this(new BatchOption());
+    }
+
+    public BulkBlockBatch(BatchOption options) {
+        this(options, true);
+    }
+
+    private BulkBlockBatch(BatchOption options, boolean ready) {
+        this.readyLatch = new CountDownLatch(ready ? 0 : 1);
+        this.options = options;
+    }
+
+    @Override
+    public void setBlock(int x, int y, int z, @NotNull Block block) {
+        final int chunkX = ChunkUtils.getChunkCoordinate(x);
+        final int sectionY = ChunkUtils.getChunkCoordinate(y);
+        final int chunkZ = ChunkUtils.getChunkCoordinate(z);
+        synchronized (sections) {
+            SectionChanges section = this.lastSection;
+            if (section == null || section.chunkX != chunkX || section.sectionY != sectionY || section.chunkZ != chunkZ) {
+                section = sections.computeIfAbsent(sectionIndex(chunkX, sectionY, chunkZ),
+                        i -> new SectionChanges(chunkX, sectionY, chunkZ));
+                this.lastSection = section;
+            }
+            section.set(ChunkUtils.toSectionRelativeCoordinate(x), ChunkUtils.toSectionRelativeCoordinate(y),
+                    ChunkUtils.toSectionRelativeCoordinate(z), block);
+        }
+    }
+
+    @Override
+    public void clear() {
+        synchronized (sections) {
+            this.sections.clear();
+            this.lastSection = null;
+        }
+    }
+
+    @Override
+    public boolean isReady() {
+        return this.readyLatch.getCount() == 0;
+    }
+
+    @Override
+    public void awaitReady() {
+        try {
+            this.readyLatch.await();
+        } catch (InterruptedException e) {
+            throw new RuntimeException("#awaitReady interrupted!", e);
+        }
+    }
+
+    /**
+     * Applies this batch to the given instance.
+     *
+     * @param instance The instance in which the batch should be applied
+     * @param callback The callback to be executed when the batch is applied
+     * @return The inverse of this batch, if inverse is enabled in the {@link BatchOption}
+     */
+    @Override
+    public BulkBlockBatch apply(@NotNull Instance instance, @Nullable Runnable callback) {
+        return apply(instance, callback, true);
+    }
+
+    /**
+     * Applies this batch to the given instance, and execute the callback immediately when the
+     * blocks have been applied, in an unknown thread.
+     *
+     * @param instance The instance in which the batch should be applied
+     * @param callback The callback to be executed when the batch is applied
+     * @return The inverse of this batch, if inverse is enabled in the {@link BatchOption}
+     */
+    public BulkBlockBatch unsafeApply(@NotNull Instance instance, @Nullable Runnable callback) {
+        return apply(instance, callback, false);
+    }
+
+    /**
+     * Applies this batch to the given instance, and execute the callback depending on safeCallback.
+     *
+     * @param instance     The instance in which the batch should be applied
+     * @param callback     The callback to be executed when the batch is applied
+     * @param safeCallback If true, the callback will be executed in the next instance update.
+     *                     Otherwise it will be executed immediately upon completion
+     * @return The inverse of this batch, if inverse is enabled in the {@link BatchOption}
+     */
+    protected BulkBlockBatch apply(@NotNull Instance instance, @Nullable Runnable callback, boolean safeCallback) {
+        if (!this.options.isUnsafeApply()) this.awaitReady();
+
+        final BulkBlockBatch inverse = this.options.shouldCalculateInverse() ? new BulkBlockBatch(new BatchOption(), false) : null;
+        // Group the sections per chunk
+        Long2ObjectMap<List<SectionChanges>> chunks = new Long2ObjectOpenHashMap<>();
+        synchronized (sections) {
+            for (SectionChanges section : sections.values()) {
+                chunks.computeIfAbsent(ChunkUtils.getChunkIndex(section.chunkX, section.chunkZ), i -> new ArrayList<>())
+                        .add(section.copy());
+            }
+        }
+
+        List<CompletableFuture<Chunk>> futures = new ArrayList<>(chunks.size());
+        for (var entry : Long2ObjectMaps.fastIterable(chunks)) {
+            final long chunkIndex = entry.getLongKey();
+            final List<SectionChanges> chunkSections = entry.getValue();
+            futures.add(CompletableFuture.supplyAsync(() -> applyChunk(instance, chunkIndex, chunkSections, inverse), BLOCK_BATCH_POOL));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).thenRun(() -> {
+            Set<Chunk> updated = new HashSet<>();
+            for (CompletableFuture<Chunk> future : futures) {
+                final Chunk chunk = future.join();
+                if (chunk != null) updated.add(chunk);
+            }
+            if (inverse != null) inverse.readyLatch.countDown();
+            update(instance, updated);
+            if (callback != null) {
+                if (safeCallback) {
+                    instance.scheduleNextTick(inst -> callback.run());
+                } else {
+                    callback.run();
+                }
+            }
+        }).exceptionally(throwable -> {
+            MinecraftServer.getExceptionManager().handleException(throwable);
+            return null;
+        });
+        return inverse;
+    }
+
+    /**
+     * Writes the sections of a chunk, in the batch pool.
+     *
+     * @return the chunk, null if not loaded
+     */
+    private @Nullable Chunk applyChunk(Instance instance, long chunkIndex, List<SectionChanges> chunkSections,
+                                       @Nullable BulkBlockBatch inverse) {
+        final int chunkX = ChunkUtils.getChunkCoordX(chunkIndex);
+        final int chunkZ = ChunkUtils.getChunkCoordZ(chunkIndex);
+        final Chunk chunk = instance.getChunk(chunkX, chunkZ);
+        if (!ChunkUtils.isLoaded(chunk)) {
+            LOGGER.warn("Unable to apply BulkBlockBatch to unloaded chunk ({}, {}) in {}.",
+                    chunkX, chunkZ, instance.getUniqueId());
+            return null;
+        }
+        synchronized (chunk) {
+            if (options.isFullChunk()) chunk.reset();
+            for (SectionChanges section : chunkSections) {
+                if (section.sectionY < chunk.getMinSection() || section.sectionY >= chunk.getMaxSection()) continue;
+                if (inverse != null) section.saveInverse(chunk, inverse);
+                chunk.setBlockStates(section.sectionY, section.states);
+                if (section.entries != null) {
+                    final int offsetX = chunkX * Chunk.CHUNK_SIZE_X, offsetY = section.sectionY * Chunk.CHUNK_SECTION_SIZE,
+                            offsetZ = chunkZ * Chunk.CHUNK_SIZE_Z;
+                    for (Int2ObjectMap.Entry<Block> entry : section.entries.int2ObjectEntrySet()) {
+                        final int index = entry.getIntKey();
+                        chunk.setBlock(offsetX + (index & 0xF), offsetY + (index >> 8), offsetZ + (index >> 4 & 0xF),
+                                entry.getValue());
+                    }
+                }
+            }
+        }
+        return chunk;
+    }
+
+    /**
+     * Lights the updated chunks and sends them, once all of them have been written.
+     */
+    private void update(Instance instance, Set<Chunk> updated) {
+        if (updated.isEmpty()) return;
+        if (instance instanceof InstanceContainer container) {
+            container.refreshLastBlockChangeTime();
+        }
+        // Light can spread to the neighbours
+        Set<Chunk> lighting = new HashSet<>();
+        for (Chunk chunk : updated) {
+            for (int i = -1; i <= 1; ++i) {
+                for (int j = -1; j <= 1; ++j) {
+                    final Chunk neighbour = instance.getChunk(chunk.getChunkX() + i, chunk.getChunkZ() + j);
+                    if (neighbour instanceof LightingChunk) lighting.add(neighbour);
+                }
+            }
+        }
+        if (!lighting.isEmpty()) LightingChunk.relight(instance, lighting);
+        if (options.shouldSendUpdate()) {
+            for (Chunk chunk : updated) chunk.sendChunk();
+            for (Chunk chunk : lighting) ((LightingChunk) chunk).sendLighting();
+        }
+    }
+
+    private static long sectionIndex(int chunkX, int sectionY, int chunkZ) {
+        return ((long) chunkX & 0x3FFFFFF) << 38 | ((long) chunkZ & 0x3FFFFFF) << 12 | (sectionY & 0xFFF);
+    }
+
+    private static final class SectionChanges {
+        private static final int SIZE = Chunk.CHUNK_SECTION_SIZE * Chunk.CHUNK_SECTION_SIZE * Chunk.CHUNK_SECTION_SIZE;
+
+        final int chunkX, sectionY, chunkZ;
+        // Block state per position, -1 to keep the current block
+        final short[] states;
+        // Blocks which cannot be represented by their state
+        Int2ObjectOpenHashMap<Block> entries;
+
+        SectionChanges(int chunkX, int sectionY, int chunkZ) {
+            this.chunkX = chunkX;
+            this.sectionY = sectionY;
+            this.chunkZ = chunkZ;
+            this.states = new short[SIZE];
+            Arrays.fill(states, (short) -1);
+        }
+
+        private SectionChanges(SectionChanges other) {
+            this.chunkX = other.chunkX;
+            this.sectionY = other.sectionY;
+            this.chunkZ = other.chunkZ;
+            this.states = other.states.clone();
+            this.entries = other.entries != null ? other.entries.clone() : null;
+        }
+
+        void set(int x, int y, int z, Block block) {
+            final int index = y << 8 | z << 4 | x;
+            if (block.handler() != null || block.hasNbt() || block.registry().isBlockEntity()) {
+                if (entries == null) entries = new Int2ObjectOpenHashMap<>();
+                entries.put(index, block);
+                states[index] = -1;
+            } else {
+                if (entries != null) entries.remove(index);
+                states[index] = (short) block.stateId();
+            }
+        }
+
+        /**
+         * Saves the blocks about to be replaced, the chunk must be locked.
+         */
+        void saveInverse(Chunk chunk, BulkBlockBatch inverse) {
+            final int offsetX = chunkX * Chunk.CHUNK_SIZE_X, offsetY = sectionY * Chunk.CHUNK_SECTION_SIZE,
+                    offsetZ = chunkZ * Chunk.CHUNK_SIZE_Z;
+            for (int index = 0; index < SIZE; index++) {
+                if (states[index] < 0 && (entries == null || !entries.containsKey(index))) continue;
+                final int x = offsetX + (index & 0xF), y = offsetY + (index >> 8), z = offsetZ + (index >> 4 & 0xF);
+                inverse.setBlock(x, y, z, chunk.getBlock(x, y, z));
+            }
+        }
+
+        SectionChanges copy() {
+            return new SectionChanges(this);
+        }
+    }
+}
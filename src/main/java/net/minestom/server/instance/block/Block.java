@@ -189,6 +189,44 @@ public sealed interface Block extends ProtocolObject, TagReadable, Blocks permit
         return BlockImpl.getId(blockId);
     }
 
+    /**
+     * Primitive equivalent of {@link #withProperty(String, String)}, for callers only interested in state ids.
+     *
+     * @param stateId  the state to modify
+     * @param property the property name
+     * @param value    the property value
+     * @return the state id with its property changed
+     * @throws IllegalArgumentException if the state, property or value are invalid
+     */
+    static int stateWithProperty(int stateId, @NotNull String property, @NotNull String value) {
+        return BlockImpl.stateWithProperty(stateId, property, value);
+    }
+
+    /**
+     * Primitive equivalent of {@link #withProperties(Map)}.
+     *
+     * @param stateId    the state to modify
+     * @param properties map containing all the properties to change
+     * @return the state id with its properties changed
+     * @throws IllegalArgumentException if the state, property or value are invalid
+     * @see #stateWithProperty(int, String, String)
+     */
+    static int stateWithProperties(int stateId, @NotNull Map<@NotNull String, @NotNull String> properties) {
+        return BlockImpl.stateWithProperties(stateId, properties);
+    }
+
+    /**
+     * Primitive equivalent of {@link #getProperty(String)}.
+     *
+     * @param stateId  the state to read
+     * @param property the property name
+     * @return the property value, null if not present
+     * @throws IllegalArgumentException if the state is invalid
+     */
+    static @Nullable String stateProperty(int stateId, @NotNull String property) {
+        return BlockImpl.stateProperty(stateId, property);
+    }
+
     @FunctionalInterface
     interface Comparator extends BiPredicate<Block, Block> {
         Comparator IDENTITY = (b1, b2) -> b1 == b2;
@@ -59,6 +59,20 @@ public interface BlockHandler {
     default void tick(@NotNull Tick tick) {
     }
 
+    /**
+     * Ticks all the blocks using this handler in a chunk section.
+     * <p>
+     * Calls {@link #tick(Tick)} for each block by default,
+     * can be overridden to process the positions in bulk.
+     *
+     * @param tick the blocks to tick, only valid during the call
+     */
+    default void tick(@NotNull BulkTick tick) {
+        for (int i = 0; i < tick.size(); i++) {
+            tick(tick.getTick(i));
+        }
+    }
+
     default boolean isTickable() {
         return false;
     }
@@ -289,6 +303,32 @@ public interface BlockHandler {
         }
     }
 
+    /**
+     * Represents the blocks forwarded to {@link #tick(BulkTick)}, all within the same chunk section.
+     */
+    @ApiStatus.NonExtendable
+    interface BulkTick {
+        @NotNull Instance getInstance();
+
+        int size();
+
+        @NotNull Block getBlock(int index);
+
+        int getBlockX(int index);
+
+        int getBlockY(int index);
+
+        int getBlockZ(int index);
+
+        /**
+         * Gets the single block tick object, reused across ticks while the block is not changed.
+         *
+         * @param index the block index
+         * @return the tick details of the block
+         */
+        @NotNull Tick getTick(int index);
+    }
+
     /**
      * Handler used for loaded blocks with unknown namespace
      * in order to do not lose the information while saving, and for runtime debugging purpose.
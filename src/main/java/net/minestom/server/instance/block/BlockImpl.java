@@ -4,9 +4,9 @@ import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import it.unimi.dsi.fastutil.objects.Object2ObjectArrayMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectMaps;
+import net.minestom.server.registry.BlockRegistrySnapshot;
 import net.minestom.server.registry.Registry;
 import net.minestom.server.tag.Tag;
-import net.minestom.server.utils.ArrayUtils;
 import net.minestom.server.utils.block.BlockUtils;
 import net.minestom.server.utils.collection.MergedMap;
 import net.minestom.server.utils.collection.ObjectArray;
@@ -29,9 +29,56 @@ record BlockImpl(@NotNull Registry.BlockEntry registry,
     private static final ObjectArray<Block> BLOCK_STATE_MAP = ObjectArray.singleThread();
     // Block id -> valid property keys (order is important for lookup)
     private static final ObjectArray<PropertyType[]> PROPERTIES_TYPE = ObjectArray.singleThread();
-    // Block id -> Map<PropertiesValues, Block>
-    private static final ObjectArray<Map<PropertiesHolder, BlockImpl>> POSSIBLE_STATES = ObjectArray.singleThread();
-    private static final Registry.Container<Block> CONTAINER = Registry.createContainer(Registry.Resource.BLOCKS,
+    // Block id -> stride of each property in the state table
+    private static final ObjectArray<int[]> PROPERTY_STRIDES = ObjectArray.singleThread();
+    // Block id -> state ids, indexed by the sum of each property value index multiplied by its stride
+    private static final ObjectArray<int[]> STATE_TABLES = ObjectArray.singleThread();
+    // Block id -> all states
+    private static final ObjectArray<List<Block>> POSSIBLE_STATES = ObjectArray.singleThread();
+    private static final Registry.Container<Block> CONTAINER = createContainer();
+    private static final Cache<NBTCompound, NBTCompound> NBT_CACHE = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofMinutes(5))
+            .weakValues()
+            .build();
+
+    static {
+        PROPERTIES_TYPE.trim();
+        BLOCK_STATE_MAP.trim();
+        PROPERTY_STRIDES.trim();
+        STATE_TABLES.trim();
+        POSSIBLE_STATES.trim();
+    }
+
+    private static Registry.Container<Block> createContainer() {
+        final BlockRegistrySnapshot.BlockData[] snapshot = BlockRegistrySnapshot.load();
+        if (snapshot == null) return createJsonContainer();
+        Map<String, Block> namespaces = new HashMap<>(snapshot.length);
+        ObjectArray<Block> ids = ObjectArray.singleThread(snapshot.length);
+        for (BlockRegistrySnapshot.BlockData data : snapshot) {
+            final int propertyCount = data.propertyKeys().length;
+            PropertyType[] propertyTypes = new PropertyType[propertyCount];
+            for (int i = 0; i < propertyCount; i++) {
+                propertyTypes[i] = new PropertyType(data.propertyKeys()[i], List.of(data.propertyValues()[i]));
+            }
+            PROPERTIES_TYPE.set(data.id(), propertyTypes);
+
+            final BlockRegistrySnapshot.StateData[] states = data.states();
+            BlockImpl[] blocksValues = new BlockImpl[states.length];
+            for (int i = 0; i < states.length; i++) {
+                final BlockRegistrySnapshot.StateData state = states[i];
+                blocksValues[i] = new BlockImpl(state.entry(), state.properties(), null, null);
+            }
+            registerStates(data.id(), propertyTypes, blocksValues);
+
+            final Block defaultState = getState(data.defaultStateId());
+            ids.set(defaultState.id(), defaultState);
+            namespaces.put(defaultState.name(), defaultState);
+        }
+        return new Registry.Container<>(Registry.Resource.BLOCKS, namespaces, ids);
+    }
+
+    private static Registry.Container<Block> createJsonContainer() {
+        return Registry.createContainer(Registry.Resource.BLOCKS,
             (namespace, properties) -> {
                 final int blockId = properties.getInt("id");
                 final Registry.Properties stateObject = properties.section("states");
@@ -58,7 +105,6 @@ record BlockImpl(@NotNull Registry.BlockEntry registry,
                 // Retrieve block states
                 {
                     final int propertiesCount = stateObject.size();
-                    PropertiesHolder[] propertiesKeys = new PropertiesHolder[propertiesCount];
                     BlockImpl[] blocksValues = new BlockImpl[propertiesCount];
                     int propertiesOffset = 0;
                     for (var stateEntry : stateObject) {
@@ -74,27 +120,34 @@ record BlockImpl(@NotNull Registry.BlockEntry registry,
                         }
 
                         var mainProperties = Registry.Properties.fromMap(new MergedMap<>(stateOverride, properties.asMap()));
-                        final BlockImpl block = new BlockImpl(Registry.block(namespace, mainProperties),
+                        blocksValues[propertiesOffset++] = new BlockImpl(Registry.block(namespace, mainProperties),
                                 propertiesArray, null, null);
-                        BLOCK_STATE_MAP.set(block.stateId(), block);
-                        propertiesKeys[propertiesOffset] = new PropertiesHolder(propertiesArray);
-                        blocksValues[propertiesOffset++] = block;
                     }
-                    POSSIBLE_STATES.set(blockId, ArrayUtils.toMap(propertiesKeys, blocksValues, propertiesOffset));
+                    registerStates(blockId, propertyTypes, blocksValues);
                 }
                 // Register default state
                 final int defaultState = properties.getInt("defaultStateId");
                 return getState(defaultState);
             });
-    private static final Cache<NBTCompound, NBTCompound> NBT_CACHE = Caffeine.newBuilder()
-            .expireAfterWrite(Duration.ofMinutes(5))
-            .weakValues()
-            .build();
+    }
 
-    static {
-        PROPERTIES_TYPE.trim();
-        BLOCK_STATE_MAP.trim();
-        POSSIBLE_STATES.trim();
+    private static void registerStates(int blockId, PropertyType[] propertyTypes, BlockImpl[] states) {
+        int[] strides = new int[propertyTypes.length];
+        int size = 1;
+        for (int i = propertyTypes.length - 1; i >= 0; i--) {
+            strides[i] = size;
+            size *= propertyTypes[i].values().size();
+        }
+        assert size == states.length;
+        int[] table = new int[size];
+        for (BlockImpl state : states) {
+            final int stateId = state.registry.stateId();
+            table[tableIndex(state.propertiesArray, strides)] = stateId;
+            BLOCK_STATE_MAP.set(stateId, state);
+        }
+        PROPERTY_STRIDES.set(blockId, strides);
+        STATE_TABLES.set(blockId, table);
+        POSSIBLE_STATES.set(blockId, List.of(states));
     }
 
     static Block get(@NotNull String namespace) {
@@ -117,29 +170,33 @@ record BlockImpl(@NotNull Registry.BlockEntry registry,
         return CONTAINER.values();
     }
 
+    static int stateWithProperty(int stateId, @NotNull String property, @NotNull String value) {
+        return checkState(stateId).withPropertyState(property, value);
+    }
+
+    static int stateWithProperties(int stateId, @NotNull Map<@NotNull String, @NotNull String> properties) {
+        return checkState(stateId).withPropertiesState(properties);
+    }
+
+    static @Nullable String stateProperty(int stateId, @NotNull String property) {
+        return checkState(stateId).getProperty(property);
+    }
+
+    private static BlockImpl checkState(int stateId) {
+        final Block block = stateId >= 0 ? getState(stateId) : null;
+        if (block == null) throw new IllegalArgumentException("Invalid state id: " + stateId);
+        return (BlockImpl) block;
+    }
+
     @Override
     public @NotNull Block withProperty(@NotNull String property, @NotNull String value) {
-        final PropertyType[] propertyTypes = PROPERTIES_TYPE.get(id());
-        assert propertyTypes != null;
-        final byte keyIndex = findKeyIndex(propertyTypes, property, this);
-        final byte valueIndex = findValueIndex(propertyTypes[keyIndex], value, this);
-        var properties = this.propertiesArray.clone();
-        properties[keyIndex] = valueIndex;
-        return compute(properties);
+        return withState(withPropertyState(property, value));
     }
 
     @Override
     public @NotNull Block withProperties(@NotNull Map<@NotNull String, @NotNull String> properties) {
         if (properties.isEmpty()) return this;
-        final PropertyType[] propertyTypes = PROPERTIES_TYPE.get(id());
-        assert propertyTypes != null;
-        byte[] result = this.propertiesArray.clone();
-        for (var entry : properties.entrySet()) {
-            final byte keyIndex = findKeyIndex(propertyTypes, entry.getKey(), this);
-            final byte valueIndex = findValueIndex(propertyTypes[keyIndex], entry.getValue(), this);
-            result[keyIndex] = valueIndex;
-        }
-        return compute(result);
+        return withState(withPropertiesState(properties));
     }
 
     @Override
@@ -176,9 +233,20 @@ record BlockImpl(@NotNull Registry.BlockEntry registry,
         return Object2ObjectMaps.unmodifiable(new Object2ObjectArrayMap<>(keys, values, length));
     }
 
+    @Override
+    public String getProperty(@NotNull String property) {
+        final PropertyType[] propertyTypes = PROPERTIES_TYPE.get(id());
+        assert propertyTypes != null;
+        for (int i = 0; i < propertyTypes.length; i++) {
+            final PropertyType propertyType = propertyTypes[i];
+            if (propertyType.key().equals(property)) return propertyType.values().get(propertiesArray[i]);
+        }
+        return null;
+    }
+
     @Override
     public @NotNull Collection<@NotNull Block> possibleStates() {
-        return Collection.class.cast(possibleProperties().values());
+        return POSSIBLE_STATES.get(id());
     }
 
     @Override
@@ -186,10 +254,6 @@ record BlockImpl(@NotNull Registry.BlockEntry registry,
         return tag.read(Objects.requireNonNullElse(nbt, NBTCompound.EMPTY));
     }
 
-    private Map<PropertiesHolder, BlockImpl> possibleProperties() {
-        return POSSIBLE_STATES.get(id());
-    }
-
     @Override
     public String toString() {
         return String.format("%s{properties=%s, nbt=%s, handler=%s}", name(), properties(), nbt, handler);
@@ -207,11 +271,46 @@ record BlockImpl(@NotNull Registry.BlockEntry registry,
         return Objects.hash(stateId(), nbt, handler);
     }
 
-    private Block compute(byte[] properties) {
-        if (Arrays.equals(propertiesArray, properties)) return this;
-        final BlockImpl block = possibleProperties().get(new PropertiesHolder(properties));
+    private int withPropertyState(String property, String value) {
+        final int blockId = id();
+        final PropertyType[] propertyTypes = PROPERTIES_TYPE.get(blockId);
+        assert propertyTypes != null;
+        final byte keyIndex = findKeyIndex(propertyTypes, property, this);
+        final byte valueIndex = findValueIndex(propertyTypes[keyIndex], value, this);
+        final byte currentIndex = propertiesArray[keyIndex];
+        if (valueIndex == currentIndex) return registry.stateId();
+        final int[] strides = PROPERTY_STRIDES.get(blockId);
+        final int index = tableIndex(propertiesArray, strides) + (valueIndex - currentIndex) * strides[keyIndex];
+        return STATE_TABLES.get(blockId)[index];
+    }
+
+    private int withPropertiesState(Map<String, String> properties) {
+        final int blockId = id();
+        final PropertyType[] propertyTypes = PROPERTIES_TYPE.get(blockId);
+        assert propertyTypes != null;
+        final int[] strides = PROPERTY_STRIDES.get(blockId);
+        final int currentIndex = tableIndex(propertiesArray, strides);
+        int index = currentIndex;
+        for (var entry : properties.entrySet()) {
+            final byte keyIndex = findKeyIndex(propertyTypes, entry.getKey(), this);
+            final byte valueIndex = findValueIndex(propertyTypes[keyIndex], entry.getValue(), this);
+            index += (valueIndex - propertiesArray[keyIndex]) * strides[keyIndex];
+        }
+        if (index == currentIndex) return registry.stateId();
+        return STATE_TABLES.get(blockId)[index];
+    }
+
+    private Block withState(int stateId) {
+        if (stateId == registry.stateId()) return this;
+        final BlockImpl block = (BlockImpl) BLOCK_STATE_MAP.get(stateId);
         assert block != null;
-        return nbt == null && handler == null ? block : new BlockImpl(block.registry(), block.propertiesArray, nbt, handler);
+        return nbt == null && handler == null ? block : new BlockImpl(block.registry, block.propertiesArray, nbt, handler);
+    }
+
+    private static int tableIndex(byte[] properties, int[] strides) {
+        int index = 0;
+        for (int i = 0; i < properties.length; i++) index += properties[i] * strides[i];
+        return index;
     }
 
     private static byte findKeyIndex(PropertyType[] properties, String key, BlockImpl block) {
@@ -238,26 +337,4 @@ record BlockImpl(@NotNull Registry.BlockEntry registry,
 
     private record PropertyType(String key, List<String> values) {
     }
-
-    private static final class PropertiesHolder {
-        private final byte[] properties;
-        private final int hashCode;
-
-        public PropertiesHolder(byte[] properties) {
-            this.properties = properties;
-            this.hashCode = Arrays.hashCode(properties);
-        }
-
-        @Override
-        public boolean equals(Object o) {
-            if (this == o) return true;
-            if (!(o instanceof PropertiesHolder that)) return false;
-            return Arrays.equals(properties, that.properties);
-        }
-
-        @Override
-        public int hashCode() {
-            return hashCode;
-        }
-    }
 }
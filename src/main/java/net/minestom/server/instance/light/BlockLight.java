@@ -29,8 +29,10 @@ final class BlockLight implements Light {
     private boolean isValidBorders = true;
     private boolean needsSend = true;
 
-    private Set<Point> toUpdateSet = new HashSet<>();
-    private final Section[] neighborSections = new Section[BlockFace.values().length];
+    // Merged content and propagation, reused until one of them changes
+    private Baked baked;
+
+    private Set<Point> toUpdateSet = Set.of();
 
     BlockLight(Palette blockPalette) {
         this.blockPalette = blockPalette;
@@ -43,8 +45,10 @@ final class BlockLight implements Light {
 
         this.contentPropagationSwap = null;
 
-        if (toUpdateSet == null) return Set.of();
-        return toUpdateSet;
+        // The sections to update are only needed once
+        final Set<Point> toUpdate = this.toUpdateSet;
+        this.toUpdateSet = Set.of();
+        return toUpdate;
     }
 
     static ShortArrayFIFOQueue buildInternalQueue(Palette blockPalette) {
@@ -75,15 +79,9 @@ final class BlockLight implements Light {
             Point neighborSection = neighbors[i];
             if (neighborSection == null) continue;
 
-            Section otherSection = neighborSections[face.ordinal()];
-
-            if (otherSection == null) {
-                Chunk chunk = instance.getChunk(neighborSection.blockX(), neighborSection.blockZ());
-                if (chunk == null) continue;
-
-                otherSection = chunk.getSection(neighborSection.blockY());
-                neighborSections[face.ordinal()] = otherSection;
-            }
+            Chunk chunk = instance.getChunk(neighborSection.blockX(), neighborSection.blockZ());
+            if (chunk == null) continue;
+            Section otherSection = chunk.getSection(neighborSection.blockY());
 
             var otherLight = otherSection.blockLight();
 
@@ -148,7 +146,16 @@ final class BlockLight implements Light {
     @Override
     public void copyFrom(byte @NotNull [] array) {
         if (array.length == 0) this.content = null;
-        else this.content = array.clone();
+        else this.content = deduplicate(array.clone());
+    }
+
+    @Override
+    public Light copy(@NotNull Palette blockPalette) {
+        BlockLight light = new BlockLight(blockPalette);
+        // Arrays are never modified once assigned, they can be shared
+        light.content = content;
+        light.contentPropagation = contentPropagation;
+        return light;
     }
 
     @Override
@@ -204,7 +211,7 @@ final class BlockLight implements Light {
 
     @Override
     public void set(byte[] copyArray) {
-        this.content = copyArray.clone();
+        this.content = deduplicate(copyArray.clone());
     }
 
     @Override
@@ -216,16 +223,24 @@ final class BlockLight implements Light {
 
     private void clearCache() {
         this.contentPropagation = null;
+        this.baked = null;
         isValidBorders = true;
         needsSend = true;
     }
 
     @Override
     public byte[] array() {
-        if (content == null) return new byte[0];
+        final byte[] content = this.content;
+        final byte[] contentPropagation = this.contentPropagation;
+        if (content == null) return EMPTY_ARRAY;
         if (contentPropagation == null) return content;
-        var res = bake(contentPropagation, content);
-        if (res == emptyContent) return new byte[0];
+        Baked baked = this.baked;
+        if (baked == null || baked.content() != content || baked.propagation() != contentPropagation) {
+            baked = new Baked(content, contentPropagation, bake(contentPropagation, content));
+            this.baked = baked;
+        }
+        final byte[] res = baked.light();
+        if (res == emptyContent) return EMPTY_ARRAY;
         return res;
     }
 
@@ -259,36 +274,12 @@ final class BlockLight implements Light {
         return this;
     }
 
-    private byte[] bake(byte[] content1, byte[] content2) {
-        if (content1 == null && content2 == null) return emptyContent;
-        if (content1 == emptyContent && content2 == emptyContent) return emptyContent;
-
-        if (content1 == null) return content2;
-        if (content2 == null) return content1;
-
-        byte[] lightMax = new byte[LIGHT_LENGTH];
-        for (int i = 0; i < content1.length; i++) {
-            // Lower
-            byte l1 = (byte) (content1[i] & 0x0F);
-            byte l2 = (byte) (content2[i] & 0x0F);
-
-            // Upper
-            byte u1 = (byte) ((content1[i] >> 4) & 0x0F);
-            byte u2 = (byte) ((content2[i] >> 4) & 0x0F);
-
-            byte lower = (byte) Math.max(l1, l2);
-            byte upper = (byte) Math.max(u1, u2);
-
-            lightMax[i] = (byte) (lower | (upper << 4));
-        }
-        return lightMax;
-    }
-
     @Override
     public void invalidatePropagation() {
         this.isValidBorders = false;
         this.needsSend = false;
         this.contentPropagation = null;
+        this.baked = null;
     }
 
     @Override
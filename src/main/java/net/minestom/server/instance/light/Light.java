@@ -35,6 +35,15 @@ public interface Light {
 
     void copyFrom(byte @NotNull [] array);
 
+    /**
+     * Creates a light with the same levels, sharing the light arrays.
+     *
+     * @param blockPalette the block palette of the new light
+     * @return the copy
+     */
+    @ApiStatus.Internal
+    Light copy(@NotNull Palette blockPalette);
+
     @ApiStatus.Internal
     Light calculateExternal(Instance instance, Chunk chunk, int sectionY);
 
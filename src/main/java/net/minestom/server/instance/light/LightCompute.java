@@ -8,6 +8,7 @@ import net.minestom.server.utils.Direction;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayDeque;
+import java.util.Arrays;
 import java.util.Objects;
 
 import static net.minestom.server.instance.light.BlockLight.buildInternalQueue;
@@ -18,6 +19,12 @@ public final class LightCompute {
     static final int SECTION_SIZE = 16;
 
     public static final byte[] emptyContent = new byte[LIGHT_LENGTH];
+    static final byte[] contentFullyLit = new byte[LIGHT_LENGTH];
+    static final byte[] EMPTY_ARRAY = new byte[0];
+
+    static {
+        Arrays.fill(contentFullyLit, (byte) -1);
+    }
 
     static @NotNull Result compute(Palette blockPalette) {
         return LightCompute.compute(blockPalette, buildInternalQueue(blockPalette));
@@ -81,7 +88,57 @@ public final class LightCompute {
                 }
             }
         }
-        return new Result(lightArray);
+        return new Result(deduplicate(lightArray));
+    }
+
+    /**
+     * Replaces uniformly dark or fully lit arrays by the shared ones, light arrays are never modified once computed.
+     *
+     * @param light the light array
+     * @return {@link #emptyContent}, {@link #contentFullyLit} or the given array
+     */
+    static byte[] deduplicate(byte[] light) {
+        if (light == emptyContent || light == contentFullyLit || light.length != LIGHT_LENGTH) return light;
+        final byte first = light[0];
+        if (first != 0 && first != -1) return light;
+        for (int i = 1; i < light.length; i++) {
+            if (light[i] != first) return light;
+        }
+        return first == 0 ? emptyContent : contentFullyLit;
+    }
+
+    /**
+     * Merges two light arrays by keeping the highest level of each block.
+     *
+     * @return the merged light, one of the arrays if the other cannot change it
+     */
+    static byte[] bake(byte[] content1, byte[] content2) {
+        if (content1 == null && content2 == null) return emptyContent;
+        if (content1 == null || content1 == emptyContent || content2 == contentFullyLit) return content2 != null ? content2 : emptyContent;
+        if (content2 == null || content2 == emptyContent || content1 == contentFullyLit) return content1;
+
+        byte[] lightMax = new byte[LIGHT_LENGTH];
+        for (int i = 0; i < content1.length; i++) {
+            // Lower
+            byte l1 = (byte) (content1[i] & 0x0F);
+            byte l2 = (byte) (content2[i] & 0x0F);
+
+            // Upper
+            byte u1 = (byte) ((content1[i] >> 4) & 0x0F);
+            byte u2 = (byte) ((content2[i] >> 4) & 0x0F);
+
+            byte lower = (byte) Math.max(l1, l2);
+            byte upper = (byte) Math.max(u1, u2);
+
+            lightMax[i] = (byte) (lower | (upper << 4));
+        }
+        return deduplicate(lightMax);
+    }
+
+    /**
+     * Merged light of a section, kept until its content or propagation changes.
+     */
+    record Baked(byte[] content, byte[] propagation, byte[] light) {
     }
 
     record Result(byte[] light) {
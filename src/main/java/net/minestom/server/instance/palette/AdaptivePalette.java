@@ -6,14 +6,23 @@ import net.minestom.server.network.NetworkBuffer;
 import net.minestom.server.utils.MathUtils;
 import org.jetbrains.annotations.NotNull;
 
+import java.lang.invoke.VarHandle;
 import java.util.function.IntUnaryOperator;
 
 /**
  * Palette that switches between its backend based on the use case.
+ * <p>
+ * Uniform content uses a {@link FilledPalette}, content with too many distinct values
+ * to be indexed a {@link DirectPalette}, and everything in between a {@link FlexiblePalette}.
+ * <p>
+ * Writes are versioned (odd while in progress) so that {@link #getOptimistic(int, int, int)}
+ * can detect concurrent modifications instead of requiring a lock.
  */
 final class AdaptivePalette implements Palette, Cloneable {
     final byte dimension, defaultBitsPerEntry, maxBitsPerEntry;
     SpecializedPalette palette;
+    // Odd while a write is in progress. Not incremented atomically, writers must hold the lock of the chunk
+    private volatile int version;
 
     AdaptivePalette(byte dimension, byte maxBitsPerEntry, byte bitsPerEntry) {
         validateDimension(dimension);
@@ -31,6 +40,26 @@ final class AdaptivePalette implements Palette, Cloneable {
         return palette.get(x, y, z);
     }
 
+    @Override
+    public int getOptimistic(int x, int y, int z) {
+        final int version = this.version;
+        if ((version & 1) != 0) return -1;
+        final int value;
+        try {
+            value = get(x, y, z);
+        } catch (RuntimeException e) {
+            // Inconsistent state caused by a concurrent write
+            return -1;
+        }
+        VarHandle.acquireFence();
+        return this.version == version ? value : -1;
+    }
+
+    @Override
+    public int version() {
+        return version;
+    }
+
     @Override
     public void getAll(@NotNull EntryConsumer consumer) {
         this.palette.getAll(consumer);
@@ -41,24 +70,59 @@ final class AdaptivePalette implements Palette, Cloneable {
         this.palette.getAllPresent(consumer);
     }
 
+    @Override
+    public void getAll(int @NotNull [] values) {
+        validateLength(values);
+        this.palette.getAll(values);
+    }
+
     @Override
     public void set(int x, int y, int z, int value) {
         if (x < 0 || y < 0 || z < 0) {
             throw new IllegalArgumentException("Coordinates must be positive");
         }
-        flexiblePalette().set(x, y, z, value);
+        beginWrite();
+        try {
+            mutablePalette().set(x, y, z, value);
+            promoteDirect();
+        } finally {
+            endWrite();
+        }
     }
 
     @Override
     public void fill(int value) {
+        beginWrite();
         this.palette = new FilledPalette(dimension, value);
+        endWrite();
     }
 
     @Override
     public void setAll(@NotNull EntrySupplier supplier) {
-        SpecializedPalette newPalette = new FlexiblePalette(this);
-        newPalette.setAll(supplier);
+        int[] cache = FlexiblePalette.WRITE_CACHE.get();
+        final int dimension = dimension();
+        int index = 0;
+        for (int y = 0; y < dimension; y++) {
+            for (int z = 0; z < dimension; z++) {
+                for (int x = 0; x < dimension; x++) {
+                    cache[index++] = supplier.get(x, y, z);
+                }
+            }
+        }
+        assert index == maxSize();
+        SpecializedPalette newPalette = newPalette(cache);
+        beginWrite();
+        this.palette = newPalette;
+        endWrite();
+    }
+
+    @Override
+    public void setAll(int @NotNull [] values) {
+        validateLength(values);
+        SpecializedPalette newPalette = newPalette(values);
+        beginWrite();
         this.palette = newPalette;
+        endWrite();
     }
 
     @Override
@@ -66,12 +130,24 @@ final class AdaptivePalette implements Palette, Cloneable {
         if (x < 0 || y < 0 || z < 0) {
             throw new IllegalArgumentException("Coordinates must be positive");
         }
-        flexiblePalette().replace(x, y, z, operator);
+        beginWrite();
+        try {
+            mutablePalette().replace(x, y, z, operator);
+            promoteDirect();
+        } finally {
+            endWrite();
+        }
     }
 
     @Override
     public void replaceAll(@NotNull EntryFunction function) {
-        flexiblePalette().replaceAll(function);
+        beginWrite();
+        try {
+            mutablePalette().replaceAll(function);
+            promoteDirect();
+        } finally {
+            endWrite();
+        }
     }
 
     @Override
@@ -107,36 +183,59 @@ final class AdaptivePalette implements Palette, Cloneable {
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        final SpecializedPalette optimized = optimizedPalette();
-        this.palette = optimized;
+        final SpecializedPalette optimized;
+        beginWrite();
+        try {
+            optimized = optimizedPalette();
+            this.palette = optimized;
+        } finally {
+            endWrite();
+        }
         optimized.write(writer);
     }
 
     SpecializedPalette optimizedPalette() {
-        var currentPalette = this.palette;
+        final SpecializedPalette currentPalette = this.palette;
+        if (currentPalette instanceof FilledPalette) return currentPalette;
+        if (currentPalette.count() == 0) return new FilledPalette(dimension, 0);
+        // Find all entries and compress the palette
+        final int[] values = FlexiblePalette.WRITE_CACHE.get();
+        currentPalette.getAll(values);
+        if (isUniform(values)) return new FilledPalette(dimension, values[0]);
+        final int paletteSize = paletteSize(values, FlexiblePalette.maxPaletteSize(maxBitsPerEntry) + 1);
+        final int bitsPerEntry = Math.max(defaultBitsPerEntry, MathUtils.bitsToRepresent(paletteSize - 1));
         if (currentPalette instanceof FlexiblePalette flexiblePalette) {
-            final int count = flexiblePalette.count();
-            if (count == 0) {
-                return new FilledPalette(dimension, 0);
-            } else {
-                // Find all entries and compress the palette
-                IntSet entries = new IntOpenHashSet(flexiblePalette.paletteToValueList.size());
-                flexiblePalette.getAll((x, y, z, value) -> entries.add(value));
-                final int currentBitsPerEntry = flexiblePalette.bitsPerEntry();
-                final int bitsPerEntry;
-                if (entries.size() == 1) {
-                    return new FilledPalette(dimension, entries.iterator().nextInt());
-                } else if (currentBitsPerEntry > defaultBitsPerEntry &&
-                        (bitsPerEntry = MathUtils.bitsToRepresent(entries.size() - 1)) < currentBitsPerEntry) {
-                    flexiblePalette.resize((byte) bitsPerEntry);
-                    return flexiblePalette;
-                }
+            if (bitsPerEntry < flexiblePalette.bitsPerEntry()) {
+                return newFlexiblePalette(values, bitsPerEntry);
             }
+        } else if (currentPalette instanceof DirectPalette) {
+            // Leave some room so that a few new values do not immediately promote it back
+            if (bitsPerEntry < maxBitsPerEntry) return newFlexiblePalette(values, bitsPerEntry);
         }
         return currentPalette;
     }
 
-    Palette flexiblePalette() {
+    /**
+     * Creates the palette best suited to hold {@code values}, sized upfront to avoid resizes.
+     */
+    private SpecializedPalette newPalette(int[] values) {
+        final int maxPaletteSize = FlexiblePalette.maxPaletteSize(maxBitsPerEntry);
+        final int paletteSize = paletteSize(values, maxPaletteSize + 1);
+        if (paletteSize > maxPaletteSize) {
+            SpecializedPalette palette = new DirectPalette(this);
+            palette.setAll(values);
+            return palette;
+        }
+        return newFlexiblePalette(values, Math.max(defaultBitsPerEntry, MathUtils.bitsToRepresent(paletteSize - 1)));
+    }
+
+    private SpecializedPalette newFlexiblePalette(int[] values, int bitsPerEntry) {
+        SpecializedPalette palette = new FlexiblePalette(this, (byte) bitsPerEntry);
+        palette.setAll(values);
+        return palette;
+    }
+
+    SpecializedPalette mutablePalette() {
         SpecializedPalette currentPalette = this.palette;
         if (currentPalette instanceof FilledPalette filledPalette) {
             currentPalette = new FlexiblePalette(this);
@@ -146,6 +245,59 @@ final class AdaptivePalette implements Palette, Cloneable {
         return currentPalette;
     }
 
+    /**
+     * Switches to a {@link DirectPalette} once the flexible palette outgrew its indexes.
+     */
+    private void promoteDirect() {
+        if (palette instanceof FlexiblePalette flexiblePalette && !flexiblePalette.hasPalette()) {
+            this.palette = flexiblePalette.toDirect();
+        }
+    }
+
+    private void beginWrite() {
+        this.version++;
+        // Prevent the following writes from being visible before the odd version
+        VarHandle.releaseFence();
+    }
+
+    private void endWrite() {
+        this.version++;
+    }
+
+    /**
+     * Counts the entries required to index {@code values}, including the zero always present in flexible palettes.
+     *
+     * @return the number of entries, or {@code limit} if there are at least as many
+     */
+    private int paletteSize(int[] values, int limit) {
+        final int size = maxSize();
+        IntSet entries = new IntOpenHashSet();
+        entries.add(0);
+        int lastValue = 0;
+        for (int i = 0; i < size; i++) {
+            final int value = values[i];
+            // Consecutive values are often the same
+            if (value == lastValue) continue;
+            lastValue = value;
+            if (entries.add(value) && entries.size() >= limit) return limit;
+        }
+        return entries.size();
+    }
+
+    private boolean isUniform(int[] values) {
+        final int size = maxSize();
+        final int first = values[0];
+        for (int i = 1; i < size; i++) {
+            if (values[i] != first) return false;
+        }
+        return true;
+    }
+
+    private void validateLength(int[] values) {
+        if (values.length < maxSize())
+            throw new IllegalArgumentException("Array must contain at least " + maxSize() + " values: " + values.length);
+    }
+
     private static void validateDimension(int dimension) {
         if (dimension <= 1 || (dimension & dimension - 1) != 0)
             throw new IllegalArgumentException("Dimension must be a positive power of 2");
@@ -0,0 +1,209 @@
+package net.minestom.server.instance.palette;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.utils.MathUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.function.IntUnaryOperator;
+
+import static net.minestom.server.network.NetworkBuffer.BYTE;
+import static net.minestom.server.network.NetworkBuffer.LONG_ARRAY;
+
+/**
+ * Palette storing the values directly at the global bits per entry.
+ * <p>
+ * Used for sections with too many distinct values to be indexed, writes do not require any lookup.
+ */
+final class DirectPalette implements SpecializedPalette, Cloneable {
+    static final byte BITS_PER_ENTRY = 15;
+    private static final int VALUES_PER_LONG = 64 / BITS_PER_ENTRY;
+    private static final long MASK = (1L << BITS_PER_ENTRY) - 1;
+
+    private final AdaptivePalette adaptivePalette;
+    private long[] values;
+    private int count;
+
+    DirectPalette(AdaptivePalette adaptivePalette, long[] values, int count) {
+        this.adaptivePalette = adaptivePalette;
+        this.values = values;
+        this.count = count;
+    }
+
+    DirectPalette(AdaptivePalette adaptivePalette) {
+        this(adaptivePalette, new long[arrayLength(adaptivePalette.maxSize())], 0);
+    }
+
+    @Override
+    public int get(int x, int y, int z) {
+        final int sectionIndex = FlexiblePalette.getSectionIndex(dimension(), x, y, z);
+        final int index = sectionIndex / VALUES_PER_LONG;
+        final int bitIndex = (sectionIndex - index * VALUES_PER_LONG) * BITS_PER_ENTRY;
+        return (int) (values[index] >> bitIndex & MASK);
+    }
+
+    @Override
+    public void getAll(@NotNull EntryConsumer consumer) {
+        retrieveAll(consumer, true);
+    }
+
+    @Override
+    public void getAllPresent(@NotNull EntryConsumer consumer) {
+        retrieveAll(consumer, false);
+    }
+
+    @Override
+    public void getAll(int @NotNull [] values) {
+        FlexiblePalette.unpack(this.values, BITS_PER_ENTRY, maxSize(), values);
+    }
+
+    @Override
+    public void set(int x, int y, int z, int value) {
+        final long[] values = this.values;
+        final int sectionIndex = FlexiblePalette.getSectionIndex(dimension(), x, y, z);
+        final int index = sectionIndex / VALUES_PER_LONG;
+        final int bitIndex = (sectionIndex - index * VALUES_PER_LONG) * BITS_PER_ENTRY;
+
+        final long block = values[index];
+        final long oldValue = block >> bitIndex & MASK;
+        values[index] = block & ~(MASK << bitIndex) | ((value & MASK) << bitIndex);
+        // Check if block count needs to be updated
+        final boolean currentAir = oldValue == 0;
+        if (currentAir != (value == 0)) this.count += currentAir ? 1 : -1;
+    }
+
+    @Override
+    public void fill(int value) {
+        long block = 0;
+        if (value != 0) {
+            for (int i = 0; i < VALUES_PER_LONG; i++)
+                block |= (value & MASK) << i * BITS_PER_ENTRY;
+        }
+        Arrays.fill(values, block);
+        this.count = value != 0 ? maxSize() : 0;
+    }
+
+    @Override
+    public void setAll(@NotNull EntrySupplier supplier) {
+        int[] cache = FlexiblePalette.WRITE_CACHE.get();
+        final int dimension = dimension();
+        // Fill cache with values
+        int index = 0;
+        for (int y = 0; y < dimension; y++) {
+            for (int z = 0; z < dimension; z++) {
+                for (int x = 0; x < dimension; x++) {
+                    cache[index++] = supplier.get(x, y, z);
+                }
+            }
+        }
+        assert index == maxSize();
+        updateValues(cache);
+    }
+
+    @Override
+    public void setAll(int @NotNull [] values) {
+        updateValues(values);
+    }
+
+    @Override
+    public void replace(int x, int y, int z, @NotNull IntUnaryOperator operator) {
+        final int oldValue = get(x, y, z);
+        final int newValue = operator.applyAsInt(oldValue);
+        if (oldValue != newValue) set(x, y, z, newValue);
+    }
+
+    @Override
+    public void replaceAll(@NotNull EntryFunction function) {
+        int[] cache = FlexiblePalette.WRITE_CACHE.get();
+        getAll(cache);
+        final int dimension = dimension();
+        int index = 0;
+        for (int y = 0; y < dimension; y++) {
+            for (int z = 0; z < dimension; z++) {
+                for (int x = 0; x < dimension; x++) {
+                    cache[index] = function.apply(x, y, z, cache[index]);
+                    index++;
+                }
+            }
+        }
+        assert index == maxSize();
+        updateValues(cache);
+    }
+
+    @Override
+    public int count() {
+        return count;
+    }
+
+    @Override
+    public int bitsPerEntry() {
+        return BITS_PER_ENTRY;
+    }
+
+    @Override
+    public int maxBitsPerEntry() {
+        return adaptivePalette.maxBitsPerEntry();
+    }
+
+    @Override
+    public int dimension() {
+        return adaptivePalette.dimension();
+    }
+
+    @Override
+    public @NotNull SpecializedPalette clone() {
+        try {
+            DirectPalette palette = (DirectPalette) super.clone();
+            palette.values = values.clone();
+            return palette;
+        } catch (CloneNotSupportedException e) {
+            MinecraftServer.getExceptionManager().handleException(e);
+            throw new IllegalStateException("Weird thing happened");
+        }
+    }
+
+    @Override
+    public void write(@NotNull NetworkBuffer writer) {
+        writer.write(BYTE, BITS_PER_ENTRY);
+        writer.write(LONG_ARRAY, values);
+    }
+
+    private void retrieveAll(@NotNull EntryConsumer consumer, boolean consumeEmpty) {
+        if (!consumeEmpty && count == 0) return;
+        final long[] values = this.values;
+        final int dimensionMinus = dimension() - 1;
+        final int size = maxSize();
+        final int dimensionBitCount = MathUtils.bitsToRepresent(dimensionMinus);
+        final int shiftedDimensionBitCount = dimensionBitCount << 1;
+        for (int i = 0; i < values.length; i++) {
+            long value = values[i];
+            final int startIndex = i * VALUES_PER_LONG;
+            final int endIndex = Math.min(startIndex + VALUES_PER_LONG, size);
+            for (int index = startIndex; index < endIndex; index++) {
+                final int result = (int) (value & MASK);
+                value >>>= BITS_PER_ENTRY;
+                if (consumeEmpty || result != 0) {
+                    final int y = index >> shiftedDimensionBitCount;
+                    final int z = index >> dimensionBitCount & dimensionMinus;
+                    final int x = index & dimensionMinus;
+                    consumer.accept(x, y, z, result);
+                }
+            }
+        }
+    }
+
+    private void updateValues(int[] values) {
+        final int size = maxSize();
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (values[i] != 0) count++;
+        }
+        FlexiblePalette.pack(values, BITS_PER_ENTRY, size, this.values);
+        this.count = count;
+    }
+
+    static int arrayLength(int size) {
+        return (size + VALUES_PER_LONG - 1) / VALUES_PER_LONG;
+    }
+}
@@ -3,6 +3,8 @@ package net.minestom.server.instance.palette;
 import net.minestom.server.network.NetworkBuffer;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Arrays;
+
 import static net.minestom.server.network.NetworkBuffer.BYTE;
 import static net.minestom.server.network.NetworkBuffer.VAR_INT;
 
@@ -25,6 +27,11 @@ record FilledPalette(byte dim, int value) implements SpecializedPalette.Immutabl
                     consumer.accept(x, y, z, value);
     }
 
+    @Override
+    public void getAll(int @NotNull [] values) {
+        Arrays.fill(values, 0, maxSize(), value);
+    }
+
     @Override
     public void getAllPresent(@NotNull EntryConsumer consumer) {
         if (value != 0) getAll(consumer);
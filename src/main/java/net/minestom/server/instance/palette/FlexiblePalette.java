@@ -8,7 +8,6 @@ import net.minestom.server.utils.MathUtils;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Arrays;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.IntUnaryOperator;
 
 import static net.minestom.server.network.NetworkBuffer.*;
@@ -17,7 +16,7 @@ import static net.minestom.server.network.NetworkBuffer.*;
  * Palette able to take any value anywhere. May consume more memory than required.
  */
 final class FlexiblePalette implements SpecializedPalette, Cloneable {
-    private static final ThreadLocal<int[]> WRITE_CACHE = ThreadLocal.withInitial(() -> new int[4096]);
+    static final ThreadLocal<int[]> WRITE_CACHE = ThreadLocal.withInitial(() -> new int[4096]);
 
     // Specific to this palette type
     private final AdaptivePalette adaptivePalette;
@@ -71,6 +70,16 @@ final class FlexiblePalette implements SpecializedPalette, Cloneable {
         retrieveAll(consumer, false);
     }
 
+    @Override
+    public void getAll(int @NotNull [] values) {
+        final int size = maxSize();
+        unpack(this.values, bitsPerEntry, size, values);
+        if (hasPalette()) {
+            final int[] ids = paletteToValueList.elements();
+            for (int i = 0; i < size; i++) values[i] = ids[values[i]];
+        }
+    }
+
     @Override
     public void set(int x, int y, int z, int value) {
         value = getPaletteIndex(value);
@@ -114,38 +123,23 @@ final class FlexiblePalette implements SpecializedPalette, Cloneable {
         int[] cache = WRITE_CACHE.get();
         final int dimension = dimension();
         // Fill cache with values
-        int fillValue = -1;
-        int count = 0;
         int index = 0;
         for (int y = 0; y < dimension; y++) {
             for (int z = 0; z < dimension; z++) {
                 for (int x = 0; x < dimension; x++) {
-                    int value = supplier.get(x, y, z);
-                    // Support for fill fast exit if the supplier returns a constant value
-                    if (fillValue != -2) {
-                        if (fillValue == -1) {
-                            fillValue = value;
-                        } else if (fillValue != value) {
-                            fillValue = -2;
-                        }
-                    }
-                    // Set value in cache
-                    if (value != 0) {
-                        value = getPaletteIndex(value);
-                        count++;
-                    }
-                    cache[index++] = value;
+                    cache[index++] = supplier.get(x, y, z);
                 }
             }
         }
         assert index == maxSize();
-        // Update palette content
-        if (fillValue < 0) {
-            updateAll(cache);
-            this.count = count;
-        } else {
-            fill(fillValue);
-        }
+        updateValues(cache);
+    }
+
+    @Override
+    public void setAll(int @NotNull [] values) {
+        int[] cache = WRITE_CACHE.get();
+        System.arraycopy(values, 0, cache, 0, maxSize());
+        updateValues(cache);
     }
 
     @Override
@@ -158,19 +152,19 @@ final class FlexiblePalette implements SpecializedPalette, Cloneable {
     @Override
     public void replaceAll(@NotNull EntryFunction function) {
         int[] cache = WRITE_CACHE.get();
-        AtomicInteger arrayIndex = new AtomicInteger();
-        AtomicInteger count = new AtomicInteger();
-        getAll((x, y, z, value) -> {
-            final int newValue = function.apply(x, y, z, value);
-            final int index = arrayIndex.getPlain();
-            arrayIndex.setPlain(index + 1);
-            cache[index] = newValue != value ? getPaletteIndex(newValue) : value;
-            if (newValue != 0) count.setPlain(count.getPlain() + 1);
-        });
-        assert arrayIndex.getPlain() == maxSize();
-        // Update palette content
-        updateAll(cache);
-        this.count = count.getPlain();
+        getAll(cache);
+        final int dimension = dimension();
+        int index = 0;
+        for (int y = 0; y < dimension; y++) {
+            for (int z = 0; z < dimension; z++) {
+                for (int x = 0; x < dimension; x++) {
+                    cache[index] = function.apply(x, y, z, cache[index]);
+                    index++;
+                }
+            }
+        }
+        assert index == maxSize();
+        updateValues(cache);
     }
 
     @Override
@@ -230,12 +224,12 @@ final class FlexiblePalette implements SpecializedPalette, Cloneable {
         final int dimensionBitCount = MathUtils.bitsToRepresent(dimensionMinus);
         final int shiftedDimensionBitCount = dimensionBitCount << 1;
         for (int i = 0; i < values.length; i++) {
-            final long value = values[i];
+            long value = values[i];
             final int startIndex = i * valuesPerLong;
             final int endIndex = Math.min(startIndex + valuesPerLong, size);
             for (int index = startIndex; index < endIndex; index++) {
-                final int bitIndex = (index - startIndex) * bitsPerEntry;
-                final int paletteIndex = (int) (value >> bitIndex & magicMask);
+                final int paletteIndex = (int) value & magicMask;
+                value >>>= bitsPerEntry;
                 if (consumeEmpty || paletteIndex != 0) {
                     final int y = index >> shiftedDimensionBitCount;
                     final int z = index >> dimensionBitCount & dimensionMinus;
@@ -247,34 +241,109 @@ final class FlexiblePalette implements SpecializedPalette, Cloneable {
         }
     }
 
-    private void updateAll(int[] paletteValues) {
+    /**
+     * Replaces the content of the palette.
+     *
+     * @param cache the new values, modified to contain the palette indexes
+     */
+    private void updateValues(int[] cache) {
         final int size = maxSize();
-        assert paletteValues.length >= size;
-        final int bitsPerEntry = this.bitsPerEntry;
+        final int first = cache[0];
+        int count = 0;
+        boolean uniform = true;
+        for (int i = 0; i < size; i++) {
+            final int value = cache[i];
+            if (value != 0) count++;
+            if (value != first) uniform = false;
+        }
+        if (uniform) {
+            fill(first);
+            return;
+        }
+        toPaletteIndexes(cache, size);
+        pack(cache, bitsPerEntry, size, values);
+        this.count = count;
+    }
+
+    /**
+     * Converts values to palette indexes, the palette may be resized in the process.
+     */
+    private void toPaletteIndexes(int[] cache, int size) {
+        if (!hasPalette()) return;
+        // Consecutive values are often the same
+        int lastValue = 0, lastIndex = 0;
+        for (int i = 0; i < size; i++) {
+            final int value = cache[i];
+            if (value != lastValue) {
+                lastIndex = getPaletteIndex(value);
+                lastValue = value;
+                if (!hasPalette()) {
+                    // Resized to direct values, revert the already converted ones
+                    final int[] ids = paletteToValueList.elements();
+                    for (int j = 0; j < i; j++) cache[j] = ids[cache[j]];
+                    return;
+                }
+            }
+            cache[i] = lastIndex;
+        }
+    }
+
+    /**
+     * Unpacks entries stored without spanning across longs.
+     */
+    static void unpack(long[] values, int bitsPerEntry, int size, int[] out) {
         final int valuesPerLong = 64 / bitsPerEntry;
-        final long clear = (1L << bitsPerEntry) - 1L;
-        final long[] values = this.values;
+        final long mask = (1L << bitsPerEntry) - 1;
+        int index = 0;
+        for (int i = 0; i < values.length && index < size; i++) {
+            long value = values[i];
+            final int endIndex = Math.min(index + valuesPerLong, size);
+            for (; index < endIndex; index++) {
+                out[index] = (int) (value & mask);
+                value >>>= bitsPerEntry;
+            }
+        }
+    }
+
+    /**
+     * Packs entries without spanning across longs, the padding bits are cleared.
+     */
+    static void pack(int[] entries, int bitsPerEntry, int size, long[] values) {
+        final int valuesPerLong = 64 / bitsPerEntry;
+        int index = 0;
         for (int i = 0; i < values.length; i++) {
-            long block = values[i];
-            final int startIndex = i * valuesPerLong;
-            final int endIndex = Math.min(startIndex + valuesPerLong, size);
-            for (int index = startIndex; index < endIndex; index++) {
-                final int bitIndex = (index - startIndex) * bitsPerEntry;
-                block = block & ~(clear << bitIndex) | ((long) paletteValues[index] << bitIndex);
+            long block = 0;
+            final int endIndex = Math.min(index + valuesPerLong, size);
+            for (int shift = 0; index < endIndex; index++, shift += bitsPerEntry) {
+                block |= (long) entries[index] << shift;
             }
             values[i] = block;
         }
     }
 
     void resize(byte newBitsPerEntry) {
-        newBitsPerEntry = newBitsPerEntry > maxBitsPerEntry() ? 15 : newBitsPerEntry;
-        FlexiblePalette palette = new FlexiblePalette(adaptivePalette, newBitsPerEntry);
-        palette.paletteToValueList = paletteToValueList;
-        palette.valueToPaletteMap = valueToPaletteMap;
-        getAll(palette::set);
-        this.bitsPerEntry = palette.bitsPerEntry;
-        this.values = palette.values;
-        assert this.count == palette.count;
+        newBitsPerEntry = newBitsPerEntry > maxBitsPerEntry() ? DirectPalette.BITS_PER_ENTRY : newBitsPerEntry;
+        // Palette indexes are kept, only their packing changes
+        final int size = maxSize();
+        final int[] entries = new int[size];
+        unpack(values, bitsPerEntry, size, entries);
+        if (hasPalette() && newBitsPerEntry > maxBitsPerEntry()) {
+            final int[] ids = paletteToValueList.elements();
+            for (int i = 0; i < size; i++) entries[i] = ids[entries[i]];
+        }
+        final int valuesPerLong = 64 / newBitsPerEntry;
+        final long[] values = new long[(size + valuesPerLong - 1) / valuesPerLong];
+        pack(entries, newBitsPerEntry, size, values);
+        this.bitsPerEntry = newBitsPerEntry;
+        this.values = values;
+    }
+
+    /**
+     * Moves the values of this palette to a {@link DirectPalette}, this palette must not be used afterward.
+     */
+    DirectPalette toDirect() {
+        assert !hasPalette();
+        return new DirectPalette(adaptivePalette, values, count);
     }
 
     private int getPaletteIndex(int value) {
@@ -1,6 +1,7 @@
 package net.minestom.server.instance.palette;
 
 import net.minestom.server.network.NetworkBuffer;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.function.IntUnaryOperator;
@@ -25,16 +26,61 @@ public interface Palette extends NetworkBuffer.Writer {
 
     int get(int x, int y, int z);
 
+    /**
+     * Gets a value without being synchronized with writers.
+     * <p>
+     * Values are expected to be positive, used to read blocks without locking the chunk.
+     *
+     * @return the value, or -1 if it could not be read consistently (concurrent write or unsupported)
+     */
+    default int getOptimistic(int x, int y, int z) {
+        return -1;
+    }
+
+    /**
+     * Gets a counter changed by every modification of this palette.
+     * <p>
+     * Used to cache data derived from the palette, such as its network serialization.
+     *
+     * @return the current version, or -1 if modifications are not tracked
+     */
+    @ApiStatus.Internal
+    default int version() {
+        return -1;
+    }
+
     void getAll(@NotNull EntryConsumer consumer);
 
     void getAllPresent(@NotNull EntryConsumer consumer);
 
+    /**
+     * Copies all the values to an array, in the order of {@link #getAll(EntryConsumer)}.
+     * <p>
+     * The value at {@code x, y, z} is at the index {@code (y * dimension + z) * dimension + x}.
+     *
+     * @param values the array to fill, at least {@link #maxSize()} long
+     */
+    default void getAll(int @NotNull [] values) {
+        final int dimension = dimension();
+        getAll((x, y, z, value) -> values[(y * dimension + z) * dimension + x] = value);
+    }
+
     void set(int x, int y, int z, int value);
 
     void fill(int value);
 
     void setAll(@NotNull EntrySupplier supplier);
 
+    /**
+     * Replaces all the values by the ones of an array, indexed like {@link #getAll(int[])}.
+     *
+     * @param values the new values, at least {@link #maxSize()} long
+     */
+    default void setAll(int @NotNull [] values) {
+        final int dimension = dimension();
+        setAll((x, y, z) -> values[(y * dimension + z) * dimension + x]);
+    }
+
     void replace(int x, int y, int z, @NotNull IntUnaryOperator operator);
 
     void replaceAll(@NotNull EntryFunction function);
@@ -6,6 +6,7 @@ import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.TextComponent;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.minestom.server.MinecraftServer;
+import net.minestom.server.thread.ServerExecutors;
 import net.minestom.server.utils.MathUtils;
 import net.minestom.server.utils.validate.Check;
 import org.jetbrains.annotations.NotNull;
@@ -41,6 +42,11 @@ public final class BenchmarkManager {
     static {
         THREADS.add(THREAD_NAME_TICK_SCHEDULER);
         THREADS.add(THREAD_NAME_TICK);
+        THREADS.add("Ms-ChunkIO");
+        THREADS.add("Ms-Generation");
+        THREADS.add("Ms-Async");
+        THREADS.add("Ms-Pathfinding");
+        THREADS.add("Ms-Blocking");
     }
 
     private final Long2LongMap lastCpuTimeMap = new Long2LongOpenHashMap();
@@ -101,6 +107,16 @@ public final class BenchmarkManager {
         return Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
     }
 
+    /**
+     * Gets the state of the server executors, available even if the benchmark is disabled.
+     *
+     * @return the metrics of the server executors
+     * @see ServerExecutors
+     */
+    public @NotNull List<@NotNull ExecutorMetrics> getExecutorMetrics() {
+        return ServerExecutors.metrics();
+    }
+
     public @NotNull Map<String, ThreadResult> getResultMap() {
         return Collections.unmodifiableMap(resultMap);
     }
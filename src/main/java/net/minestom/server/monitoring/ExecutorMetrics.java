@@ -0,0 +1,18 @@
+package net.minestom.server.monitoring;
+
+import net.minestom.server.thread.ServerExecutors;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Snapshot of the state of a server executor.
+ *
+ * @param name           the name of the executor, also the prefix of its thread names
+ * @param threads        the maximum number of threads, 0 if one virtual thread is started per task
+ * @param activeTasks    the number of tasks currently running
+ * @param queuedTasks    the number of tasks waiting for a thread
+ * @param completedTasks the number of tasks completed since startup
+ * @see ServerExecutors#metrics()
+ */
+public record ExecutorMetrics(@NotNull String name, int threads,
+                              int activeTasks, int queuedTasks, long completedTasks) {
+}
@@ -0,0 +1,195 @@
+package net.minestom.server.registry;
+
+import net.minestom.server.MinecraftServer;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.JarURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+/**
+ * Binary snapshot of {@code blocks.json}, generated at build time by the code generators.
+ * <p>
+ * The whole resource is read in bulk and decoded without any intermediate map,
+ * block shapes are only parsed once requested.
+ * <p>
+ * Format (big endian):
+ * <pre>
+ * int magic, int version, long sourceHash (CRC32 of blocks.json)
+ * int stringCount, (short length, utf8 bytes)[stringCount]
+ * int blockCount, block[blockCount]
+ *
+ * block:
+ *   int namespace, int id, int defaultStateId
+ *   byte propertyCount, (int key, byte valueCount, int[valueCount] values)[propertyCount]
+ *   int stateCount, state[stateCount]
+ *
+ * state:
+ *   byte[propertyCount] value indexes
+ *   int stateId, int translationKey
+ *   double hardness, explosionResistance, friction, speedFactor, jumpFactor
+ *   byte flags (air, solid, liquid, occludes, replaceable)
+ *   int lightEmission
+ *   int blockEntity (-1 if none), int blockEntityId
+ *   int correspondingItem (-1 if none)
+ *   int collisionShape, int occlusionShape
+ * </pre>
+ * Strings are referenced using their index in the string table.
+ * <p>
+ * The snapshot is ignored when its source hash does not match the {@code blocks.json} found on the classpath,
+ * so a stale {@code blocks.bin} can never shadow newer registry data. The hash is computed once at build time,
+ * at runtime it is compared to the CRC32 stored in the jar entry of {@code blocks.json} without reading it.
+ */
+@ApiStatus.Internal
+public final class BlockRegistrySnapshot {
+    public static final String RESOURCE = "blocks.bin";
+    public static final int MAGIC = 0x4D53424C; // MSBL
+    public static final String SOURCE = "blocks.json";
+    public static final int VERSION = 2;
+
+    public static final int FLAG_AIR = 1;
+    public static final int FLAG_SOLID = 1 << 1;
+    public static final int FLAG_LIQUID = 1 << 2;
+    public static final int FLAG_OCCLUDES = 1 << 3;
+    public static final int FLAG_REPLACEABLE = 1 << 4;
+
+    private static final boolean DISABLED = Boolean.getBoolean("minestom.registry.disable-snapshot");
+
+    public record BlockData(@NotNull String namespace, int id, int defaultStateId,
+                            @NotNull String @NotNull [] propertyKeys,
+                            @NotNull String @NotNull [] @NotNull [] propertyValues,
+                            @NotNull StateData @NotNull [] states) {
+    }
+
+    public record StateData(byte @NotNull [] properties, @NotNull Registry.BlockEntry entry) {
+    }
+
+    /**
+     * Reads the snapshot from the classpath.
+     *
+     * @return the decoded blocks, null if the snapshot is missing, outdated, generated from another
+     * {@code blocks.json}, or disabled using the {@code minestom.registry.disable-snapshot} system property
+     */
+    public static @NotNull BlockData @Nullable [] load() {
+        if (DISABLED) return null;
+        final ClassLoader classLoader = BlockRegistrySnapshot.class.getClassLoader();
+        final URL source = classLoader.getResource(SOURCE);
+        if (source == null) return null;
+        try (InputStream stream = classLoader.getResourceAsStream(RESOURCE)) {
+            if (stream == null) return null;
+            return read(ByteBuffer.wrap(stream.readAllBytes()), sourceHash(source));
+        } catch (IOException e) {
+            MinecraftServer.getExceptionManager().handleException(e);
+            return null;
+        }
+    }
+
+    /**
+     * Gets the hash of a source registry resource.
+     * <p>
+     * Jar entries already store the CRC32 of their content, the resource is only read
+     * when loaded from a directory.
+     *
+     * @param source the {@code blocks.json} resource
+     * @return the CRC32 of the content
+     */
+    public static long sourceHash(@NotNull URL source) throws IOException {
+        final URLConnection connection = source.openConnection();
+        if (connection instanceof JarURLConnection jarConnection) {
+            final long crc = jarConnection.getJarEntry().getCrc();
+            if (crc != -1) return crc;
+        }
+        try (InputStream stream = connection.getInputStream()) {
+            return sourceHash(stream);
+        }
+    }
+
+    /**
+     * Computes the hash of the source registry embedded in snapshots.
+     *
+     * @param source the {@code blocks.json} content
+     * @return the CRC32 of the content
+     */
+    public static long sourceHash(@NotNull InputStream source) throws IOException {
+        CRC32 crc = new CRC32();
+        byte[] buffer = new byte[8192];
+        int length;
+        while ((length = source.read(buffer)) != -1) crc.update(buffer, 0, length);
+        return crc.getValue();
+    }
+
+    /**
+     * Decodes a snapshot.
+     *
+     * @param buffer     the snapshot content
+     * @param sourceHash the expected hash of the source registry, see {@link #sourceHash(InputStream)}
+     * @return the decoded blocks, null if the snapshot has an unknown version or another source hash
+     */
+    public static @NotNull BlockData @Nullable [] read(@NotNull ByteBuffer buffer, long sourceHash) {
+        if (buffer.getInt() != MAGIC) throw new IllegalArgumentException("Invalid block snapshot");
+        if (buffer.getInt() != VERSION) return null;
+        if (buffer.getLong() != sourceHash) return null;
+        final String[] strings = new String[buffer.getInt()];
+        for (int i = 0; i < strings.length; i++) {
+            byte[] bytes = new byte[buffer.getShort() & 0xFFFF];
+            buffer.get(bytes);
+            strings[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        BlockData[] blocks = new BlockData[buffer.getInt()];
+        for (int i = 0; i < blocks.length; i++) {
+            final String namespace = strings[buffer.getInt()];
+            final int id = buffer.getInt();
+            final int defaultStateId = buffer.getInt();
+            // Properties
+            final int propertyCount = buffer.get();
+            String[] propertyKeys = new String[propertyCount];
+            String[][] propertyValues = new String[propertyCount][];
+            for (int j = 0; j < propertyCount; j++) {
+                propertyKeys[j] = strings[buffer.getInt()];
+                String[] values = new String[buffer.get()];
+                for (int k = 0; k < values.length; k++) values[k] = strings[buffer.getInt()];
+                propertyValues[j] = values;
+            }
+            // States
+            StateData[] states = new StateData[buffer.getInt()];
+            for (int j = 0; j < states.length; j++) {
+                byte[] properties = new byte[propertyCount];
+                buffer.get(properties);
+                final int stateId = buffer.getInt();
+                final String translationKey = strings[buffer.getInt()];
+                final double hardness = buffer.getDouble();
+                final double explosionResistance = buffer.getDouble();
+                final double friction = buffer.getDouble();
+                final double speedFactor = buffer.getDouble();
+                final double jumpFactor = buffer.getDouble();
+                final byte flags = buffer.get();
+                final int lightEmission = buffer.getInt();
+                final String blockEntity = string(strings, buffer.getInt());
+                final int blockEntityId = buffer.getInt();
+                final String material = string(strings, buffer.getInt());
+                final String collisionShape = strings[buffer.getInt()];
+                final String occlusionShape = strings[buffer.getInt()];
+                final Registry.BlockEntry entry = new Registry.BlockEntry(namespace, id, stateId, translationKey,
+                        hardness, explosionResistance, friction, speedFactor, jumpFactor,
+                        (flags & FLAG_AIR) != 0, (flags & FLAG_SOLID) != 0, (flags & FLAG_LIQUID) != 0,
+                        (flags & FLAG_OCCLUDES) != 0, lightEmission, (flags & FLAG_REPLACEABLE) != 0,
+                        blockEntity, blockEntityId, material, collisionShape, occlusionShape);
+                states[j] = new StateData(properties, entry);
+            }
+            blocks[i] = new BlockData(namespace, id, defaultStateId, propertyKeys, propertyValues, states);
+        }
+        return blocks;
+    }
+
+    private static @Nullable String string(String[] strings, int index) {
+        return index != -1 ? strings[index] : null;
+    }
+}
@@ -176,7 +176,9 @@ public final class Registry {
         private final String blockEntity;
         private final int blockEntityId;
         private final Supplier<Material> materialSupplier;
-        private final Shape shape;
+        private final String collisionShape;
+        private final String occlusionShape;
+        private volatile Shape shape;
         private final Properties custom;
 
         private BlockEntry(String namespace, Properties main, Properties custom) {
@@ -210,11 +212,38 @@ public final class Registry {
                 final String materialNamespace = main.getString("correspondingItem", null);
                 this.materialSupplier = materialNamespace != null ? () -> Material.fromNamespaceId(materialNamespace) : () -> null;
             }
-            {
-                final String collision = main.getString("collisionShape");
-                final String occlusion = main.getString("occlusionShape");
-                this.shape = CollisionUtils.parseBlockShape(collision, occlusion, this);
-            }
+            this.collisionShape = main.getString("collisionShape");
+            this.occlusionShape = main.getString("occlusionShape");
+        }
+
+        BlockEntry(String namespace, int id, int stateId, String translationKey,
+                   double hardness, double explosionResistance,
+                   double friction, double speedFactor, double jumpFactor,
+                   boolean air, boolean solid, boolean liquid, boolean occludes,
+                   int lightEmission, boolean replaceable,
+                   String blockEntity, int blockEntityId, String materialNamespace,
+                   String collisionShape, String occlusionShape) {
+            this.custom = null;
+            this.namespace = NamespaceID.from(namespace);
+            this.id = id;
+            this.stateId = stateId;
+            this.translationKey = translationKey;
+            this.hardness = hardness;
+            this.explosionResistance = explosionResistance;
+            this.friction = friction;
+            this.speedFactor = speedFactor;
+            this.jumpFactor = jumpFactor;
+            this.air = air;
+            this.solid = solid;
+            this.liquid = liquid;
+            this.occludes = occludes;
+            this.lightEmission = lightEmission;
+            this.replaceable = replaceable;
+            this.blockEntity = blockEntity;
+            this.blockEntityId = blockEntityId;
+            this.materialSupplier = materialNamespace != null ? () -> Material.fromNamespaceId(materialNamespace) : () -> null;
+            this.collisionShape = collisionShape;
+            this.occlusionShape = occlusionShape;
         }
 
         public @NotNull NamespaceID namespace() {
@@ -294,6 +323,12 @@ public final class Registry {
         }
 
         public Shape collisionShape() {
+            // Parsing is expensive and most states are never collided with, compute lazily
+            Shape shape = this.shape;
+            if (shape == null) {
+                shape = CollisionUtils.parseBlockShape(collisionShape, occlusionShape, this);
+                this.shape = shape;
+            }
             return shape;
         }
 
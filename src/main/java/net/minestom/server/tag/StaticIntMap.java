@@ -3,6 +3,8 @@ package net.minestom.server.tag;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Range;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.util.Arrays;
 import java.util.function.Consumer;
 
@@ -22,10 +24,15 @@ sealed interface StaticIntMap<T> permits StaticIntMap.Array {
 
     void updateContent(@NotNull StaticIntMap<T> content);
 
+    /**
+     * Elements are published with release semantics so that readers never see a partially constructed value,
+     * writers must be synchronized externally.
+     */
     final class Array<T> implements StaticIntMap<T> {
         private static final Object[] EMPTY_ARRAY = new Object[0];
+        private static final VarHandle ELEMENT = MethodHandles.arrayElementVarHandle(Object[].class);
 
-        private T[] array;
+        private volatile T[] array;
 
         public Array(T[] array) {
             this.array = array;
@@ -39,13 +46,16 @@ sealed interface StaticIntMap<T> permits StaticIntMap.Array {
         @Override
         public T get(int key) {
             final T[] array = this.array;
-            return key < array.length ? array[key] : null;
+            //noinspection unchecked
+            return key < array.length ? (T) ELEMENT.getAcquire((Object[]) array, key) : null;
         }
 
         @Override
         public void forValues(@NotNull Consumer<T> consumer) {
             final T[] array = this.array;
-            for (T value : array) {
+            for (int i = 0; i < array.length; i++) {
+                //noinspection unchecked
+                final T value = (T) ELEMENT.getAcquire((Object[]) array, i);
                 if (value != null) consumer.accept(value);
             }
         }
@@ -59,9 +69,12 @@ sealed interface StaticIntMap<T> permits StaticIntMap.Array {
         public void put(int key, T value) {
             T[] array = this.array;
             if (key >= array.length) {
-                array = updateArray(Arrays.copyOf(array, key * 2 + 1));
+                array = Arrays.copyOf(array, key * 2 + 1);
+                ELEMENT.setRelease((Object[]) array, key, value);
+                updateArray(array);
+                return;
             }
-            array[key] = value;
+            ELEMENT.setRelease((Object[]) array, key, value);
         }
 
         @Override
@@ -76,7 +89,7 @@ sealed interface StaticIntMap<T> permits StaticIntMap.Array {
         @Override
         public void remove(int key) {
             T[] array = this.array;
-            if (key < array.length) array[key] = null;
+            if (key < array.length) ELEMENT.setRelease((Object[]) array, key, null);
         }
 
         T[] updateArray(T[] result) {
@@ -49,6 +49,15 @@ public interface TagHandler extends TagReadable, TagWritable {
      */
     @NotNull NBTCompound asCompound();
 
+    /**
+     * Atomically updates the value of a tag.
+     * <p>
+     * The function may be applied more than once when the tag is modified concurrently,
+     * it should not have side effects.
+     *
+     * @param tag   the tag to update
+     * @param value the function computing the new value from the previous one
+     */
     @ApiStatus.Experimental
     <T> void updateTag(@NotNull Tag<T> tag,
                        @NotNull UnaryOperator<@UnknownNullability T> value);
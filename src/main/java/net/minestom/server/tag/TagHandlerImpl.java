@@ -11,6 +11,7 @@ import org.jglrxavpok.hephaistos.nbt.NBTCompoundLike;
 import org.jglrxavpok.hephaistos.nbt.NBTType;
 import org.jglrxavpok.hephaistos.nbt.mutable.MutableNBTCompound;
 
+import java.lang.invoke.MethodHandles;
 import java.lang.invoke.VarHandle;
 import java.util.Map;
 import java.util.function.UnaryOperator;
@@ -40,7 +41,6 @@ final class TagHandlerImpl implements TagHandler {
 
     @Override
     public <T> @UnknownNullability T getTag(@NotNull Tag<T> tag) {
-        VarHandle.fullFence();
         return root.getTag(tag);
     }
 
@@ -59,26 +59,23 @@ final class TagHandlerImpl implements TagHandler {
         }
         // Normal tag
         final int tagIndex = tag.index;
-        VarHandle.fullFence();
         Node node = traversePathWrite(root, tag, value != null);
         if (node == null)
             return; // Tried to remove an absent tag. Do nothing
         StaticIntMap<Entry<?>> entries = node.entries;
         if (value != null) {
             Entry previous = entries.get(tagIndex);
-            if (previous != null && previous.tag.shareValue(tag)) {
-                previous.updateValue(tag.copyValue(value));
-            } else {
+            if (previous == null || !previous.tag.shareValue(tag) || !previous.setValue(tag.copyValue(value))) {
                 synchronized (this) {
                     node = traversePathWrite(root, tag, true);
-                    node.entries.put(tagIndex, valueToEntry(node, tag, value));
+                    putEntry(node, tagIndex, valueToEntry(node, tag, value));
                 }
             }
         } else {
             synchronized (this) {
                 node = traversePathWrite(root, tag, false);
                 if (node == null) return;
-                node.entries.remove(tagIndex);
+                removeEntry(node, tagIndex);
             }
         }
         node.invalidate();
@@ -99,7 +96,29 @@ final class TagHandlerImpl implements TagHandler {
         return updateTag0(tag, value, true);
     }
 
-    private synchronized <T> T updateTag0(@NotNull Tag<T> tag, @NotNull UnaryOperator<T> value, boolean returnPrevious) {
+    private <T> T updateTag0(@NotNull Tag<T> tag, @NotNull UnaryOperator<T> value, boolean returnPrevious) {
+        if (!tag.isView()) {
+            // Lock-free path for existing entries
+            final Node node = traversePathExisting(root, tag);
+            final Entry entry = node != null ? node.entries.get(tag.index) : null;
+            if (entry != null && !entry.tag.entry.isPath() && entry.tag.shareValue(tag)) {
+                while (true) {
+                    final Object current = entry.value;
+                    if (current == Entry.REMOVED) break; // Replaced concurrently, take the synchronized path
+                    final T previousValue = (T) current;
+                    final T newValue = value.apply(previousValue);
+                    if (newValue == null) break; // Removal, take the synchronized path
+                    if (entry.compareAndSetValue(previousValue, tag.copyValue(newValue))) {
+                        node.invalidate();
+                        return returnPrevious ? previousValue : newValue;
+                    }
+                }
+            }
+        }
+        return updateTagSync(tag, value, returnPrevious);
+    }
+
+    private synchronized <T> T updateTagSync(@NotNull Tag<T> tag, @NotNull UnaryOperator<T> value, boolean returnPrevious) {
         final Node node = traversePathWrite(root, tag, true);
         if (tag.isView()) {
             final T previousValue = tag.read(node.compound());
@@ -113,9 +132,25 @@ final class TagHandlerImpl implements TagHandler {
         StaticIntMap<Entry<?>> entries = node.entries;
 
         final Entry previousEntry = entries.get(tagIndex);
+        if (previousEntry != null && !previousEntry.tag.entry.isPath() && previousEntry.tag.shareValue(tag)) {
+            // Update the entry in place, lock-free updates may still be applied to it concurrently
+            while (true) {
+                final T previousValue = (T) previousEntry.value;
+                final T newValue = value.apply(previousValue);
+                if (newValue != null) {
+                    if (!previousEntry.compareAndSetValue(previousValue, tag.copyValue(newValue))) continue;
+                } else {
+                    if (!previousEntry.compareAndSetValue(previousValue, Entry.REMOVED)) continue;
+                    entries.remove(tagIndex);
+                }
+                node.invalidate();
+                return returnPrevious ? previousValue : newValue;
+            }
+        }
+
         final T previousValue;
         if (previousEntry != null) {
-            final Object previousTmp = previousEntry.value;
+            final Object previousTmp = previousEntry.detach();
             if (previousTmp instanceof Node n) {
                 final NBTCompound compound = NBT.Compound(Map.of(tag.getKey(), n.compound()));
                 previousValue = tag.read(compound);
@@ -127,7 +162,7 @@ final class TagHandlerImpl implements TagHandler {
         }
         final T newValue = value.apply(previousValue);
         if (newValue != null) entries.put(tagIndex, valueToEntry(node, tag, newValue));
-        else entries.remove(tagIndex);
+        else if (previousEntry != null) entries.remove(tagIndex);
 
         node.invalidate();
         return returnPrevious ? previousValue : newValue;
@@ -156,10 +191,26 @@ final class TagHandlerImpl implements TagHandler {
 
     @Override
     public @NotNull NBTCompound asCompound() {
-        VarHandle.fullFence();
         return root.compound();
     }
 
+    /**
+     * Replaces an entry, the previous one is detached so that its pending lock-free updates fail.
+     * Must be called while holding the lock.
+     */
+    private static void putEntry(Node node, int index, Entry<?> entry) {
+        final Entry<?> previous = node.entries.get(index);
+        if (previous != null) previous.detach();
+        node.entries.put(index, entry);
+    }
+
+    private static void removeEntry(Node node, int index) {
+        final Entry<?> previous = node.entries.get(index);
+        if (previous == null) return;
+        previous.detach();
+        node.entries.remove(index);
+    }
+
     private static Node traversePathRead(Node node, Tag<?> tag) {
         final Tag.PathEntry[] paths = tag.path;
         if (paths == null) return node;
@@ -171,6 +222,22 @@ final class TagHandlerImpl implements TagHandler {
         return node;
     }
 
+    /**
+     * Finds the node of a tag without creating or converting entries.
+     *
+     * @return the node, null if one of the paths is absent or not a node yet
+     */
+    private static Node traversePathExisting(Node node, Tag<?> tag) {
+        final Tag.PathEntry[] paths = tag.path;
+        if (paths == null) return node;
+        for (var path : paths) {
+            final Entry<?> entry = node.entries.get(path.index());
+            if (entry == null || !entry.tag.entry.isPath()) return null;
+            node = (Node) entry.value;
+        }
+        return node;
+    }
+
     @Contract("_, _, true -> !null")
     private Node traversePathWrite(Node root, Tag<?> tag,
                                    boolean present) {
@@ -201,7 +268,7 @@ final class TagHandlerImpl implements TagHandler {
                     // Slow path is taken if the entry comes from a Structure tag, requiring conversion from NBT
                     Node tmp = local;
                     local = new Node(tmp);
-                    if (synEntry != null && synEntry.updatedNbt() instanceof NBTCompound compound) {
+                    if (synEntry != null && synEntry.detachedNbt() instanceof NBTCompound compound) {
                         local.updateContent(compound);
                     }
                     tmp.entries.put(pathIndex, Entry.makePathEntry(path.name(), local));
@@ -226,9 +293,22 @@ final class TagHandlerImpl implements TagHandler {
     }
 
     final class Node implements TagReadable {
+        private static final VarHandle STAMP;
+
+        static {
+            try {
+                STAMP = MethodHandles.lookup().findVarHandle(Node.class, "stamp", int.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
         final Node parent;
         final StaticIntMap<Entry<?>> entries;
-        NBTCompound compound;
+        // Cached nbt representation, only built when requested
+        volatile NBTCompound compound;
+        // Incremented on each change, a compound built concurrently to a change is not cached
+        private volatile int stamp;
 
         public Node(Node parent, StaticIntMap<Entry<?>> entries) {
             this.parent = parent;
@@ -251,25 +331,38 @@ final class TagHandlerImpl implements TagHandler {
             if (tag.isView()) return tag.read(node.compound());
 
             final StaticIntMap<Entry<?>> entries = node.entries;
-            final Entry<?> entry = entries.get(tag.index);
-            if (entry == null)
-                return tag.createDefault(); // Not present
-            if (entry.tag.shareValue(tag)) {
-                // The tag used to write the entry is compatible with the one used to get
-                // return the value directly
-                //noinspection unchecked
-                return (T) entry.value;
+            while (true) {
+                final Entry<?> entry = entries.get(tag.index);
+                if (entry == null)
+                    return tag.createDefault(); // Not present
+                if (entry.tag.shareValue(tag)) {
+                    // The tag used to write the entry is compatible with the one used to get
+                    // return the value directly
+                    final Object value = entry.value;
+                    if (value == Entry.REMOVED) {
+                        // Being replaced, read the new entry
+                        Thread.onSpinWait();
+                        continue;
+                    }
+                    //noinspection unchecked
+                    return (T) value;
+                }
+                // Value must be parsed from nbt if the tag is different
+                final NBT nbt = entry.updatedNbt();
+                if (nbt == null) {
+                    Thread.onSpinWait();
+                    continue;
+                }
+                final Serializers.Entry<T, NBT> serializerEntry = tag.entry;
+                final NBTType<NBT> type = serializerEntry.nbtType();
+                return type == null || type == nbt.getID() ? serializerEntry.read(nbt) : tag.createDefault();
             }
-            // Value must be parsed from nbt if the tag is different
-            final NBT nbt = entry.updatedNbt();
-            final Serializers.Entry<T, NBT> serializerEntry = tag.entry;
-            final NBTType<NBT> type = serializerEntry.nbtType();
-            return type == null || type == nbt.getID() ? serializerEntry.read(nbt) : tag.createDefault();
         }
 
         void updateContent(@NotNull NBTCompoundLike compoundLike) {
             final NBTCompound compound = compoundLike.toCompound();
             final TagHandlerImpl converted = fromCompound(compound);
+            this.entries.forValues(Entry::detach);
             this.entries.updateContent(converted.root.entries);
             this.compound = compound;
         }
@@ -277,6 +370,7 @@ final class TagHandlerImpl implements TagHandler {
         NBTCompound compound() {
             NBTCompound compound;
             if (!CACHE_ENABLE || (compound = this.compound) == null) {
+                final int stamp = this.stamp;
                 MutableNBTCompound tmp = new MutableNBTCompound();
                 this.entries.forValues(entry -> {
                     final Tag tag = entry.tag;
@@ -286,6 +380,7 @@ final class TagHandlerImpl implements TagHandler {
                     }
                 });
                 this.compound = compound = tmp.toCompound();
+                if (this.stamp != stamp) this.compound = null;
             }
             return compound;
         }
@@ -298,6 +393,8 @@ final class TagHandlerImpl implements TagHandler {
             this.entries.forValues(entry -> {
                 Tag tag = entry.tag;
                 Object value = entry.value;
+                if (value == Entry.REMOVED)
+                    return; // Removed concurrently
                 NBT nbt;
                 if (value instanceof Node node) {
                     Node copy = node.copy(result);
@@ -322,16 +419,33 @@ final class TagHandlerImpl implements TagHandler {
 
         void invalidate() {
             Node tmp = this;
-            do tmp.compound = null;
-            while ((tmp = tmp.parent) != null);
+            do {
+                STAMP.getAndAdd(tmp, 1);
+                tmp.compound = null;
+            } while ((tmp = tmp.parent) != null);
             TagHandlerImpl.this.copy = null;
         }
     }
 
     private static final class Entry<T> {
+        private static final VarHandle VALUE;
+        /**
+         * Value of an entry removed from its node, concurrent lock-free updates must fail and retry.
+         */
+        static final Object REMOVED = new Object();
+
+        static {
+            try {
+                VALUE = MethodHandles.lookup().findVarHandle(Entry.class, "value", Object.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
         private final Tag<T> tag;
-        T value;
-        NBT nbt;
+        volatile T value;
+        // Nbt of the value it was created from, built lazily
+        private volatile CachedNbt nbt;
 
         Entry(Tag<T> tag, T value) {
             this.tag = tag;
@@ -346,17 +460,56 @@ final class TagHandlerImpl implements TagHandler {
             return makePathEntry(tag.getKey(), node);
         }
 
+        /**
+         * @return the nbt of the value, null if the entry has been removed
+         */
         NBT updatedNbt() {
+            final T value = this.value;
+            if (value == REMOVED) return null;
             if (tag.entry.isPath()) return ((Node) value).compound();
-            NBT nbt = this.nbt;
-            if (nbt == null) this.nbt = nbt = tag.entry.write(value);
-            return nbt;
+            CachedNbt cached = this.nbt;
+            if (cached == null || cached.value != value) {
+                this.nbt = cached = new CachedNbt(value, tag.entry.write(value));
+            }
+            return cached.nbt;
         }
 
-        void updateValue(T value) {
+        /**
+         * Sets the value unless the entry has been removed.
+         *
+         * @return true if the value has been set
+         */
+        boolean setValue(T value) {
             assert !tag.entry.isPath();
-            this.value = value;
-            this.nbt = null;
+            while (true) {
+                final Object current = this.value;
+                if (current == REMOVED) return false;
+                if (VALUE.compareAndSet(this, current, value)) return true;
+            }
+        }
+
+        /**
+         * Marks the entry as removed, must be called while holding the lock before removing it from its node.
+         *
+         * @return the last value
+         */
+        Object detach() {
+            if (tag.entry.isPath()) return value;
+            return VALUE.getAndSet(this, REMOVED);
+        }
+
+        boolean compareAndSetValue(T expected, Object value) {
+            assert !tag.entry.isPath();
+            return VALUE.compareAndSet(this, expected, value);
+        }
+
+        /**
+         * Detaches the entry and gets the nbt of its last value.
+         */
+        NBT detachedNbt() {
+            final Object value = detach();
+            if (tag.entry.isPath()) return ((Node) value).compound();
+            return tag.entry.write((T) value);
         }
 
         Node toNode() {
@@ -370,4 +523,7 @@ final class TagHandlerImpl implements TagHandler {
             return null;
         }
     }
+
+    private record CachedNbt(Object value, NBT nbt) {
+    }
 }
@@ -0,0 +1,164 @@
+package net.minestom.server.thread;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.monitoring.ExecutorMetrics;
+import net.minestom.server.timer.ExecutionType;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Executors used by the server for work outside the tick threads, instead of sharing {@link ForkJoinPool#commonPool()}.
+ * <p>
+ * Each pool has a fixed number of daemon threads, named after the pool:
+ * <ul>
+ *     <li>{@link #chunkIo()}: chunk loading and saving, {@code minestom.chunk-io-threads} threads</li>
+ *     <li>{@link #generation()}: chunk generation and block batches, {@code minestom.generation-threads} threads</li>
+ *     <li>{@link #async()}: {@link ExecutionType#ASYNC} tasks, {@code minestom.async-threads} threads</li>
+ *     <li>{@link #pathfinding()}: asynchronous path and flow field computations,
+ *     {@code minestom.pathfinding.threads} threads</li>
+ * </ul>
+ * {@link #virtual()} starts a virtual thread per task when supported by the JVM, it should be preferred for blocking work.
+ * <p>
+ * Internal blocking work (logins, session server requests, acquisitions) runs in {@link #blocking()},
+ * so it cannot be starved by user tasks queued in {@link #async()}.
+ */
+@ApiStatus.Experimental
+public final class ServerExecutors {
+    private static final int PROCESSORS = Runtime.getRuntime().availableProcessors();
+
+    private static final Pool CHUNK_IO = new Pool("Ms-ChunkIO",
+            Integer.getInteger("minestom.chunk-io-threads", Math.max(2, PROCESSORS / 2)));
+    private static final Pool GENERATION = new Pool("Ms-Generation",
+            Integer.getInteger("minestom.generation-threads", PROCESSORS));
+    private static final Pool ASYNC = new Pool("Ms-Async",
+            Integer.getInteger("minestom.async-threads", PROCESSORS));
+    private static final Pool PATHFINDING = new Pool("Ms-Pathfinding",
+            Integer.getInteger("minestom.pathfinding.threads", Math.max(1, PROCESSORS / 2)));
+    private static final Pool BLOCKING = new Pool("Ms-Blocking",
+            Integer.getInteger("minestom.blocking-threads", 64), true);
+    private static final VirtualExecutor VIRTUAL = new VirtualExecutor();
+
+    private ServerExecutors() {
+        //no instance
+    }
+
+    public static @NotNull ExecutorService chunkIo() {
+        return CHUNK_IO.executor;
+    }
+
+    public static @NotNull ExecutorService generation() {
+        return GENERATION.executor;
+    }
+
+    public static @NotNull ExecutorService async() {
+        return ASYNC.executor;
+    }
+
+    public static @NotNull ExecutorService pathfinding() {
+        return PATHFINDING.executor;
+    }
+
+    /**
+     * Gets the executor starting a virtual thread per task, {@link #async()} if virtual threads are unsupported.
+     *
+     * @return the virtual thread executor
+     */
+    public static @NotNull Executor virtual() {
+        return VIRTUAL.supported() ? VIRTUAL : ASYNC.executor;
+    }
+
+    /**
+     * Gets the executor of the internal blocking work, virtual threads when supported
+     * or else a pool whose idle threads are released.
+     *
+     * @return the blocking executor
+     */
+    @ApiStatus.Internal
+    public static @NotNull Executor blocking() {
+        return VIRTUAL.supported() ? VIRTUAL : BLOCKING.executor;
+    }
+
+    /**
+     * Gets the current state of every executor.
+     *
+     * @return the metrics of the executors
+     */
+    public static @NotNull List<@NotNull ExecutorMetrics> metrics() {
+        return List.of(CHUNK_IO.metrics(), GENERATION.metrics(), ASYNC.metrics(),
+                PATHFINDING.metrics(), BLOCKING.metrics(), VIRTUAL.metrics());
+    }
+
+    private static final class Pool {
+        private final String name;
+        private final ThreadPoolExecutor executor;
+
+        Pool(String name, int threads) {
+            this(name, threads, false);
+        }
+
+        Pool(String name, int threads, boolean timeout) {
+            this.name = name;
+            final AtomicInteger counter = new AtomicInteger();
+            this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                    new LinkedBlockingQueue<>(), r -> {
+                Thread thread = new Thread(r, name + "-" + counter.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            });
+            if (timeout) {
+                this.executor.setKeepAliveTime(60L, TimeUnit.SECONDS);
+                this.executor.allowCoreThreadTimeOut(true);
+            }
+        }
+
+        ExecutorMetrics metrics() {
+            return new ExecutorMetrics(name, executor.getMaximumPoolSize(), executor.getActiveCount(),
+                    executor.getQueue().size(), executor.getCompletedTaskCount());
+        }
+    }
+
+    private static final class VirtualExecutor implements Executor {
+        private final ExecutorService executor = createExecutor();
+        private final AtomicInteger active = new AtomicInteger();
+        private final LongAdder completed = new LongAdder();
+
+        @Override
+        public void execute(@NotNull Runnable command) {
+            this.active.incrementAndGet();
+            this.executor.execute(() -> {
+                try {
+                    command.run();
+                } catch (Throwable e) {
+                    MinecraftServer.getExceptionManager().handleException(e);
+                } finally {
+                    this.active.decrementAndGet();
+                    this.completed.increment();
+                }
+            });
+        }
+
+        boolean supported() {
+            return executor != null;
+        }
+
+        ExecutorMetrics metrics() {
+            return new ExecutorMetrics("Ms-Virtual", 0, active.get(), 0, completed.sum());
+        }
+
+        private static ExecutorService createExecutor() {
+            try {
+                final Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+                return (ExecutorService) method.invoke(null);
+            } catch (ReflectiveOperationException ignored) {
+                // Virtual threads unsupported
+                return null;
+            }
+        }
+    }
+}
@@ -1,6 +1,16 @@
 package net.minestom.server.timer;
 
+import net.minestom.server.thread.ServerExecutors;
+
 public enum ExecutionType {
     SYNC,
-    ASYNC
+    /**
+     * Runs the task in the {@link ServerExecutors#async()} pool.
+     */
+    ASYNC,
+    /**
+     * Runs the task in its own virtual thread, suited to blocking work.
+     * Falls back to {@link #ASYNC} if virtual threads are not supported.
+     */
+    VIRTUAL
 }
@@ -1,33 +1,28 @@
 package net.minestom.server.timer;
 
-import it.unimi.dsi.fastutil.ints.Int2ObjectAVLTreeMap;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.thread.ServerExecutors;
 import org.jctools.queues.MpscUnboundedArrayQueue;
 import org.jetbrains.annotations.NotNull;
 
 import java.time.Duration;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ForkJoinPool;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
 import java.util.function.Supplier;
 
 final class SchedulerImpl implements Scheduler {
     private static final AtomicInteger TASK_COUNTER = new AtomicInteger();
-    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(r -> {
-        Thread thread = new Thread(r);
-        thread.setDaemon(true);
-        return thread;
-    });
-    private static final ForkJoinPool EXECUTOR = ForkJoinPool.commonPool();
+    private static final DurationTimer TIMER = new DurationTimer();
 
     private final MpscUnboundedArrayQueue<TaskImpl> taskQueue = new MpscUnboundedArrayQueue<>(64);
-    // Tasks scheduled on a certain tick
-    private final Int2ObjectAVLTreeMap<List<TaskImpl>> tickTaskQueue = new Int2ObjectAVLTreeMap<>();
+    // Tasks scheduled on a certain tick, waiting to be added to the wheel by the processing thread
+    private final MpscUnboundedArrayQueue<TaskImpl> tickTaskQueue = new MpscUnboundedArrayQueue<>(64);
+    private final TimingWheel tickWheel = new TimingWheel(0);
 
-    private int tickState;
+    private volatile int tickState;
 
     @Override
     public void process() {
@@ -40,21 +35,22 @@ final class SchedulerImpl implements Scheduler {
     }
 
     private void processTick(int tickDelta) {
-        synchronized (this) {
-            this.tickState += tickDelta;
-            int tickToProcess;
-            while (!tickTaskQueue.isEmpty() && (tickToProcess = tickTaskQueue.firstIntKey()) <= tickState) {
-                final List<TaskImpl> tickScheduledTasks = tickTaskQueue.remove(tickToProcess);
-                if (tickScheduledTasks != null) tickScheduledTasks.forEach(taskQueue::relaxedOffer);
-            }
+        final int tickState = this.tickState + tickDelta;
+        this.tickState = tickState;
+        // Move the tick tasks to the wheel, then collect the expired ones
+        if (!tickTaskQueue.isEmpty()) {
+            this.tickTaskQueue.drain(task -> {
+                if (!tickWheel.add(task, task.deadline)) taskQueue.relaxedOffer(task);
+            });
         }
+        this.tickWheel.advance(tickState, taskQueue::relaxedOffer);
         // Run all tasks lock-free, either in the current thread or pool
         if (!taskQueue.isEmpty()) {
             this.taskQueue.drain(task -> {
                 if (!task.isAlive()) return;
                 switch (task.executionType()) {
                     case SYNC -> handleTask(task);
-                    case ASYNC -> EXECUTOR.submit(() -> handleTask(task));
+                    case ASYNC, VIRTUAL -> executeAsync(task);
                 }
             });
         }
@@ -79,25 +75,31 @@ final class SchedulerImpl implements Scheduler {
         // By either adding the task to the execution queue or submitting it to the pool
         switch (task.executionType()) {
             case SYNC -> taskQueue.offer(task);
-            case ASYNC -> EXECUTOR.submit(() -> {
-                if (!task.isAlive()) {
-                    return;
-                }
-                handleTask(task);
-            });
+            case ASYNC, VIRTUAL -> executeAsync(task);
         }
     }
 
+    private void executeAsync(TaskImpl task) {
+        final Executor executor = task.executionType() == ExecutionType.VIRTUAL ?
+                ServerExecutors.virtual() : ServerExecutors.async();
+        executor.execute(() -> {
+            if (!task.isAlive()) return;
+            try {
+                handleTask(task);
+            } catch (Throwable e) {
+                MinecraftServer.getExceptionManager().handleException(e);
+            }
+        });
+    }
+
     private void handleTask(TaskImpl task) {
         final TaskSchedule schedule = task.task().get();
         if (schedule instanceof TaskScheduleImpl.DurationSchedule durationSchedule) {
             final Duration duration = durationSchedule.duration();
-            SCHEDULER.schedule(() -> safeExecute(task), duration.toMillis(), TimeUnit.MILLISECONDS);
+            TIMER.schedule(task, duration.toMillis());
         } else if (schedule instanceof TaskScheduleImpl.TickSchedule tickSchedule) {
-            synchronized (this) {
-                final int target = tickState + tickSchedule.tick();
-                this.tickTaskQueue.computeIfAbsent(target, i -> new ArrayList<>()).add(task);
-            }
+            task.deadline = (long) tickState + tickSchedule.tick();
+            this.tickTaskQueue.relaxedOffer(task);
         } else if (schedule instanceof TaskScheduleImpl.FutureSchedule futureSchedule) {
             futureSchedule.future().thenRun(() -> safeExecute(task));
         } else if (schedule instanceof TaskScheduleImpl.Park) {
@@ -108,4 +110,64 @@ final class SchedulerImpl implements Scheduler {
             this.taskQueue.relaxedOffer(task);
         }
     }
+
+    /**
+     * Millisecond timing wheel shared by all the schedulers, its thread hands the expired tasks
+     * back to their scheduler.
+     */
+    private static final class DurationTimer implements Runnable {
+        private final long origin = System.nanoTime();
+        private final MpscUnboundedArrayQueue<TaskImpl> queue = new MpscUnboundedArrayQueue<>(64);
+        private final TimingWheel wheel = new TimingWheel(0);
+        private final AtomicBoolean idle = new AtomicBoolean();
+        private final Thread thread;
+
+        DurationTimer() {
+            this.thread = new Thread(this, "Ms-SchedulerTimer");
+            this.thread.setDaemon(true);
+            this.thread.start();
+        }
+
+        void schedule(TaskImpl task, long delay) {
+            task.deadline = currentMillis() + delay;
+            this.queue.offer(task);
+            if (idle.get() && idle.compareAndSet(true, false)) LockSupport.unpark(thread);
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                try {
+                    final long now = currentMillis();
+                    this.wheel.advance(now, DurationTimer::expire);
+                    if (!queue.isEmpty()) {
+                        this.queue.drain(task -> {
+                            if (!wheel.add(task, task.deadline)) expire(task);
+                        });
+                    }
+                    // Sleep until the next slot to process, or until a task is scheduled
+                    final long next = wheel.nextTick();
+                    this.idle.set(true);
+                    if (queue.isEmpty()) {
+                        if (next == Long.MAX_VALUE) {
+                            LockSupport.park(this);
+                        } else {
+                            LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(next - now));
+                        }
+                    }
+                    this.idle.set(false);
+                } catch (Throwable e) {
+                    MinecraftServer.getExceptionManager().handleException(e);
+                }
+            }
+        }
+
+        private long currentMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - origin);
+        }
+
+        private static void expire(TaskImpl task) {
+            task.owner().safeExecute(task);
+        }
+    }
 }
@@ -26,6 +26,10 @@ final class TaskImpl implements Task {
     volatile boolean alive;
     volatile boolean parked;
 
+    // Scheduling state, owned by the timing wheel of the task or the queue leading to it
+    long deadline;
+    TaskImpl wheelNext;
+
     TaskImpl(int id,
              @NotNull Supplier<TaskSchedule> task,
              @NotNull ExecutionType executionType,
@@ -0,0 +1,139 @@
+package net.minestom.server.timer;
+
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel of tasks, only accessed by the thread advancing it.
+ * <p>
+ * Each level has 64 slots, a slot of the level {@code n} covering {@code 64^n} ticks. Tasks are linked
+ * through {@link TaskImpl#wheelNext} so adding one is O(1) without allocation, cancelled tasks are dropped
+ * once their slot is reached. The slots of upper levels are spread to the lower ones when the time reaches them.
+ */
+final class TimingWheel {
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 5;
+
+    // Head of the task list of each slot, level after level
+    private final TaskImpl[] slots = new TaskImpl[LEVELS * SLOTS];
+    // Tasks too far to fit in the top level
+    private TaskImpl overflow;
+    private long time;
+    private int size;
+
+    TimingWheel(long time) {
+        this.time = time;
+    }
+
+    /**
+     * Adds a task to the wheel.
+     *
+     * @param task     the task to add, not present in any wheel
+     * @param deadline the tick at which the task expires
+     * @return false if the deadline is already reached, the task is not added
+     */
+    boolean add(TaskImpl task, long deadline) {
+        if (deadline <= time) return false;
+        task.deadline = deadline;
+        link(task);
+        this.size++;
+        return true;
+    }
+
+    /**
+     * Advances the wheel to the given tick.
+     *
+     * @param target  the tick to reach
+     * @param expired consumer of the tasks reaching their deadline, cancelled tasks are ignored
+     */
+    void advance(long target, Consumer<TaskImpl> expired) {
+        while (time < target) {
+            if (size == 0) {
+                this.time = target;
+                return;
+            }
+            final long tick = ++this.time;
+            if ((tick & levelMask(LEVELS)) == 0) {
+                final TaskImpl tasks = overflow;
+                this.overflow = null;
+                relink(tasks);
+            }
+            for (int level = 1; level < LEVELS && (tick & levelMask(level)) == 0; level++) {
+                final int index = slotIndex(level, tick);
+                final TaskImpl tasks = slots[index];
+                this.slots[index] = null;
+                relink(tasks);
+            }
+            final int index = slotIndex(0, tick);
+            TaskImpl task = slots[index];
+            this.slots[index] = null;
+            while (task != null) {
+                final TaskImpl next = task.wheelNext;
+                task.wheelNext = null;
+                this.size--;
+                if (task.isAlive()) expired.accept(task);
+                task = next;
+            }
+        }
+    }
+
+    /**
+     * Gets the next tick at which {@link #advance(long, Consumer)} may have something to do.
+     *
+     * @return the next tick with expiring tasks or moving tasks to the lower level, {@link Long#MAX_VALUE} if empty
+     */
+    long nextTick() {
+        if (size == 0) return Long.MAX_VALUE;
+        final long blockEnd = (time | SLOT_MASK) + 1;
+        for (long tick = time + 1; tick < blockEnd; tick++) {
+            if (slots[slotIndex(0, tick)] != null) return tick;
+        }
+        return blockEnd;
+    }
+
+    long time() {
+        return time;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    private void link(TaskImpl task) {
+        final long deadline = task.deadline;
+        // Lowest level where the deadline is within the current cycle of the upper level
+        for (int level = 0; level < LEVELS; level++) {
+            final int upperShift = SLOT_BITS * (level + 1);
+            if ((deadline >>> upperShift) == (time >>> upperShift)) {
+                final int index = slotIndex(level, deadline);
+                task.wheelNext = slots[index];
+                this.slots[index] = task;
+                return;
+            }
+        }
+        task.wheelNext = overflow;
+        this.overflow = task;
+    }
+
+    private void relink(TaskImpl task) {
+        while (task != null) {
+            final TaskImpl next = task.wheelNext;
+            task.wheelNext = null;
+            if (task.isAlive()) {
+                link(task);
+            } else {
+                this.size--;
+            }
+            task = next;
+        }
+    }
+
+    private static int slotIndex(int level, long tick) {
+        return level * SLOTS + (int) ((tick >>> (SLOT_BITS * level)) & SLOT_MASK);
+    }
+
+    private static long levelMask(int level) {
+        return (1L << (SLOT_BITS * level)) - 1;
+    }
+}
@@ -1,6 +1,7 @@
 package net.minestom.server.utils.async;
 
 import net.minestom.server.MinecraftServer;
+import net.minestom.server.thread.ServerExecutors;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
@@ -22,6 +23,6 @@ public final class AsyncUtils {
             } catch (Exception e) {
                 MinecraftServer.getExceptionManager().handleException(e);
             }
-        });
+        }, ServerExecutors.blocking());
     }
 }
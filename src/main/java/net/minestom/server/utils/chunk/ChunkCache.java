@@ -7,6 +7,8 @@ import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.UnknownNullability;
 
+import java.util.Objects;
+
 import static net.minestom.server.utils.chunk.ChunkUtils.getChunkCoordinate;
 
 @ApiStatus.Internal
@@ -37,6 +39,11 @@ public final class ChunkCache implements Block.Getter {
             this.chunk = chunk = this.instance.getChunk(chunkX, chunkZ);
         }
         if (chunk != null) {
+            if (condition == Condition.TYPE) {
+                // Most reads only need the block type, try without locking
+                final int stateId = chunk.getBlockStateIdOptimistic(x, y, z);
+                if (stateId != -1) return Objects.requireNonNullElse(Block.fromStateId((short) stateId), Block.AIR);
+            }
             synchronized (chunk) {
                 return chunk.getBlock(x, y, z, condition);
             }
@@ -11,6 +11,8 @@ import net.minestom.server.entity.metadata.other.SlimeMeta;
 import net.minestom.server.instance.block.Block;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
@@ -1090,4 +1092,54 @@ public class EntityBlockPhysicsIntegrationTest {
         var newPos = physicsResult.newPosition();
         assertEquals(43, newPos.blockY());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void entityPhysicsBulk(Env env) {
+        var instance = env.createFlatInstance();
+        instance.setBlock(0, 43, 1, Block.STONE);
+
+        var entity1 = new Entity(EntityType.ZOMBIE);
+        entity1.setInstance(instance, new Pos(0, 42, 0)).join();
+        var entity2 = new Entity(EntityType.ZOMBIE);
+        entity2.setInstance(instance, new Pos(5, 42, 5)).join();
+        var entity3 = new Entity(EntityType.ITEM);
+        entity3.setInstance(instance, new Pos(8, 40.2, 8)).join();
+
+        Vec[] velocities = {new Vec(0, 0, 10), new Vec(0, -10, 0), new Vec(0, -0.5, 0)};
+        PhysicsResult[] results = new PhysicsResult[3];
+        CollisionUtils.handlePhysics(List.of(entity1, entity2, entity3), velocities, results);
+
+        assertEqualsPoint(new Pos(0, 42, 0.7), results[0].newPosition());
+        assertEqualsPoint(new Pos(5, 40, 5), results[1].newPosition());
+        assertTrue(results[1].isOnGround());
+        assertEqualsPoint(new Pos(8, 40, 8), results[2].newPosition());
+        assertTrue(results[2].isOnGround());
+    }
+
+    @Test
+    public void entityPhysicsBulkShared(Env env) {
+        var instance = env.createFlatInstance();
+        instance.setBlock(1, 40, 0, Block.STONE);
+
+        // Close entities, moved using a single copy of their blocks
+        List<Entity> entities = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            var entity = new Entity(EntityType.ITEM);
+            entity.setInstance(instance, new Pos(i * 0.25, 41.2, 0.5)).join();
+            entities.add(entity);
+        }
+        Vec[] velocities = new Vec[entities.size()];
+        Arrays.fill(velocities, new Vec(0, -0.5, 0));
+        PhysicsResult[] results = new PhysicsResult[entities.size()];
+        CollisionUtils.handlePhysics(entities, velocities, results);
+
+        for (int i = 0; i < entities.size(); i++) {
+            var expected = CollisionUtils.handlePhysics(entities.get(i), velocities[i], null);
+            assertEqualsPoint(expected.newPosition(), results[i].newPosition());
+            assertEquals(expected.isOnGround(), results[i].isOnGround());
+        }
+        assertEqualsPoint(new Pos(0, 40.7, 0.5), results[0].newPosition());
+        assertEqualsPoint(new Pos(1.5, 41, 0.5), results[6].newPosition());
+        assertTrue(results[6].isOnGround());
+    }
+}
@@ -3,10 +3,12 @@ package net.minestom.server.command;
 import net.minestom.server.command.builder.Command;
 import net.minestom.server.command.builder.CommandResult;
 import net.minestom.server.command.builder.arguments.ArgumentType;
+import net.minestom.server.entity.Player;
 import net.minestom.server.network.packet.server.play.DeclareCommandsPacket;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
 
+import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -104,6 +106,61 @@ public class CommandManagerTest {
         assertTrue(checkAB.get());
     }
 
+    @Test
+    public void graphUpdatedAfterRegistration() {
+        var manager = new CommandManager();
+        var command = new Command("cmd");
+        manager.register(command);
+        assertNotEquals(CommandResult.Type.SUCCESS, manager.executeServerCommand("cmd a").getType());
+
+        AtomicBoolean check = new AtomicBoolean(false);
+        command.addSyntax((sender, context) -> check.set(true), ArgumentType.Literal("a"));
+        assertEquals(CommandResult.Type.SUCCESS, manager.executeServerCommand("cmd a").getType());
+        assertTrue(check.get());
+
+        manager.unregister(command);
+        assertEquals(CommandResult.Type.UNKNOWN, manager.executeServerCommand("cmd a").getType());
+    }
+
+    @Test
+    public void syntaxUpdatedAfterRegistration() {
+        var manager = new CommandManager();
+        var command = new Command("cmd");
+        AtomicBoolean first = new AtomicBoolean(false);
+        var syntax = command.addSyntax((sender, context) -> first.set(true), ArgumentType.Literal("a")).iterator().next();
+        manager.register(command);
+        var player = new Player(UUID.randomUUID(), "player", null);
+        var packet = manager.createDeclareCommandsPacket(player);
+
+        AtomicBoolean second = new AtomicBoolean(false);
+        syntax.setExecutor((sender, context) -> second.set(true));
+        assertEquals(CommandResult.Type.SUCCESS, manager.executeServerCommand("cmd a").getType());
+        assertFalse(first.get());
+        assertTrue(second.get());
+
+        syntax.setCommandCondition((sender, commandString) -> false);
+        assertNotSame(packet, manager.createDeclareCommandsPacket(player), "Packet of the outdated graph");
+    }
+
+    @Test
+    public void declareCommandsPacketCache() {
+        var manager = new CommandManager();
+        var command = new Command("cmd");
+        command.setCondition((sender, commandString) -> ((Player) sender).getUsername().startsWith("admin"));
+        manager.register(command);
+
+        var admin1 = new Player(UUID.randomUUID(), "admin1", null);
+        var admin2 = new Player(UUID.randomUUID(), "admin2", null);
+        var user = new Player(UUID.randomUUID(), "user", null);
+        assertSame(manager.createDeclareCommandsPacket(admin1), manager.createDeclareCommandsPacket(admin2));
+        assertNotSame(manager.createDeclareCommandsPacket(admin1), manager.createDeclareCommandsPacket(user));
+        assertEquals(1, manager.createDeclareCommandsPacket(user).nodes().size());
+        assertEquals(2, manager.createDeclareCommandsPacket(admin1).nodes().size());
+
+        manager.register(new Command("other"));
+        assertEquals(2, manager.createDeclareCommandsPacket(user).nodes().size());
+    }
+
     private static void assertNodeEquals(DeclareCommandsPacket.Node node, byte flags, int[] children, int redirectedNode,
                                          String name, String parser, byte[] properties, String suggestionsType) {
         assertEquals(flags, node.flags);
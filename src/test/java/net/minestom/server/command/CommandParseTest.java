@@ -126,6 +126,29 @@ public class CommandParseTest {
         assertSyntaxError(foo, "bar");
     }
 
+    @Test
+    public void literalDispatch() {
+        final AtomicBoolean literal = new AtomicBoolean();
+        final AtomicBoolean word = new AtomicBoolean();
+        final AtomicBoolean alias = new AtomicBoolean();
+        Graph[] graphs = new Graph[100];
+        for (int i = 0; i < graphs.length - 1; i++) {
+            graphs[i] = Graph.builder(Literal("cmd" + i))
+                    .append(Literal("set"), x -> x.append(Literal("value"), createExecutor(literal)))
+                    .append(Word("name"), x -> x.append(Literal("value"), createExecutor(word)))
+                    .build();
+        }
+        graphs[graphs.length - 1] = Graph.builder(Word("").from("alias", "other"), createExecutor(alias)).build();
+        var graph = Graph.merge(graphs);
+        assertValid(graph, "cmd50 set value", literal);
+        assertValid(graph, "cmd50 get value", word);
+        assertValid(graph, "alias", alias);
+        assertValid(graph, "other", alias);
+        assertSyntaxError(graph, "cmd50 set other");
+        assertSyntaxError(graph, "cmd50");
+        assertUnknown(graph, "cmd100 set value");
+    }
+
     private static void assertSyntaxError(Graph graph, String input) {
         assertInstanceOf(CommandParser.Result.KnownCommand.Invalid.class, parseCommand(graph, input));
     }
@@ -0,0 +1,77 @@
+package net.minestom.server.entity;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.event.entity.EntityTickEvent;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class EntityActivationIntegrationTest {
+
+    @Test
+    public void configuration(Env env) {
+        var instance = env.createFlatInstance();
+        assertSame(ActivationRange.DEFAULT, instance.getActivationRange(EntityType.ZOMBIE));
+
+        var range = new ActivationRange(16, 0, false);
+        instance.setActivationRange(EntityType.ZOMBIE, range);
+        assertSame(range, instance.getActivationRange(EntityType.ZOMBIE));
+        assertSame(ActivationRange.DEFAULT, instance.getActivationRange(EntityType.PIG));
+
+        instance.setActivationRange(ActivationRange.ALWAYS_ACTIVE);
+        assertSame(ActivationRange.ALWAYS_ACTIVE, instance.getActivationRange(EntityType.PIG));
+        instance.setActivationRange(EntityType.ZOMBIE, null);
+        assertSame(ActivationRange.ALWAYS_ACTIVE, instance.getActivationRange(EntityType.ZOMBIE));
+
+        assertThrows(IllegalArgumentException.class, () -> new ActivationRange(-1, 0, false));
+    }
+
+    @Test
+    public void wakeUp(Env env) {
+        var instance = env.createFlatInstance();
+        instance.setActivationRange(EntityType.ZOMBIE, new ActivationRange(16, 0, false));
+        var entity = new Entity(EntityType.ZOMBIE);
+        entity.setInstance(instance, new Pos(0, 40, 0)).join();
+        var ticks = new AtomicInteger();
+        entity.eventNode().addListener(EntityTickEvent.class, event -> ticks.incrementAndGet());
+
+        // No player around
+        for (int i = 0; i < 5; i++) entity.tick(System.currentTimeMillis());
+        assertFalse(entity.isAwake());
+        assertEquals(0, ticks.get());
+        assertEquals(5, entity.getAliveTicks());
+
+        // Velocity change
+        entity.setVelocity(new Vec(0, 5, 0));
+        assertTrue(entity.isAwake());
+        for (int i = 0; i < ActivationRange.WAKE_UP_TICKS; i++) entity.tick(System.currentTimeMillis());
+        assertEquals(ActivationRange.WAKE_UP_TICKS, ticks.get());
+        assertFalse(entity.isAwake());
+
+        // Player approaching
+        var player = env.createPlayer(instance, new Pos(30, 40, 0));
+        assertTrue(entity.getViewers().contains(player));
+        assertFalse(entity.isAwake());
+        player.teleport(new Pos(5, 40, 0)).join();
+        assertTrue(entity.isAwake());
+    }
+
+    @Test
+    public void inactiveInterval(Env env) {
+        var instance = env.createFlatInstance();
+        instance.setActivationRange(EntityType.ZOMBIE, new ActivationRange(16, 5, false));
+        var entity = new Entity(EntityType.ZOMBIE);
+        entity.setInstance(instance, new Pos(0, 40, 0)).join();
+        var ticks = new AtomicInteger();
+        entity.eventNode().addListener(EntityTickEvent.class, event -> ticks.incrementAndGet());
+
+        for (int i = 0; i < 20; i++) entity.tick(System.currentTimeMillis());
+        assertEquals(4, ticks.get());
+    }
+}
@@ -6,8 +6,10 @@ import net.minestom.server.coordinate.Pos;
 import org.junit.jupiter.api.Test;
 
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @EnvTest
 public class EntityViewerRuleIntegrationTest {
@@ -144,4 +146,36 @@ public class EntityViewerRuleIntegrationTest {
         assertEquals(1, p1.getViewers().size());
         assertEquals(0, p2.getViewers().size());
     }
+
+    @Test
+    public void viewableRuleScheduledUpdate(Env env) {
+        var instance = env.createFlatInstance();
+        var p1 = env.createPlayer(instance, new Pos(0, 42, 0));
+
+        AtomicInteger evaluations = new AtomicInteger();
+        AtomicBoolean enabled = new AtomicBoolean(false);
+        p1.updateViewableRule(p -> {
+            evaluations.incrementAndGet();
+            return enabled.get();
+        });
+
+        var p2 = env.createPlayer(instance, new Pos(0, 42, 0));
+        assertEquals(0, p1.getViewers().size());
+
+        enabled.set(true);
+        evaluations.set(0);
+        p1.scheduleViewableRuleUpdate();
+        p1.scheduleViewableRuleUpdate();
+        assertEquals(0, p1.getViewers().size());
+        assertEquals(0, evaluations.get());
+
+        p1.tick(System.currentTimeMillis());
+        assertEquals(1, p1.getViewers().size());
+        final int updateEvaluations = evaluations.get();
+        assertTrue(updateEvaluations > 0);
+
+        // Nothing left to update
+        p1.tick(System.currentTimeMillis());
+        assertEquals(updateEvaluations, evaluations.get());
+    }
 }
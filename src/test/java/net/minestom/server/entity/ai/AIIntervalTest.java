@@ -0,0 +1,92 @@
+package net.minestom.server.entity.ai;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.EntityCreature;
+import net.minestom.server.entity.EntityType;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class AIIntervalTest {
+
+    @Test
+    public void goalInterval(Env env) {
+        var creature = new EntityCreature(EntityType.ZOMBIE);
+        var checks = new AtomicInteger();
+        var goal = new GoalSelector(creature) {
+            @Override
+            public boolean shouldStart() {
+                checks.incrementAndGet();
+                return false;
+            }
+
+            @Override
+            public void start() {
+            }
+
+            @Override
+            public void tick(long time) {
+            }
+
+            @Override
+            public boolean shouldEnd() {
+                return true;
+            }
+
+            @Override
+            public void end() {
+            }
+        };
+        var group = new EntityAIGroup();
+        group.getGoalSelectors().add(goal);
+
+        for (int i = 0; i < 20; i++) group.tick(0);
+        assertEquals(20, checks.get());
+
+        checks.set(0);
+        goal.setStartInterval(5);
+        for (int i = 0; i < 20; i++) group.tick(0);
+        assertEquals(4, checks.get());
+
+        assertThrows(IllegalArgumentException.class, () -> goal.setStartInterval(0));
+    }
+
+    @Test
+    public void targetInterval(Env env) {
+        var instance = env.createFlatInstance();
+        var creature = new EntityCreature(EntityType.ZOMBIE);
+        creature.setInstance(instance, new Pos(0, 42, 0)).join();
+        var target = new EntityCreature(EntityType.ZOMBIE);
+        target.setInstance(instance, new Pos(5, 42, 0)).join();
+        var searches = new AtomicInteger();
+        var selector = new TargetSelector(creature) {
+            @Override
+            public @NotNull Entity findTarget() {
+                searches.incrementAndGet();
+                return target;
+            }
+        };
+
+        for (int tick = 1; tick <= 10; tick++) assertSame(target, selector.findTarget(tick));
+        assertEquals(10, searches.get());
+
+        searches.set(0);
+        selector.setInterval(5);
+        for (int tick = 11; tick <= 20; tick++) assertSame(target, selector.findTarget(tick));
+        assertEquals(2, searches.get());
+
+        // Removed targets are searched again
+        searches.set(0);
+        target.remove();
+        selector.findTarget(21);
+        selector.findTarget(22);
+        assertEquals(2, searches.get());
+    }
+}
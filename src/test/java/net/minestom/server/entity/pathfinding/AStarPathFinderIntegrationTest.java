@@ -0,0 +1,132 @@
+package net.minestom.server.entity.pathfinding;
+
+import net.minestom.server.collision.BoundingBox;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.InstanceContainer;
+import net.minestom.server.instance.block.Block;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class AStarPathFinderIntegrationTest {
+    private static final BoundingBox ZOMBIE = new BoundingBox(0.6, 1.95, 0.6);
+
+    @Test
+    public void straight(Env env) {
+        var instance = createInstance(env);
+        var path = AStarPathFinder.findPath(instance.getNavigationCache(), new Pos(0.5, 40, 0.5), new Pos(5.5, 40, 0.5), ZOMBIE, false);
+        assertEquals(List.of(new Vec(1.5, 40, 0.5), new Vec(2.5, 40, 0.5), new Vec(3.5, 40, 0.5),
+                new Vec(4.5, 40, 0.5), new Vec(5.5, 40, 0.5)), path);
+    }
+
+    @Test
+    public void aroundWall(Env env) {
+        var instance = createInstance(env);
+        for (int z = -5; z <= 5; z++) {
+            instance.setBlock(3, 40, z, Block.STONE);
+            instance.setBlock(3, 41, z, Block.STONE);
+        }
+        var path = AStarPathFinder.findPath(instance.getNavigationCache(), new Pos(0.5, 40, 0.5), new Pos(6.5, 40, 0.5), ZOMBIE, false);
+        assertNotNull(path);
+        assertEquals(new Vec(6.5, 40, 0.5), path.get(path.size() - 1));
+        for (Vec point : path) {
+            assertFalse(point.blockX() == 3 && Math.abs(point.blockZ()) <= 5, "Path goes through the wall: " + point);
+            assertEquals(40, point.y());
+        }
+    }
+
+    @Test
+    public void stepUpAndFall(Env env) {
+        var instance = createInstance(env);
+        instance.setBlock(2, 40, 0, Block.STONE);
+        var up = AStarPathFinder.findPath(instance.getNavigationCache(), new Pos(0.5, 40, 0.5), new Pos(2.5, 41, 0.5), ZOMBIE, false);
+        assertEquals(List.of(new Vec(1.5, 40, 0.5), new Vec(2.5, 41, 0.5)), up);
+        var down = AStarPathFinder.findPath(instance.getNavigationCache(), new Pos(2.5, 41, 0.5), new Pos(3.5, 40, 0.5), ZOMBIE, false);
+        assertEquals(List.of(new Vec(3.5, 40, 0.5)), down);
+    }
+
+    @Test
+    public void blockChange(Env env) {
+        var instance = createInstance(env);
+        // Enclose the target
+        for (int x = 4; x <= 6; x++) {
+            for (int z = -1; z <= 1; z++) {
+                if (x == 5 && z == 0) continue;
+                instance.setBlock(x, 40, z, Block.STONE);
+                instance.setBlock(x, 41, z, Block.STONE);
+                instance.setBlock(x, 42, z, Block.STONE);
+            }
+        }
+        final NavigationCache cache = instance.getNavigationCache();
+        assertNull(AStarPathFinder.findPath(cache, new Pos(0.5, 40, 0.5), new Pos(5.5, 40, 0.5), ZOMBIE, false));
+        var closest = AStarPathFinder.findPath(cache, new Pos(0.5, 40, 0.5), new Pos(5.5, 40, 0.5), ZOMBIE, true);
+        assertNotNull(closest);
+        assertNotEquals(new Vec(5.5, 40, 0.5), closest.get(closest.size() - 1));
+
+        // Open the enclosure, the cached blocks must be updated
+        instance.setBlock(4, 40, 0, Block.AIR);
+        instance.setBlock(4, 41, 0, Block.AIR);
+        var path = AStarPathFinder.findPath(cache, new Pos(0.5, 40, 0.5), new Pos(5.5, 40, 0.5), ZOMBIE, false);
+        assertNotNull(path);
+        assertEquals(new Vec(5.5, 40, 0.5), path.get(path.size() - 1));
+    }
+
+    @Test
+    public void async(Env env) {
+        var instance = createInstance(env);
+        instance.setBlock(3, 40, 0, Block.STONE);
+        instance.setBlock(3, 41, 0, Block.STONE);
+        final NavigationCache cache = instance.getNavigationCache();
+        var expected = AStarPathFinder.findPath(cache, new Pos(0.5, 40, 0.5), new Pos(6.5, 40, 0.5), ZOMBIE, false);
+        var path = AStarPathFinder.findPathAsync(cache, new Pos(0.5, 40, 0.5), new Pos(6.5, 40, 0.5), ZOMBIE, false).join();
+        assertNotNull(path);
+        assertEquals(expected, path);
+    }
+
+    @Test
+    public void sharedInstance(Env env) {
+        var container = (InstanceContainer) createInstance(env);
+        var shared = env.process().instance().createSharedInstance(container);
+        final NavigationCache cache = shared.getNavigationCache();
+        assertSame(container.getNavigationCache(), cache);
+        assertNotNull(AStarPathFinder.findPath(cache, new Pos(0.5, 40, 0.5), new Pos(5.5, 40, 0.5), ZOMBIE, false));
+
+        // Changes made through the container are seen by the shared instance
+        for (int z = -32; z < 48; z++) {
+            container.setBlock(3, 40, z, Block.STONE);
+            container.setBlock(3, 41, z, Block.STONE);
+            container.setBlock(3, 42, z, Block.STONE);
+        }
+        assertNull(AStarPathFinder.findPath(cache, new Pos(0.5, 40, 0.5), new Pos(5.5, 40, 0.5), ZOMBIE, false));
+    }
+
+    @Test
+    public void chunkReset(Env env) {
+        var instance = createInstance(env);
+        final NavigationCache cache = instance.getNavigationCache();
+        assertEquals(NavigationCache.FLOOR, cache.kind(3, 39, 3));
+
+        var chunk = instance.getChunk(0, 0);
+        synchronized (chunk) {
+            chunk.reset();
+        }
+        assertEquals(NavigationCache.OPEN, cache.kind(3, 39, 3));
+    }
+
+    private static Instance createInstance(Env env) {
+        var instance = env.createFlatInstance();
+        for (int x = -2; x <= 2; x++) {
+            for (int z = -2; z <= 2; z++) {
+                instance.loadChunk(x, z).join();
+            }
+        }
+        return instance;
+    }
+}
@@ -0,0 +1,87 @@
+package net.minestom.server.entity.pathfinding;
+
+import net.minestom.server.collision.BoundingBox;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.EntityCreature;
+import net.minestom.server.entity.EntityType;
+import net.minestom.server.instance.InstanceContainer;
+import net.minestom.server.instance.block.Block;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class FlowFieldIntegrationTest {
+    private static final BoundingBox ZOMBIE = new BoundingBox(0.6, 1.95, 0.6);
+
+    @Test
+    public void followField(Env env) {
+        var instance = env.createFlatInstance();
+        for (int x = -2; x <= 2; x++) {
+            for (int z = -2; z <= 2; z++) {
+                instance.loadChunk(x, z).join();
+            }
+        }
+        for (int z = -5; z <= 5; z++) {
+            instance.setBlock(3, 40, z, Block.STONE);
+            instance.setBlock(3, 41, z, Block.STONE);
+        }
+        var target = new Entity(EntityType.ZOMBIE);
+        target.setInstance(instance, new Pos(6.5, 40, 0.5)).join();
+
+        var fields = instance.getFlowFields();
+        var field = fields.get(target, ZOMBIE);
+        assertSame(field, fields.get(target, ZOMBIE));
+        assertNotSame(field, fields.get(target, new BoundingBox(1.4, 2.7, 1.4)));
+
+        // Computed in the pathfinding pool once used
+        assertNull(field.next(new Vec(0.5, 40, 0.5)));
+        field.whenComputed().join();
+
+        // Walk the field from the other side of the wall
+        Point position = new Vec(0.5, 40, 0.5);
+        int steps = 0;
+        while (!position.samePoint(target.getPosition())) {
+            position = field.next(position);
+            assertNotNull(position);
+            assertFalse(position.blockX() == 3 && Math.abs(position.blockZ()) <= 5, "Field goes through the wall: " + position);
+            assertTrue(++steps < 30);
+        }
+        assertTrue(steps > 6, "Wall has not been walked around");
+
+        // Outside the field radius
+        assertNull(field.next(new Vec(6.5 + FlowField.RADIUS + 1, 40, 0.5)));
+    }
+
+    @Test
+    public void followSharedInstance(Env env) {
+        var container = (InstanceContainer) env.createFlatInstance();
+        for (int x = -1; x <= 1; x++) {
+            for (int z = -1; z <= 1; z++) {
+                container.loadChunk(x, z).join();
+            }
+        }
+        var shared = env.process().instance().createSharedInstance(container);
+        var target = new Entity(EntityType.ZOMBIE);
+        target.setInstance(shared, new Pos(8.5, 40, 0.5)).join();
+        var creature = new EntityCreature(EntityType.ZOMBIE);
+        creature.setInstance(shared, new Pos(0.5, 40, 0.5)).join();
+        creature.getNavigator().setPathFinder(null); // Built-in pathfinder
+
+        // The field belongs to the shared instance even though the blocks come from the container
+        var field = shared.getFlowFields().get(target, creature.getBoundingBox());
+        assertTrue(field.isValid());
+        assertTrue(creature.getNavigator().follow(target));
+        final double distance = creature.getPosition().distance(target.getPosition());
+        for (int i = 0; i < 20; i++) env.tick();
+        assertTrue(field.isValid());
+        assertSame(field, shared.getFlowFields().get(target, creature.getBoundingBox()));
+        assertTrue(creature.getPosition().distance(target.getPosition()) < distance - 1,
+                "Creature did not move toward the target: " + creature.getPosition());
+    }
+}
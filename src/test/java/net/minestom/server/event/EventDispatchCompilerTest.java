@@ -0,0 +1,85 @@
+package net.minestom.server.event;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EventDispatchCompilerTest {
+
+    record TestEvent(int value) implements Event {
+    }
+
+    @Test
+    public void order() {
+        List<String> calls = new ArrayList<>();
+        var node = EventNode.all("main");
+        var child = EventNode.all("child").setPriority(1);
+        var child2 = EventNode.all("child2").setPriority(0);
+        node.addChild(child);
+        node.addChild(child2);
+        node.addListener(TestEvent.class, event -> calls.add("main"));
+        child.addListener(TestEvent.class, event -> calls.add("child"));
+        child2.addListener(TestEvent.class, event -> calls.add("child2"));
+
+        var consumer = compile(node);
+        assertNotNull(consumer);
+        consumer.accept(new TestEvent(0));
+        assertEquals(List.of("main", "child2", "child"), calls);
+    }
+
+    @Test
+    public void predicate() {
+        List<Integer> calls = new ArrayList<>();
+        var node = EventNode.all("main");
+        var child = EventNode.event("child", EventFilter.ALL, event -> event instanceof TestEvent test && test.value() > 0);
+        node.addChild(child);
+        child.addListener(TestEvent.class, event -> calls.add(event.value()));
+        node.addListener(TestEvent.class, event -> calls.add(-1));
+
+        var consumer = compile(node);
+        assertNotNull(consumer);
+        consumer.accept(new TestEvent(0));
+        consumer.accept(new TestEvent(5));
+        assertEquals(List.of(-1, -1, 5), calls);
+    }
+
+    @Test
+    public void expiration() {
+        List<Integer> calls = new ArrayList<>();
+        var node = EventNode.all("main");
+        node.addListener(EventListener.builder(TestEvent.class)
+                .handler(event -> calls.add(event.value()))
+                .expireCount(1)
+                .build());
+
+        var consumer = compile(node);
+        assertNotNull(consumer);
+        consumer.accept(new TestEvent(1));
+        assertEquals(List.of(1), calls);
+        assertFalse(node.hasListener(TestEvent.class), "The listener should have been removed after expiring");
+    }
+
+    @Test
+    public void empty() {
+        var node = EventNode.all("main");
+        node.addChild(EventNode.all("child"));
+        List<EventDispatchCompiler.Op> ops = new ArrayList<>();
+        handle(node).collectOps(ops);
+        assertTrue(ops.isEmpty());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static EventNodeImpl<Event>.Handle<TestEvent> handle(EventNode<Event> node) {
+        return (EventNodeImpl<Event>.Handle<TestEvent>) node.getHandle(TestEvent.class);
+    }
+
+    private static Consumer<TestEvent> compile(EventNode<Event> node) {
+        List<EventDispatchCompiler.Op> ops = new ArrayList<>();
+        handle(node).collectOps(ops);
+        return EventDispatchCompiler.compile(ops);
+    }
+}
@@ -0,0 +1,128 @@
+package net.minestom.server.event;
+
+import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.EntityType;
+import net.minestom.server.event.trait.CancellableEvent;
+import net.minestom.server.event.trait.EntityEvent;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EventNodeAsyncTest {
+
+    record EntityTestEvent(Entity entity, int value) implements EntityEvent {
+        @Override
+        public @NotNull Entity getEntity() {
+            return entity;
+        }
+    }
+
+    record TestEvent() implements Event {
+    }
+
+    static final class MutableTestEvent implements CancellableEvent {
+        volatile int value;
+        volatile boolean cancelled;
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        @Override
+        public void setCancelled(boolean cancel) {
+            this.cancelled = cancel;
+        }
+    }
+
+    @Test
+    public void completion() throws Exception {
+        var node = EventNode.all("main");
+        AtomicBoolean sync = new AtomicBoolean();
+        AtomicBoolean async = new AtomicBoolean();
+        node.addListener(TestEvent.class, event -> sync.set(true));
+        node.addAsyncListener(TestEvent.class, event -> {
+            assertNotEquals("main", Thread.currentThread().getName());
+            async.set(true);
+        });
+        node.callAsync(new TestEvent()).get(5, TimeUnit.SECONDS);
+        assertTrue(sync.get());
+        assertTrue(async.get());
+    }
+
+    @Test
+    public void afterSyncListeners() throws Exception {
+        var node = EventNode.all("main");
+        AtomicInteger seen = new AtomicInteger(-1);
+        node.addAsyncListener(MutableTestEvent.class, event -> seen.set(event.value));
+        // Registered after the async listener, must still run before it
+        node.addListener(MutableTestEvent.class, event -> {
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            event.value = 5;
+        });
+        node.callAsync(new MutableTestEvent()).get(5, TimeUnit.SECONDS);
+        assertEquals(5, seen.get());
+    }
+
+    @Test
+    public void cancelledAfterAsyncListener() throws Exception {
+        var node = EventNode.all("main");
+        AtomicBoolean called = new AtomicBoolean();
+        node.addAsyncListener(MutableTestEvent.class, event -> called.set(true));
+        node.addListener(MutableTestEvent.class, event -> event.setCancelled(true));
+        node.callAsync(new MutableTestEvent()).get(5, TimeUnit.SECONDS);
+        assertFalse(called.get());
+    }
+
+    @Test
+    public void noAsyncListener() {
+        var node = EventNode.all("main");
+        node.addListener(TestEvent.class, event -> {
+        });
+        assertTrue(node.callAsync(new TestEvent()).isDone());
+    }
+
+    @Test
+    public void entityOrdering() throws Exception {
+        var node = EventNode.all("main");
+        var entity = new Entity(EntityType.ZOMBIE);
+        List<Integer> values = new CopyOnWriteArrayList<>();
+        node.addAsyncListener(EntityTestEvent.class, event -> {
+            if (event.value() == 0) {
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+            values.add(event.value());
+        });
+        var first = node.callAsync(new EntityTestEvent(entity, 0));
+        var second = node.callAsync(new EntityTestEvent(entity, 1));
+        second.get(5, TimeUnit.SECONDS);
+        assertTrue(first.isDone());
+        assertEquals(List.of(0, 1), values);
+    }
+
+    @Test
+    public void removal() throws Exception {
+        var node = EventNode.all("main");
+        AtomicBoolean called = new AtomicBoolean();
+        var listener = EventListener.async(TestEvent.class, event -> called.set(true));
+        node.addListener(listener);
+        node.removeListener(listener);
+        node.callAsync(new TestEvent()).get(5, TimeUnit.SECONDS);
+        assertFalse(called.get());
+    }
+}
@@ -52,6 +52,23 @@ public class BlockTest {
         assertNotEquals(block.withProperty("facing", "north"), block.withProperty("facing", "south"));
     }
 
+    @Test
+    public void stateProperties() {
+        Block block = Block.CHEST;
+        final int stateId = block.stateId();
+        final int south = Block.stateWithProperty(stateId, "facing", "south");
+        assertEquals(block.withProperty("facing", "south").stateId(), south);
+        assertEquals("south", Block.stateProperty(south, "facing"));
+        assertNull(Block.stateProperty(south, "random"));
+        assertEquals(stateId, Block.stateWithProperty(stateId, "facing", "north"));
+
+        final int waterlogged = Block.stateWithProperties(south, Map.of("waterlogged", "true", "type", "left"));
+        assertEquals(block.withProperties(Map.of("facing", "south", "waterlogged", "true", "type", "left")).stateId(), waterlogged);
+
+        assertThrows(IllegalArgumentException.class, () -> Block.stateWithProperty(-1, "facing", "south"));
+        assertThrows(IllegalArgumentException.class, () -> Block.stateWithProperty(stateId, "random", "randomKey"));
+    }
+
     @Test
     public void invalidProperties() {
         Block block = Block.CHEST;
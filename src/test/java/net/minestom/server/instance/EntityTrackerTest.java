@@ -5,9 +5,12 @@ import net.minestom.server.entity.Entity;
 import net.minestom.server.entity.EntityType;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import java.util.HashSet;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -246,4 +249,51 @@ public class EntityTrackerTest {
         assertThrows(Exception.class, () -> entities.add(new Entity(EntityType.ZOMBIE)));
         assertThrows(Exception.class, () -> chunkEntities.add(new Entity(EntityType.ZOMBIE)));
     }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    public void rangeQueries(boolean spatialIndex) {
+        var ent1 = new Entity(EntityType.ZOMBIE);
+        var ent2 = new Entity(EntityType.ZOMBIE);
+        var ent3 = new Entity(EntityType.ZOMBIE);
+
+        EntityTracker tracker = EntityTracker.newTracker(spatialIndex);
+        tracker.register(ent1, new Vec(1, 0, 1), EntityTracker.Target.ENTITIES, null);
+        tracker.register(ent2, new Vec(6, 0, 1), EntityTracker.Target.ENTITIES, null);
+        tracker.register(ent3, new Vec(20, 0, 1), EntityTracker.Target.ENTITIES, null);
+
+        assertEquals(Set.of(ent1, ent2), query(consumer -> tracker.nearbyEntities(Vec.ZERO, 7, EntityTracker.Target.ENTITIES, consumer)));
+        assertEquals(Set.of(ent2), query(consumer -> tracker.entitiesInBox(new Vec(5, -1, 0), new Vec(15, 1, 1.5), EntityTracker.Target.ENTITIES, consumer)));
+        assertEquals(Set.of(ent1, ent2, ent3), query(consumer -> tracker.raycastEntities(new Vec(-5, 1, 1), new Vec(30, 1, 1), EntityTracker.Target.ENTITIES, consumer)));
+        assertEquals(Set.of(), query(consumer -> tracker.raycastEntities(new Vec(-5, 5, 1), new Vec(30, 5, 1), EntityTracker.Target.ENTITIES, consumer)));
+        assertEquals(Set.of(), query(consumer -> tracker.nearbyEntities(Vec.ZERO, 7, EntityTracker.Target.PLAYERS, consumer)));
+        // Spans more cells than looked up individually
+        assertEquals(Set.of(ent1, ent2, ent3), query(consumer -> tracker.nearbyEntities(Vec.ZERO, 24, EntityTracker.Target.ENTITIES, consumer)));
+        assertEquals(Set.of(ent1, ent2), query(consumer -> tracker.entitiesInBox(new Vec(-30, -30, -30), new Vec(10, 30, 30), EntityTracker.Target.ENTITIES, consumer)));
+
+        // Movements within the same cell and to another cell
+        tracker.move(ent1, new Vec(1.5, 0, 1.5), EntityTracker.Target.ENTITIES, null);
+        tracker.move(ent2, new Vec(40, 0, 1), EntityTracker.Target.ENTITIES, null);
+        assertEquals(Set.of(ent1), query(consumer -> tracker.nearbyEntities(Vec.ZERO, 7, EntityTracker.Target.ENTITIES, consumer)));
+        assertEquals(Set.of(ent2), query(consumer -> tracker.nearbyEntities(new Vec(40, 0, 0), 2, EntityTracker.Target.ENTITIES, consumer)));
+
+        tracker.unregister(ent1, EntityTracker.Target.ENTITIES, null);
+        assertEquals(Set.of(), query(consumer -> tracker.nearbyEntities(Vec.ZERO, 7, EntityTracker.Target.ENTITIES, consumer)));
+    }
+
+    @Test
+    public void spatialIndexCellKey() {
+        for (int[] cell : new int[][]{{0, 0, 0}, {1, -1, 2}, {-1_000_000, -16, 1_000_000}, {-1, 80, -1}}) {
+            final long key = EntitySpatialIndex.cellKey(cell[0], cell[1], cell[2]);
+            assertEquals(cell[0], EntitySpatialIndex.cellX(key));
+            assertEquals(cell[1], EntitySpatialIndex.cellY(key));
+            assertEquals(cell[2], EntitySpatialIndex.cellZ(key));
+        }
+    }
+
+    private static Set<Entity> query(Consumer<Consumer<Entity>> query) {
+        Set<Entity> result = new HashSet<>();
+        query.accept(result::add);
+        return result;
+    }
 }
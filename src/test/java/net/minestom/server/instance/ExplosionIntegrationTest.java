@@ -0,0 +1,105 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.entity.EntityCreature;
+import net.minestom.server.entity.EntityType;
+import net.minestom.server.event.entity.EntityDamageEvent;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.network.packet.server.play.BlockChangePacket;
+import net.minestom.server.network.packet.server.play.ExplosionPacket;
+import net.minestom.server.network.packet.server.play.MultiBlockChangePacket;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class ExplosionIntegrationTest {
+
+    @Test
+    public void vanillaExplosion(Env env) {
+        var instance = env.createFlatInstance();
+        instance.setExplosionSupplier(VanillaExplosion.SUPPLIER);
+        var nearConnection = env.createConnection();
+        nearConnection.connect(instance, new Pos(0, 40, 20)).join();
+        var farConnection = env.createConnection();
+        farConnection.connect(instance, new Pos(100, 40, 0)).join();
+
+        var zombie = new EntityCreature(EntityType.ZOMBIE);
+        zombie.setInstance(instance, new Pos(2.5, 40, 0.5)).join();
+        final float health = zombie.getHealth();
+
+        var nearExplosions = nearConnection.trackIncoming(ExplosionPacket.class);
+        var farExplosions = farConnection.trackIncoming(ExplosionPacket.class);
+        var nearChanges = nearConnection.trackIncoming(MultiBlockChangePacket.class);
+        var blockChanges = nearConnection.trackIncoming(BlockChangePacket.class);
+        instance.explode(0.5f, 40.5f, 0.5f, 4);
+
+        // Blocks
+        assertEquals(Block.AIR, instance.getBlock(0, 39, 0));
+        assertEquals(Block.STONE, instance.getBlock(0, 30, 0));
+        assertEquals(Block.STONE, instance.getBlock(10, 39, 0));
+
+        // Packets
+        nearExplosions.assertSingle(packet -> assertTrue(packet.records().length > 0));
+        farExplosions.assertEmpty();
+        assertFalse(nearChanges.collect().isEmpty());
+        blockChanges.assertEmpty();
+
+        // Entities
+        assertTrue(zombie.getHealth() < health);
+        assertTrue(zombie.getVelocity().x() > 0);
+    }
+
+    @Test
+    public void chainedExplosion(Env env) {
+        var instance = env.createFlatInstance();
+        instance.setExplosionSupplier(VanillaExplosion.SUPPLIER);
+        instance.loadChunk(0, 0).join();
+        instance.loadChunk(1, 0).join();
+        var zombie = new EntityCreature(EntityType.ZOMBIE);
+        zombie.setInstance(instance, new Pos(2.5, 40, 0.5)).join();
+
+        // The damage triggers a second explosion while the first one is computed
+        AtomicBoolean chained = new AtomicBoolean();
+        instance.eventNode().addListener(EntityDamageEvent.class, event -> {
+            if (chained.compareAndSet(false, true)) instance.explode(20.5f, 40.5f, 0.5f, 4);
+        });
+        assertDoesNotThrow(() -> instance.explode(0.5f, 40.5f, 0.5f, 4));
+
+        assertTrue(chained.get());
+        assertEquals(Block.AIR, instance.getBlock(0, 39, 0));
+        assertEquals(Block.AIR, instance.getBlock(20, 39, 0));
+    }
+
+    @Test
+    public void batchedRemoval(Env env) {
+        var instance = env.createFlatInstance();
+        var connection = env.createConnection();
+        connection.connect(instance, new Pos(0, 40, 0)).join();
+
+        var changes = connection.trackIncoming(MultiBlockChangePacket.class);
+        var blockChanges = connection.trackIncoming(BlockChangePacket.class);
+        new VanillaExplosion(8, 32, 8, 0) {
+            @Override
+            protected List<Point> prepare(Instance instance) {
+                return List.of(new Vec(1, 39, 1), new Vec(2, 39, 1), new Vec(1, 30, 1), new Vec(20, 39, 1),
+                        new Vec(1, 41, 1)); // Already air
+            }
+        }.apply(instance);
+
+        assertEquals(Block.AIR, instance.getBlock(1, 39, 1));
+        assertEquals(Block.AIR, instance.getBlock(2, 39, 1));
+        assertEquals(Block.AIR, instance.getBlock(1, 30, 1));
+        assertEquals(Block.AIR, instance.getBlock(20, 39, 1));
+        // One packet per section: two sections in the first chunk, one in the second
+        assertEquals(3, changes.collect().size());
+        blockChanges.assertEmpty();
+    }
+}
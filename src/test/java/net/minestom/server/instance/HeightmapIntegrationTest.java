@@ -0,0 +1,74 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.instance.batch.BulkBlockBatch;
+import net.minestom.server.instance.block.Block;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@EnvTest
+public class HeightmapIntegrationTest {
+
+    @Test
+    public void generated(Env env) {
+        var instance = env.createFlatInstance();
+        instance.loadChunk(0, 0).join();
+        assertEquals(39, instance.getHighestBlockY(Heightmap.Type.WORLD_SURFACE, 0, 0));
+        assertEquals(39, instance.getHighestBlockY(Heightmap.Type.MOTION_BLOCKING, 15, 15));
+    }
+
+    @Test
+    public void incrementalUpdate(Env env) {
+        var instance = env.createFlatInstance();
+        instance.loadChunk(0, 0).join();
+        assertEquals(39, instance.getHighestBlockY(Heightmap.Type.WORLD_SURFACE, 5, 5));
+
+        instance.setBlock(5, 60, 5, Block.STONE);
+        assertEquals(60, instance.getHighestBlockY(Heightmap.Type.WORLD_SURFACE, 5, 5));
+        assertEquals(60, instance.getHighestBlockY(Heightmap.Type.MOTION_BLOCKING, 5, 5));
+        // Other columns are not affected
+        assertEquals(39, instance.getHighestBlockY(Heightmap.Type.WORLD_SURFACE, 5, 6));
+
+        // Non-solid blocks only count for the surface
+        instance.setBlock(5, 61, 5, Block.DANDELION);
+        assertEquals(61, instance.getHighestBlockY(Heightmap.Type.WORLD_SURFACE, 5, 5));
+        assertEquals(60, instance.getHighestBlockY(Heightmap.Type.MOTION_BLOCKING, 5, 5));
+
+        // Removing the highest block goes back to the next one
+        instance.setBlock(5, 61, 5, Block.AIR);
+        instance.setBlock(5, 60, 5, Block.AIR);
+        assertEquals(39, instance.getHighestBlockY(Heightmap.Type.WORLD_SURFACE, 5, 5));
+        assertEquals(39, instance.getHighestBlockY(Heightmap.Type.MOTION_BLOCKING, 5, 5));
+
+        // Removing a block below the highest one keeps the height
+        instance.setBlock(5, 20, 5, Block.AIR);
+        assertEquals(39, instance.getHighestBlockY(Heightmap.Type.WORLD_SURFACE, 5, 5));
+    }
+
+    @Test
+    public void emptyColumn(Env env) {
+        var instance = env.createFlatInstance();
+        instance.loadChunk(0, 0).join();
+        final int minY = instance.getDimensionType().getMinY();
+        for (int y = minY; y < 40; y++) instance.setBlock(3, y, 3, Block.AIR);
+        assertEquals(minY - 1, instance.getHighestBlockY(Heightmap.Type.WORLD_SURFACE, 3, 3));
+    }
+
+    @Test
+    public void bulkBatch(Env env) {
+        var instance = env.createFlatInstance();
+        instance.loadChunk(0, 0).join();
+        assertEquals(39, instance.getHighestBlockY(Heightmap.Type.WORLD_SURFACE, 2, 2));
+
+        BulkBlockBatch batch = new BulkBlockBatch();
+        batch.setBlock(2, 50, 2, Block.STONE);
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        batch.unsafeApply(instance, () -> future.complete(null));
+        future.join();
+        assertEquals(50, instance.getHighestBlockY(Heightmap.Type.WORLD_SURFACE, 2, 2));
+    }
+}
@@ -2,13 +2,25 @@ package net.minestom.server.instance;
 
 import net.minestom.testing.Env;
 import net.minestom.testing.EnvTest;
+import net.minestom.server.coordinate.Point;
 import net.minestom.server.coordinate.Vec;
 import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.block.BlockHandler;
 import net.minestom.server.tag.Tag;
+import net.minestom.server.utils.NamespaceID;
+import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @EnvTest
 public class InstanceBlockIntegrationTest {
@@ -73,4 +85,116 @@ public class InstanceBlockIntegrationTest {
         instance.setBlock(point, Block.GRASS.withTag(tag, 8));
         assertEquals(8, instance.getBlock(point).getTag(tag));
     }
+
+    @Test
+    public void tickableHandler(Env env) {
+        var instance = env.createFlatInstance();
+        instance.loadChunk(0, 0).join();
+
+        List<Point> ticked = new ArrayList<>();
+        List<Integer> bulkSizes = new ArrayList<>();
+        var handler = new BlockHandler() {
+            @Override
+            public void tick(@NotNull Tick tick) {
+                ticked.add(tick.getBlockPosition());
+            }
+
+            @Override
+            public void tick(@NotNull BulkTick tick) {
+                bulkSizes.add(tick.size());
+                BlockHandler.super.tick(tick);
+            }
+
+            @Override
+            public boolean isTickable() {
+                return true;
+            }
+
+            @Override
+            public @NotNull NamespaceID getNamespaceId() {
+                return NamespaceID.from("minestom:test");
+            }
+        };
+        instance.setBlock(0, 50, 0, Block.STONE.withHandler(handler));
+        instance.setBlock(1, 51, 2, Block.STONE.withHandler(handler));
+        instance.setBlock(3, 10, 4, Block.STONE.withHandler(handler));
+
+        var chunk = instance.getChunk(0, 0);
+        chunk.tick(0);
+        assertEquals(List.of(2, 1), bulkSizes.stream().sorted(Comparator.reverseOrder()).toList());
+        assertEquals(Set.of(new Vec(0, 50, 0), new Vec(1, 51, 2), new Vec(3, 10, 4)), Set.copyOf(ticked));
+
+        // Replaced blocks are not ticked anymore
+        ticked.clear();
+        instance.setBlock(0, 50, 0, Block.STONE);
+        instance.setBlock(3, 10, 4, Block.GRASS);
+        chunk.tick(0);
+        assertEquals(List.of(new Vec(1, 51, 2)), ticked);
+    }
+
+    @Test
+    public void tickableHandlerSelfReplace(Env env) {
+        var instance = env.createFlatInstance();
+        instance.loadChunk(0, 0).join();
+
+        Map<Point, Integer> ticked = new HashMap<>();
+        var growing = new BlockHandler() {
+            @Override
+            public void tick(@NotNull Tick tick) {
+                ticked.merge(tick.getBlockPosition(), 1, Integer::sum);
+                // Advance the age, keeping the same handler
+                final Block block = tick.getBlock();
+                final int age = Integer.parseInt(block.getProperty("age"));
+                instance.setBlock(tick.getBlockPosition(), block.withProperty("age", String.valueOf(age + 1)));
+            }
+
+            @Override
+            public boolean isTickable() {
+                return true;
+            }
+
+            @Override
+            public @NotNull NamespaceID getNamespaceId() {
+                return NamespaceID.from("minestom:growing");
+            }
+        };
+        var decaying = new BlockHandler() {
+            @Override
+            public void tick(@NotNull Tick tick) {
+                ticked.merge(tick.getBlockPosition(), 1, Integer::sum);
+                // Remove the handler, emptying its group
+                instance.setBlock(tick.getBlockPosition(), Block.STONE);
+            }
+
+            @Override
+            public boolean isTickable() {
+                return true;
+            }
+
+            @Override
+            public @NotNull NamespaceID getNamespaceId() {
+                return NamespaceID.from("minestom:decaying");
+            }
+        };
+        instance.setBlock(0, 50, 0, Block.WHEAT.withHandler(growing));
+        instance.setBlock(1, 50, 0, Block.WHEAT.withHandler(growing));
+        instance.setBlock(2, 50, 0, Block.WHEAT.withHandler(growing));
+        instance.setBlock(3, 50, 0, Block.STONE.withHandler(decaying));
+        instance.setBlock(4, 50, 0, Block.WHEAT.withHandler(growing));
+
+        var chunk = instance.getChunk(0, 0);
+        chunk.tick(0);
+        assertEquals(Map.of(new Vec(0, 50, 0), 1, new Vec(1, 50, 0), 1, new Vec(2, 50, 0), 1,
+                new Vec(3, 50, 0), 1, new Vec(4, 50, 0), 1), ticked);
+        assertEquals("1", instance.getBlock(2, 50, 0).getProperty("age"));
+        assertEquals(growing, instance.getBlock(2, 50, 0).handler());
+        assertEquals(Block.STONE, instance.getBlock(3, 50, 0));
+
+        // The replaced blocks are ticked with their new state, the removed one is gone
+        ticked.clear();
+        chunk.tick(0);
+        assertEquals(4, ticked.size());
+        assertTrue(ticked.values().stream().allMatch(count -> count == 1));
+        assertEquals("2", instance.getBlock(0, 50, 0).getProperty("age"));
+    }
 }
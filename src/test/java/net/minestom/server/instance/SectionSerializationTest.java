@@ -0,0 +1,53 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.network.NetworkBuffer;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SectionSerializationTest {
+
+    @Test
+    public void cached() {
+        var section = new Section();
+        section.blockPalette().set(0, 0, 0, 1);
+        byte[] data = section.data();
+        assertSame(data, section.data());
+        assertArrayEquals(data, NetworkBuffer.makeArray(buffer -> buffer.write(section)));
+    }
+
+    @Test
+    public void blockInvalidation() {
+        var section = new Section();
+        byte[] empty = section.data();
+        section.blockPalette().set(1, 2, 3, 5);
+        byte[] data = section.data();
+        assertNotSame(empty, data);
+
+        var expected = new Section();
+        expected.blockPalette().set(1, 2, 3, 5);
+        assertArrayEquals(expected.data(), data);
+    }
+
+    @Test
+    public void biomeInvalidation() {
+        var section = new Section();
+        byte[] empty = section.data();
+        section.biomePalette().fill(2);
+        assertNotSame(empty, section.data());
+        assertSame(section.data(), section.data());
+    }
+
+    @Test
+    public void cloneIndependent() {
+        var section = new Section();
+        section.blockPalette().set(0, 0, 0, 1);
+        byte[] data = section.data();
+        var clone = section.clone();
+        clone.blockPalette().set(0, 0, 0, 2);
+        assertSame(data, section.data());
+        assertFalse(Arrays.equals(data, clone.data()));
+    }
+}
@@ -0,0 +1,137 @@
+package net.minestom.server.instance.batch;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.block.BlockHandler;
+import net.minestom.server.network.packet.server.play.ChunkDataPacket;
+import net.minestom.server.utils.NamespaceID;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class BulkBlockBatchIntegrationTest {
+
+    @Test
+    public void mixedBlocks(Env env) {
+        var instance = env.createFlatInstance();
+        var connection = env.createConnection();
+        connection.connect(instance, new Pos(0, 40, 0)).join();
+
+        var handler = new CountingHandler();
+        instance.setBlock(2, 41, 2, Block.STONE.withHandler(handler));
+        assertEquals(1, handler.placed.get());
+
+        var batch = new BulkBlockBatch();
+        batch.setBlock(0, 41, 0, Block.STONE);
+        batch.setBlock(1, 41, 0, Block.GOLD_BLOCK.withHandler(handler));
+        // Same state as the current block, the handler must still be removed
+        batch.setBlock(2, 41, 2, Block.STONE);
+        batch.setBlock(20, 41, 0, Block.DIAMOND_BLOCK);
+
+        var tracker = connection.trackIncoming(ChunkDataPacket.class);
+        apply(batch, instance);
+
+        assertEquals(Block.STONE, instance.getBlock(0, 41, 0));
+        assertEquals(Block.GOLD_BLOCK.withHandler(handler), instance.getBlock(1, 41, 0));
+        assertEquals(Block.STONE, instance.getBlock(2, 41, 2));
+        assertNull(instance.getBlock(2, 41, 2).handler());
+        assertEquals(Block.DIAMOND_BLOCK, instance.getBlock(20, 41, 0));
+        assertEquals(Block.STONE, instance.getBlock(3, 39, 3), "untouched blocks must be kept");
+        assertEquals(2, handler.placed.get());
+        assertEquals(1, handler.destroyed.get());
+
+        // Each modified chunk is sent once
+        var chunks = tracker.collect();
+        assertEquals(2, chunks.size());
+        assertEquals(Set.of(new Pos(0, 0, 0), new Pos(1, 0, 0)),
+                chunks.stream().map(packet -> new Pos(packet.chunkX(), 0, packet.chunkZ())).collect(Collectors.toSet()));
+    }
+
+    @Test
+    public void inverse(Env env) {
+        var instance = env.createFlatInstance();
+        instance.loadChunk(0, 0).join();
+
+        var handler = new CountingHandler();
+        instance.setBlock(3, 41, 3, Block.STONE.withHandler(handler));
+
+        var batch = new BulkBlockBatch(new BatchOption().setCalculateInverse(true));
+        batch.setBlock(0, 41, 0, Block.GOLD_BLOCK);
+        batch.setBlock(3, 41, 3, Block.DIAMOND_BLOCK);
+        batch.setBlock(4, 39, 4, Block.AIR);
+        var inverse = apply(batch, instance);
+        assertNotNull(inverse);
+        assertTrue(inverse.isReady());
+
+        assertEquals(Block.GOLD_BLOCK, instance.getBlock(0, 41, 0));
+        assertEquals(Block.DIAMOND_BLOCK, instance.getBlock(3, 41, 3));
+        assertEquals(Block.AIR, instance.getBlock(4, 39, 4));
+        assertEquals(1, handler.destroyed.get());
+
+        apply(inverse, instance);
+        assertEquals(Block.AIR, instance.getBlock(0, 41, 0));
+        assertEquals(Block.STONE.withHandler(handler), instance.getBlock(3, 41, 3));
+        assertEquals(Block.STONE, instance.getBlock(4, 39, 4));
+        assertEquals(2, handler.placed.get());
+    }
+
+    @Test
+    public void fullChunk(Env env) {
+        var instance = env.createFlatInstance();
+        instance.loadChunk(0, 0).join();
+        instance.loadChunk(1, 0).join();
+        instance.setBlock(5, 41, 5, Block.STONE);
+
+        var batch = new BulkBlockBatch(new BatchOption().setFullChunk(true));
+        batch.setBlock(0, 41, 0, Block.GOLD_BLOCK);
+        apply(batch, instance);
+
+        assertEquals(Block.GOLD_BLOCK, instance.getBlock(0, 41, 0));
+        assertEquals(Block.AIR, instance.getBlock(5, 41, 5));
+        assertEquals(Block.AIR, instance.getBlock(5, 39, 5), "full chunk batches replace the whole chunk");
+        // Chunks outside the batch are not affected
+        assertEquals(Block.STONE, instance.getBlock(16, 39, 0));
+    }
+
+    private static BulkBlockBatch apply(BulkBlockBatch batch, Instance instance) {
+        CountDownLatch latch = new CountDownLatch(1);
+        var inverse = batch.unsafeApply(instance, latch::countDown);
+        try {
+            assertTrue(latch.await(10, TimeUnit.SECONDS), "batch was not applied");
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+        return inverse;
+    }
+
+    private static final class CountingHandler implements BlockHandler {
+        final AtomicInteger placed = new AtomicInteger();
+        final AtomicInteger destroyed = new AtomicInteger();
+
+        @Override
+        public void onPlace(@NotNull Placement placement) {
+            placed.incrementAndGet();
+        }
+
+        @Override
+        public void onDestroy(@NotNull Destroy destroy) {
+            destroyed.incrementAndGet();
+        }
+
+        @Override
+        public @NotNull NamespaceID getNamespaceId() {
+            return NamespaceID.from("minestom:counting");
+        }
+    }
+}
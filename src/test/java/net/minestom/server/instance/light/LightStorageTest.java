@@ -0,0 +1,73 @@
+package net.minestom.server.instance.light;
+
+import net.minestom.server.instance.Section;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.palette.Palette;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LightStorageTest {
+
+    @Test
+    public void uniformShared() {
+        byte[] dark = new byte[LightCompute.LIGHT_LENGTH];
+        assertSame(LightCompute.emptyContent, LightCompute.deduplicate(dark));
+
+        byte[] full = new byte[LightCompute.LIGHT_LENGTH];
+        Arrays.fill(full, (byte) -1);
+        assertSame(LightCompute.contentFullyLit, LightCompute.deduplicate(full));
+
+        byte[] varying = new byte[LightCompute.LIGHT_LENGTH];
+        varying[100] = 0x0F;
+        assertSame(varying, LightCompute.deduplicate(varying));
+    }
+
+    @Test
+    public void loadedUniform() {
+        var section = new Section();
+        byte[] full = new byte[LightCompute.LIGHT_LENGTH];
+        Arrays.fill(full, (byte) -1);
+        section.setSkyLight(full);
+        section.setBlockLight(new byte[LightCompute.LIGHT_LENGTH]);
+        assertSame(LightCompute.contentFullyLit, section.skyLight().array());
+        assertEquals(15, section.skyLight().getLevel(3, 4, 5));
+        assertEquals(0, section.blockLight().getLevel(3, 4, 5));
+    }
+
+    @Test
+    public void bake() {
+        byte[] varying = new byte[LightCompute.LIGHT_LENGTH];
+        varying[0] = 0x21;
+        assertSame(varying, LightCompute.bake(LightCompute.emptyContent, varying));
+        assertSame(varying, LightCompute.bake(varying, null));
+        assertSame(LightCompute.contentFullyLit, LightCompute.bake(varying, LightCompute.contentFullyLit));
+
+        byte[] other = new byte[LightCompute.LIGHT_LENGTH];
+        other[0] = 0x12;
+        byte[] baked = LightCompute.bake(varying, other);
+        assertEquals(0x22, baked[0]);
+    }
+
+    @Test
+    public void cloneShares() {
+        var section = new Section();
+        section.blockPalette().set(0, 0, 0, Block.GLOWSTONE.stateId());
+        byte[] light = LightCompute.compute(section.blockPalette()).light();
+        section.setBlockLight(light);
+
+        var clone = section.clone();
+        assertSame(section.blockLight().array(), clone.blockLight().array());
+        assertEquals(15, clone.blockLight().getLevel(0, 0, 0));
+        assertEquals(14, clone.blockLight().getLevel(1, 0, 0));
+    }
+
+    @Test
+    public void computedDark() {
+        var palette = Palette.blocks();
+        palette.set(0, 0, 0, Block.STONE.stateId());
+        assertSame(LightCompute.emptyContent, LightCompute.compute(palette).light());
+    }
+}
@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Test;
 import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class PaletteOptimizationTest {
@@ -44,6 +45,49 @@ public class PaletteOptimizationTest {
         paletteEquals(palette.palette, palette.optimizedPalette());
     }
 
+    @Test
+    public void directPromotion() {
+        var palette = createPalette();
+        int value = 1;
+        for (int y = 0; y < 16; y++) {
+            for (int z = 0; z < 16; z++) {
+                for (int x = 0; x < 2; x++) {
+                    palette.set(x, y, z, value++);
+                }
+            }
+        }
+        assertInstanceOf(DirectPalette.class, palette.palette);
+        assertEquals(512, palette.count());
+        assertEquals(1, palette.get(0, 0, 0));
+        assertEquals(512, palette.get(1, 15, 15));
+        paletteEquals(palette.palette, palette.optimizedPalette());
+    }
+
+    @Test
+    public void directBulk() {
+        var palette = createPalette();
+        palette.setAll((x, y, z) -> y << 8 | z << 4 | x);
+        assertInstanceOf(DirectPalette.class, palette.palette);
+        assertEquals(4095, palette.count());
+        paletteEquals(palette.palette, palette.optimizedPalette());
+
+        palette.setAll((x, y, z) -> x);
+        assertInstanceOf(FlexiblePalette.class, palette.palette);
+        assertEquals(4, palette.bitsPerEntry());
+    }
+
+    @Test
+    public void directDemotion() {
+        var palette = createPalette();
+        palette.setAll((x, y, z) -> y << 8 | z << 4 | x);
+        palette.replaceAll((x, y, z, value) -> z);
+        assertInstanceOf(DirectPalette.class, palette.palette);
+        assertEquals(3840, palette.count());
+        var optimized = palette.optimizedPalette();
+        assertInstanceOf(FlexiblePalette.class, optimized);
+        paletteEquals(palette.palette, optimized);
+    }
+
     AdaptivePalette createPalette() {
         return (AdaptivePalette) Palette.blocks();
     }
@@ -7,6 +7,7 @@ import org.junit.jupiter.api.Test;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -209,6 +210,54 @@ public class PaletteTest {
         }
     }
 
+    @Test
+    public void bulkArray() {
+        var palettes = testPalettes();
+        for (Palette palette : palettes) {
+            final int dimension = palette.dimension();
+            int[] values = new int[palette.maxSize()];
+            palette.getAll(values);
+            for (int value : values) assertEquals(0, value);
+
+            for (int i = 0; i < values.length; i++) values[i] = i % 7;
+            palette.setAll(values);
+            assertEquals(values.length - (values.length + 6) / 7, palette.count());
+            palette.getAll((x, y, z, value) -> assertEquals(((y * dimension + z) * dimension + x) % 7, value));
+
+            int[] result = new int[palette.maxSize()];
+            palette.getAll(result);
+            assertArrayEquals(values, result);
+
+            palette.fill(3);
+            palette.getAll(result);
+            for (int value : result) assertEquals(3, value);
+        }
+    }
+
+    @Test
+    public void bulkArrayDirect() {
+        // More values than the palette can index
+        var palette = Palette.newPalette(16, 5, 3);
+        int[] values = new int[palette.maxSize()];
+        for (int i = 0; i < values.length; i++) values[i] = i + 1;
+        palette.setAll(values);
+        int[] result = new int[palette.maxSize()];
+        palette.getAll(result);
+        assertArrayEquals(values, result);
+        assertEquals(5, palette.get(4, 0, 0));
+    }
+
+    @Test
+    public void replaceAllPartial() {
+        var palettes = testPalettes();
+        for (Palette palette : palettes) {
+            palette.setAll((x, y, z) -> x + 10);
+            // Only change some entries, the others must keep their values
+            palette.replaceAll((x, y, z, value) -> y == 0 ? value + 1 : value);
+            palette.getAll((x, y, z, value) -> assertEquals(y == 0 ? x + 11 : x + 10, value));
+        }
+    }
+
     @Test
     public void setAllConstant() {
         var palettes = testPalettes();
@@ -285,6 +334,58 @@ public class PaletteTest {
         assertDoesNotThrow(() -> Palette.newPalette(16, 5, 3));
     }
 
+    @Test
+    public void optimisticRead() {
+        for (Palette palette : testPalettes()) {
+            assertEquals(0, palette.getOptimistic(0, 0, 0));
+            palette.set(0, 0, 1, 5);
+            palette.set(1, 1, 1, 30);
+            assertEquals(5, palette.getOptimistic(0, 0, 1));
+            assertEquals(30, palette.getOptimistic(1, 1, 1));
+            palette.fill(3);
+            assertEquals(3, palette.getOptimistic(1, 1, 1));
+            palette.replaceAll((x, y, z, value) -> x + 1);
+            assertEquals(2, palette.getOptimistic(1, 0, 0));
+        }
+    }
+
+    @Test
+    public void optimisticReadConcurrent() throws InterruptedException {
+        // Single writer, standing for the chunk lock
+        var palette = Palette.blocks();
+        final int dimension = palette.dimension();
+        final int rounds = 200;
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread writer = new Thread(() -> {
+            for (int round = 0; round < rounds; round++) {
+                final int value = round % 2 + 1;
+                for (int y = 0; y < dimension; y++)
+                    for (int z = 0; z < dimension; z++)
+                        for (int x = 0; x < dimension; x++)
+                            palette.set(x, y, z, value);
+                // Switch backends, from indexed to direct values
+                palette.setAll((x, y, z) -> 3 + (y << 8 | z << 4 | x));
+                palette.fill(value);
+            }
+            running.set(false);
+        });
+        writer.start();
+        int reads = 0;
+        int index = 0;
+        while (running.get()) {
+            final int x = index & 0xF, z = index >> 4 & 0xF, y = index >> 8 & 0xF;
+            final int value = palette.getOptimistic(x, y, z);
+            // Consistent reads can only return a written value
+            if (value != -1) {
+                assertTrue(value <= 2 || value == 3 + (y << 8 | z << 4 | x), "Torn read: " + value);
+                reads++;
+            }
+            index = (index + 7) & 0xFFF;
+        }
+        writer.join();
+        assertTrue(reads > 0);
+    }
+
     private static List<Palette> testPalettes() {
         return List.of(
                 Palette.newPalette(2, 5, 3),
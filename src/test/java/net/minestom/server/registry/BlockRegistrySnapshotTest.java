@@ -0,0 +1,165 @@
+package net.minestom.server.registry;
+
+import net.minestom.server.utils.block.BlockUtils;
+import net.minestom.server.utils.collection.MergedMap;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BlockRegistrySnapshotTest {
+    private static final long SOURCE_HASH = 0x12345678L;
+
+    @Test
+    public void read() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(BlockRegistrySnapshot.MAGIC);
+        out.writeInt(BlockRegistrySnapshot.VERSION);
+        out.writeLong(SOURCE_HASH);
+        final String[] strings = {"minecraft:lever", "powered", "true", "false", "block.minecraft.lever", "[]", "minecraft:lever_item"};
+        out.writeInt(strings.length);
+        for (String string : strings) {
+            final byte[] stringBytes = string.getBytes(StandardCharsets.UTF_8);
+            out.writeShort(stringBytes.length);
+            out.write(stringBytes);
+        }
+        out.writeInt(1); // Block count
+        out.writeInt(0); // Namespace
+        out.writeInt(42); // Id
+        out.writeInt(101); // Default state
+        out.writeByte(1); // Property count
+        out.writeInt(1);
+        out.writeByte(2);
+        out.writeInt(2);
+        out.writeInt(3);
+        out.writeInt(2); // State count
+        for (int i = 0; i < 2; i++) {
+            out.writeByte(i);
+            out.writeInt(100 + i);
+            out.writeInt(4);
+            out.writeDouble(0.5);
+            out.writeDouble(0.5);
+            out.writeDouble(0.6);
+            out.writeDouble(1);
+            out.writeDouble(1);
+            out.writeByte(i == 0 ? BlockRegistrySnapshot.FLAG_REPLACEABLE : BlockRegistrySnapshot.FLAG_OCCLUDES);
+            out.writeInt(i == 0 ? 9 : 0);
+            out.writeInt(-1);
+            out.writeInt(0);
+            out.writeInt(6);
+            out.writeInt(5);
+            out.writeInt(5);
+        }
+
+        assertNull(BlockRegistrySnapshot.read(ByteBuffer.wrap(bytes.toByteArray()), SOURCE_HASH + 1),
+                "snapshot generated from another blocks.json must be rejected");
+        var blocks = BlockRegistrySnapshot.read(ByteBuffer.wrap(bytes.toByteArray()), SOURCE_HASH);
+        assertNotNull(blocks);
+        assertEquals(1, blocks.length);
+        var block = blocks[0];
+        assertEquals("minecraft:lever", block.namespace());
+        assertEquals(42, block.id());
+        assertEquals(101, block.defaultStateId());
+        assertArrayEquals(new String[]{"powered"}, block.propertyKeys());
+        assertArrayEquals(new String[]{"true", "false"}, block.propertyValues()[0]);
+        assertEquals(2, block.states().length);
+
+        var powered = block.states()[0];
+        assertArrayEquals(new byte[]{0}, powered.properties());
+        assertEquals(100, powered.entry().stateId());
+        assertEquals("block.minecraft.lever", powered.entry().translationKey());
+        assertEquals(0.6, powered.entry().friction());
+        assertEquals(9, powered.entry().lightEmission());
+        assertTrue(powered.entry().isReplaceable());
+        assertFalse(powered.entry().occludes());
+        assertFalse(powered.entry().isBlockEntity());
+
+        var unpowered = block.states()[1];
+        assertEquals(101, unpowered.entry().stateId());
+        assertTrue(unpowered.entry().occludes());
+        assertFalse(unpowered.entry().isSolid());
+    }
+
+    @Test
+    public void unknownVersion() {
+        var buffer = ByteBuffer.allocate(16).putInt(BlockRegistrySnapshot.MAGIC).putInt(-1).flip();
+        assertNull(BlockRegistrySnapshot.read(buffer, SOURCE_HASH));
+    }
+
+    @Test
+    public void sourceHash() throws IOException {
+        final var source = BlockRegistrySnapshot.class.getClassLoader().getResource(BlockRegistrySnapshot.SOURCE);
+        assertNotNull(source);
+        try (var stream = source.openStream()) {
+            assertEquals(BlockRegistrySnapshot.sourceHash(stream), BlockRegistrySnapshot.sourceHash(source),
+                    "the stored CRC32 must match the content of blocks.json");
+        }
+    }
+
+    @Test
+    public void matchesJson() {
+        var snapshot = BlockRegistrySnapshot.load();
+        assertNotNull(snapshot, "blocks.bin is missing or was generated from another blocks.json");
+        var json = Registry.load(Registry.Resource.BLOCKS);
+        assertEquals(json.size(), snapshot.length);
+        for (var block : snapshot) {
+            final Map<String, Object> blockObject = json.get(block.namespace());
+            assertNotNull(blockObject, block.namespace());
+            assertEquals(((Number) blockObject.get("id")).intValue(), block.id());
+            assertEquals(((Number) blockObject.get("defaultStateId")).intValue(), block.defaultStateId());
+
+            // Property order defines the property indexes and must be the one of the JSON registry
+            final var properties = (Map<String, Object>) blockObject.getOrDefault("properties", Map.of());
+            assertEquals(List.copyOf(properties.keySet()), List.of(block.propertyKeys()), block.namespace());
+            for (int i = 0; i < block.propertyKeys().length; i++) {
+                assertEquals(properties.get(block.propertyKeys()[i]), List.of(block.propertyValues()[i]));
+            }
+
+            final var states = (Map<String, Object>) blockObject.get("states");
+            assertEquals(states.size(), block.states().length);
+            int index = 0;
+            for (var stateEntry : states.entrySet()) {
+                final var state = block.states()[index++];
+                final Map<String, String> query = BlockUtils.parseProperties(stateEntry.getKey());
+                for (int i = 0; i < block.propertyKeys().length; i++) {
+                    assertEquals(query.get(block.propertyKeys()[i]), block.propertyValues()[i][state.properties()[i]]);
+                }
+                final var expected = Registry.block(block.namespace(), Registry.Properties.fromMap(
+                        new MergedMap<>((Map<String, Object>) stateEntry.getValue(), blockObject)));
+                assertEntry(expected, state.entry());
+            }
+        }
+    }
+
+    private static void assertEntry(Registry.BlockEntry expected, Registry.BlockEntry actual) {
+        final String message = "state " + expected.stateId();
+        assertEquals(expected.namespace(), actual.namespace(), message);
+        assertEquals(expected.id(), actual.id(), message);
+        assertEquals(expected.stateId(), actual.stateId(), message);
+        assertEquals(expected.translationKey(), actual.translationKey(), message);
+        assertEquals(expected.hardness(), actual.hardness(), message);
+        assertEquals(expected.explosionResistance(), actual.explosionResistance(), message);
+        assertEquals(expected.friction(), actual.friction(), message);
+        assertEquals(expected.speedFactor(), actual.speedFactor(), message);
+        assertEquals(expected.jumpFactor(), actual.jumpFactor(), message);
+        assertEquals(expected.isAir(), actual.isAir(), message);
+        assertEquals(expected.isSolid(), actual.isSolid(), message);
+        assertEquals(expected.isLiquid(), actual.isLiquid(), message);
+        assertEquals(expected.occludes(), actual.occludes(), message);
+        assertEquals(expected.lightEmission(), actual.lightEmission(), message);
+        assertEquals(expected.isReplaceable(), actual.isReplaceable(), message);
+        assertEquals(expected.blockEntity(), actual.blockEntity(), message);
+        assertEquals(expected.blockEntityId(), actual.blockEntityId(), message);
+        assertEquals(expected.material(), actual.material(), message);
+        assertEquals(expected.collisionShape().relativeStart(), actual.collisionShape().relativeStart(), message);
+        assertEquals(expected.collisionShape().relativeEnd(), actual.collisionShape().relativeEnd(), message);
+    }
+}
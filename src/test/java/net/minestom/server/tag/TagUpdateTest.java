@@ -3,6 +3,8 @@ package net.minestom.server.tag;
 import net.minestom.server.coordinate.Vec;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static net.minestom.testing.TestUtils.assertEqualsSNBT;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -215,4 +217,66 @@ public class TagUpdateTest {
         assertEquals(7d, handler.getTag(tagX));
         assertEquals(new Vec(7, 10, 15), handler.getTag(tag));
     }
+
+    @Test
+    public void updateConcurrent() throws InterruptedException {
+        var tag = Tag.Integer("coin").defaultValue(0);
+        var handler = TagHandler.newHandler();
+        handler.setTag(tag, 0);
+        final int threads = 4, increments = 10_000;
+        Thread[] workers = new Thread[threads];
+        for (int i = 0; i < threads; i++) {
+            workers[i] = new Thread(() -> {
+                for (int j = 0; j < increments; j++) handler.updateTag(tag, value -> value + 1);
+            });
+            workers[i].start();
+        }
+        for (Thread worker : workers) worker.join();
+        assertEquals(threads * increments, handler.getTag(tag));
+        assertEqualsSNBT("{\"coin\":" + threads * increments + "}", handler.asCompound());
+    }
+
+    @Test
+    public void updateConcurrentRemoval() throws InterruptedException {
+        // Absent tag counts as 0, reaching 0 removes it
+        var tag = Tag.Integer("coin");
+        var handler = TagHandler.newHandler();
+        final int threads = 4, operations = 10_000;
+        AtomicInteger decrements = new AtomicInteger();
+        Thread[] workers = new Thread[threads];
+        for (int i = 0; i < threads; i++) {
+            final boolean increment = i % 2 == 0;
+            workers[i] = new Thread(() -> {
+                for (int j = 0; j < operations; j++) {
+                    if (increment) {
+                        handler.updateTag(tag, value -> value == null ? 1 : value + 1);
+                    } else {
+                        final Integer previous = handler.getAndUpdateTag(tag,
+                                value -> value == null || value == 1 ? null : value - 1);
+                        if (previous != null) decrements.incrementAndGet();
+                    }
+                }
+            });
+            workers[i].start();
+        }
+        for (Thread worker : workers) worker.join();
+        final int expected = threads / 2 * operations - decrements.get();
+        final Integer result = handler.getTag(tag);
+        assertEquals(expected, result != null ? result : 0);
+        if (expected == 0) {
+            assertEqualsSNBT("{}", handler.asCompound());
+        } else {
+            assertEqualsSNBT("{\"coin\":" + expected + "}", handler.asCompound());
+        }
+    }
+
+    @Test
+    public void updateInvalidatesCompound() {
+        var tag = Tag.Integer("coin").path("path");
+        var handler = TagHandler.newHandler();
+        handler.setTag(tag, 5);
+        assertEqualsSNBT("{\"path\":{\"coin\":5}}", handler.asCompound());
+        handler.updateTag(tag, value -> value + 1);
+        assertEqualsSNBT("{\"path\":{\"coin\":6}}", handler.asCompound());
+    }
 }
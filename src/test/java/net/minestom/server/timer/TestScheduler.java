@@ -4,6 +4,8 @@ import org.junit.jupiter.api.Test;
 
 import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -25,6 +27,35 @@ public class TestScheduler {
         assertFalse(task.isAlive(), "Tick task should be cancelled after execution");
     }
 
+    @Test
+    public void longTickTasks() {
+        Scheduler scheduler = Scheduler.newScheduler();
+        final int[] delays = {1, 63, 64, 65, 4095, 4096, 4097, 100_000, 300_000};
+        final int[] executionTicks = new int[delays.length];
+        final int[] currentTick = {0};
+        final Task[] tasks = new Task[delays.length];
+        for (int i = 0; i < delays.length; i++) {
+            final int index = i;
+            tasks[i] = scheduler.buildTask(() -> {
+                        assertEquals(0, executionTicks[index], "Task should only be executed once");
+                        executionTicks[index] = currentTick[0];
+                    })
+                    .delay(TaskSchedule.tick(delays[i]))
+                    .schedule();
+        }
+        Task cancelled = scheduler.buildTask(() -> fail("Cancelled task should not be executed"))
+                .delay(TaskSchedule.tick(5000))
+                .schedule();
+        cancelled.cancel();
+
+        for (int tick = 1; tick <= 300_000; tick++) {
+            currentTick[0] = tick;
+            scheduler.processTick();
+        }
+        assertArrayEquals(delays, executionTicks);
+        for (Task task : tasks) assertFalse(task.isAlive());
+    }
+
     @Test
     public void durationTask() throws InterruptedException {
         Scheduler scheduler = Scheduler.newScheduler();
@@ -139,4 +170,21 @@ public class TestScheduler {
         Thread.sleep(250);
         assertTrue(result.get(), "Async task didn't get executed");
     }
+
+    @Test
+    public void virtualTask() throws InterruptedException {
+        final Thread currentThread = Thread.currentThread();
+        Scheduler scheduler = Scheduler.newScheduler();
+        CountDownLatch latch = new CountDownLatch(1);
+        scheduler.buildTask(() -> {
+                    assertNotEquals(currentThread, Thread.currentThread(),
+                            "Task should be executed in a different thread");
+                    latch.countDown();
+                })
+                .executionType(ExecutionType.VIRTUAL)
+                .schedule();
+        assertEquals(1, latch.getCount(), "Virtual task should only be executed after process()");
+        scheduler.process();
+        assertTrue(latch.await(5, TimeUnit.SECONDS), "Virtual task didn't get executed");
+    }
 }